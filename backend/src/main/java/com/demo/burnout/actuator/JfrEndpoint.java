@@ -0,0 +1,183 @@
+package com.demo.burnout.actuator;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * On-demand JFR recording of the burnout.* events (issue sync, analysis stages, view reads,
+ * LLM calls) plus the JDK's own.
+ *
+ * POST /actuator/jfr {"settings": "profile", "duration": "PT2M", "maxSize": "32MB"} starts one,
+ * DELETE /actuator/jfr stops it, GET /actuator/jfr shows its state and
+ * GET /actuator/jfr/recording downloads it (running or stopped). Duration and size are capped
+ * by burnout.jfr.max-duration / max-size so a forgotten recording cannot fill the disk.
+ * Only one recording exists at a time; starting one while another runs is refused with 409.
+ * Settings other than {@link #SETTINGS} and malformed or non-positive durations and sizes
+ * are rejected with 400.
+ *
+ * The JDK presets record the process environment, system properties, security properties
+ * and JVM arguments, which hold the cluster secret and the Azure OpenAI key; those events
+ * are always switched off ({@link #SUPPRESSED}). Every request must carry the operator
+ * secret (burnout.jfr.operator-secret) in {@value #OPERATOR_HEADER}, checked in
+ * SecurityConfig; without one configured the endpoint refuses everything.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrEndpoint {
+
+    public static final String OPERATOR_HEADER = "X-Operator-Secret";
+
+    /** JDK presets a recording may start from. */
+    static final List<String> SETTINGS = List.of("default", "profile");
+
+    /** Events that would put secrets into the recording. */
+    static final List<String> SUPPRESSED = List.of(
+        "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.InitialSecurityProperty",
+        "jdk.JVMInformation");
+
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private Recording recording;
+
+    public JfrEndpoint(@Value("${burnout.jfr.max-duration:PT10M}") Duration maxDuration,
+                       @Value("${burnout.jfr.max-size:64MB}") DataSize maxSize) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<RecordingStatus> start(@Nullable String settings, @Nullable String duration,
+                                                                   @Nullable String maxSize) {
+        Map<String, String> configuration = settings(settings != null ? settings : "default");
+        Duration length = min(duration != null ? duration(duration) : maxDuration, maxDuration);
+        DataSize size = maxSize != null ? size(maxSize) : this.maxSize;
+        if (size.compareTo(this.maxSize) > 0) size = this.maxSize;
+
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(status(), 409);
+        }
+        if (recording != null) recording.close();
+        recording = new Recording(configuration);
+        recording.setName("burnout");
+        recording.setToDisk(true);
+        recording.setDuration(length);
+        recording.setMaxSize(size.toBytes());
+        recording.start();
+        return new WebEndpointResponse<>(status());
+    }
+
+    @DeleteOperation
+    public synchronized RecordingStatus stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+        }
+        return status();
+    }
+
+    @ReadOperation
+    public synchronized RecordingStatus status() {
+        if (recording == null) return new RecordingStatus("NONE", null, null, null, 0, 0);
+        return new RecordingStatus(recording.getState().name(), recording.getStartTime(),
+            recording.getStopTime(), recording.getDuration(), recording.getSize(), recording.getMaxSize());
+    }
+
+    /**
+     * The recording as a .jfr file, for {@code jfr print} or JDK Mission Control.
+     */
+    @ReadOperation
+    public synchronized WebEndpointResponse<Resource> download(@Selector String name) {
+        if (!"recording".equals(name) || recording == null
+                || recording.getState() == RecordingState.NEW || recording.getState() == RecordingState.CLOSED) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            Path file = Files.createTempFile("burnout-", ".jfr");
+            try {
+                recording.dump(file);
+                return new WebEndpointResponse<>(new ByteArrayResource(Files.readAllBytes(file)));
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The named JDK preset with the {@link #SUPPRESSED} events switched off.
+     */
+    private static Map<String, String> settings(String name) {
+        if (!SETTINGS.contains(name)) {
+            throw new InvalidEndpointRequestException("Unknown JFR settings: " + name, "Unknown settings");
+        }
+        Map<String, String> settings;
+        try {
+            settings = new HashMap<>(Configuration.getConfiguration(name).getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JDK preset " + name + " unreadable", e);
+        }
+        for (String event : SUPPRESSED) {
+            settings.put(event + "#enabled", "false");
+        }
+        return settings;
+    }
+
+    private static Duration duration(String value) {
+        Duration duration;
+        try {
+            duration = Duration.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidEndpointRequestException("Malformed JFR duration: " + value, "Malformed duration");
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new InvalidEndpointRequestException("JFR duration must be positive: " + value, "Non-positive duration");
+        }
+        return duration;
+    }
+
+    private static DataSize size(String value) {
+        DataSize size;
+        try {
+            size = DataSize.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException("Malformed JFR max size: " + value, "Malformed max size");
+        }
+        if (size.toBytes() <= 0) {
+            throw new InvalidEndpointRequestException("JFR max size must be positive: " + value, "Non-positive max size");
+        }
+        return size;
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    public record RecordingStatus(String state, Instant startedAt, Instant stoppedAt, Duration duration,
+                                  long bytes, long maxBytes) {}
+}
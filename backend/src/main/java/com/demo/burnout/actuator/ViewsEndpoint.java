@@ -0,0 +1,25 @@
+package com.demo.burnout.actuator;
+
+import com.demo.burnout.service.MaterializedViewService;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET /actuator/views - materialized view count plus sync vs read latency.
+ */
+@Component
+@Endpoint(id = "views")
+public class ViewsEndpoint {
+
+    private final MaterializedViewService viewService;
+
+    public ViewsEndpoint(MaterializedViewService viewService) {
+        this.viewService = viewService;
+    }
+
+    @ReadOperation
+    public MaterializedViewService.ViewStats views() {
+        return viewService.stats();
+    }
+}
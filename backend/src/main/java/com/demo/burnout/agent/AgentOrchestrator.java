@@ -1,7 +1,9 @@
 package com.demo.burnout.agent;
 
+import com.demo.burnout.metrics.PipelineMetrics;
 import com.demo.burnout.model.ComplianceReport;
 import com.demo.burnout.model.WorldState;
+import dev.langchain4j.service.TokenStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +13,10 @@ import java.time.Clock;
 import java.time.LocalDateTime;
 import java.time.format.TextStyle;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Agent Orchestrator - coordinates all AI agents for burnout prevention.
@@ -20,16 +26,32 @@ import java.util.Locale;
  * 2. AI agents provide human-friendly explanations and emotional support
  * 
  * The agents NEVER make decisions - they only explain and support.
+ *
+ * The protective and Friday answers can also be streamed ({@link AgentStream}): the
+ * deterministic fallback goes out at once and the LLM's tokens follow as they arrive.
+ * Time to first token and to the end of the stream are timed as pipeline stages
+ * {@code <agent>-first-token} and {@code <agent>-stream}.
+ *
+ * With an {@link AgentResponseCache} the protective and Friday answers are reused for
+ * identical inputs, in both the blocking and the streaming form (a cached answer is streamed
+ * as a single token).
  */
 @Service
 public class AgentOrchestrator {
 
     private static final Logger log = LoggerFactory.getLogger(AgentOrchestrator.class);
 
+    private static final String PROTECTIVE_PROMPT =
+        ProtectiveAiService.SYSTEM_MESSAGE + ProtectiveAiService.USER_MESSAGE;
+    private static final String FRIDAY_PROMPT =
+        FridayDeployAiService.SYSTEM_MESSAGE + FridayDeployAiService.USER_MESSAGE;
+
     private final ExplainerAiService explainerAiService;
     private final ProtectiveAiService protectiveAiService;
     private final FridayDeployAiService fridayDeployAiService;
+    private final AgentResponseCache responseCache;
     private final Clock clock;
+    private final PipelineMetrics metrics;
     private final boolean llmEnabled;
 
     @Autowired
@@ -37,10 +59,14 @@ public class AgentOrchestrator {
             @Autowired(required = false) ExplainerAiService explainerAiService,
             @Autowired(required = false) ProtectiveAiService protectiveAiService,
             @Autowired(required = false) FridayDeployAiService fridayDeployAiService,
-            Clock clock) {
+            @Autowired(required = false) AgentResponseCache responseCache,
+            Clock clock,
+            PipelineMetrics metrics) {
         this.explainerAiService = explainerAiService;
+        this.metrics = metrics;
         this.protectiveAiService = protectiveAiService;
         this.fridayDeployAiService = fridayDeployAiService;
+        this.responseCache = responseCache;
         this.clock = clock;
         this.llmEnabled = explainerAiService != null;
         
@@ -51,32 +77,50 @@ public class AgentOrchestrator {
      * Generate a protective response based on stress signals.
      */
     public ProtectiveResponse generateProtectiveResponse(WorldState state, int consecutiveHighDays) {
+        return metrics.time("protective-response",
+            () -> protectiveResponse(state, consecutiveHighDays));
+    }
+
+    private ProtectiveResponse protectiveResponse(WorldState state, int consecutiveHighDays) {
         LocalDateTime now = LocalDateTime.now(clock);
-        String dayOfWeek = now.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
-        String timeOfDay = now.getHour() < 12 ? "morning" : now.getHour() < 17 ? "afternoon" : "evening";
+        String dayOfWeek = dayOfWeek(now);
+        String timeOfDay = timeOfDay(now);
 
         if (!llmEnabled) {
             return generateFallbackProtectiveResponse(state, consecutiveHighDays, dayOfWeek);
         }
 
+        ProtectiveInputs inputs = ProtectiveInputs.of(state, consecutiveHighDays, dayOfWeek, timeOfDay);
+        boolean triggered = shouldTriggerProtection(state, consecutiveHighDays);
+        String cached = cached("protective", PROTECTIVE_PROMPT, inputs);
+        if (cached != null) {
+            return new ProtectiveResponse(triggered, cached);
+        }
+
         try {
-            String message = protectiveAiService.generateProtectiveResponse(
-                consecutiveHighDays,
-                state.hasAfterHoursActivity(),
-                (int) state.contextSwitchCount(),
-                state.blockedCount(),
-                (int) state.contextSwitchCount(),
-                state.calculateStressScore(),
-                dayOfWeek,
-                timeOfDay
-            );
-            return new ProtectiveResponse(shouldTriggerProtection(state, consecutiveHighDays), message);
+            String message = inputs.ask(protectiveAiService);
+            remember("protective", PROTECTIVE_PROMPT, message, inputs);
+            return new ProtectiveResponse(triggered, message);
         } catch (Exception e) {
             log.warn("LLM call failed, using fallback: {}", e.getMessage());
             return generateFallbackProtectiveResponse(state, consecutiveHighDays, dayOfWeek);
         }
     }
 
+    /**
+     * Stream the protective response. Returns once the model call has started.
+     */
+    public void streamProtectiveResponse(WorldState state, int consecutiveHighDays,
+                                         AgentStream<ProtectiveResponse> stream) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        ProtectiveResponse fallback = generateFallbackProtectiveResponse(state, consecutiveHighDays, dayOfWeek(now));
+        boolean triggered = shouldTriggerProtection(state, consecutiveHighDays);
+        ProtectiveInputs inputs = ProtectiveInputs.of(state, consecutiveHighDays, dayOfWeek(now), timeOfDay(now));
+        stream("protective", PROTECTIVE_PROMPT, inputs, stream, fallback,
+            () -> inputs.stream(protectiveAiService),
+            text -> new ProtectiveResponse(triggered, text));
+    }
+
     /**
      * Generate Friday deploy readiness assessment.
      */
@@ -87,23 +131,37 @@ public class AgentOrchestrator {
             return generateFallbackFridayAssessment(fridayScore, criticalOpen, staleUrgents);
         }
 
+        FridayInputs inputs = FridayInputs.of(state, compliance, fridayScore, criticalOpen, staleUrgents,
+            deepWorkDone, chaosScore);
+        String cached = cached("friday", FRIDAY_PROMPT, inputs);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            return fridayDeployAiService.assessDeployReadiness(
-                fridayScore,
-                criticalOpen,
-                staleUrgents,
-                deepWorkDone,
-                chaosScore,
-                state.hasAfterHoursActivity(),
-                compliance.complianceScore(),
-                state.getStressLevel().name()
-            );
+            String assessment = inputs.ask(fridayDeployAiService);
+            remember("friday", FRIDAY_PROMPT, assessment, inputs);
+            return assessment;
         } catch (Exception e) {
             log.warn("LLM call failed, using fallback: {}", e.getMessage());
             return generateFallbackFridayAssessment(fridayScore, criticalOpen, staleUrgents);
         }
     }
 
+    /**
+     * Stream the Friday deploy assessment. Returns once the model call has started.
+     */
+    public void streamFridayDeploy(WorldState state, ComplianceReport compliance,
+                                   int fridayScore, int criticalOpen, int staleUrgents,
+                                   boolean deepWorkDone, double chaosScore, AgentStream<String> stream) {
+        FridayInputs inputs = FridayInputs.of(state, compliance, fridayScore, criticalOpen, staleUrgents,
+            deepWorkDone, chaosScore);
+        stream("friday", FRIDAY_PROMPT, inputs,
+            stream, generateFallbackFridayAssessment(fridayScore, criticalOpen, staleUrgents),
+            () -> inputs.stream(fridayDeployAiService),
+            text -> text);
+    }
+
     /**
      * Check if LLM agents are enabled.
      */
@@ -111,6 +169,117 @@ public class AgentOrchestrator {
         return llmEnabled;
     }
 
+    private <T> void stream(String agent, String prompt, Record inputs, AgentStream<T> stream, T fallback,
+                            Supplier<TokenStream> call, Function<String, T> result) {
+        stream.fallback(fallback);
+        if (!llmEnabled) {
+            stream.complete(fallback, false);
+            return;
+        }
+        String cached = cached(agent, prompt, inputs);
+        if (cached != null) {
+            stream.token(cached);
+            stream.complete(result.apply(cached), true);
+            return;
+        }
+
+        long start = System.nanoTime();
+        AtomicBoolean first = new AtomicBoolean(true);
+        // A failure can be reported both to onError and by start() throwing; complete once
+        AtomicBoolean done = new AtomicBoolean();
+        Consumer<Throwable> fail = e -> {
+            if (done.compareAndSet(false, true)) {
+                log.warn("LLM stream failed, using fallback: {}", e.getMessage());
+                stream.complete(fallback, false);
+            }
+        };
+        try {
+            call.get()
+                .onPartialResponse(token -> {
+                    if (first.compareAndSet(true, false)) {
+                        metrics.record(agent + "-first-token", System.nanoTime() - start);
+                    }
+                    stream.token(token);
+                })
+                .onCompleteResponse(response -> {
+                    if (done.compareAndSet(false, true)) {
+                        metrics.record(agent + "-stream", System.nanoTime() - start);
+                        String text = response.aiMessage().text();
+                        remember(agent, prompt, text, inputs);
+                        stream.complete(result.apply(text), true);
+                    }
+                })
+                .onError(fail)
+                .start();
+        } catch (Exception e) {
+            fail.accept(e);
+        }
+    }
+
+    /**
+     * The values the protective prompt is rendered from, in template order. One instance is
+     * both the cache key and the arguments of the model call, so the two cannot drift apart.
+     */
+    private record ProtectiveInputs(int consecutiveHighDays, boolean hasAfterHours, int contextSwitches,
+                                    int blockedCount, int recentlyTouched, int stressScore,
+                                    String dayOfWeek, String timeOfDay) {
+        static ProtectiveInputs of(WorldState state, int consecutiveHighDays, String dayOfWeek, String timeOfDay) {
+            return new ProtectiveInputs(consecutiveHighDays, state.hasAfterHoursActivity(),
+                (int) state.contextSwitchCount(), state.blockedCount(), (int) state.contextSwitchCount(),
+                state.calculateStressScore(), dayOfWeek, timeOfDay);
+        }
+
+        String ask(ProtectiveAiService ai) {
+            return ai.generateProtectiveResponse(consecutiveHighDays, hasAfterHours, contextSwitches,
+                blockedCount, recentlyTouched, stressScore, dayOfWeek, timeOfDay);
+        }
+
+        TokenStream stream(ProtectiveAiService ai) {
+            return ai.streamProtectiveResponse(consecutiveHighDays, hasAfterHours, contextSwitches,
+                blockedCount, recentlyTouched, stressScore, dayOfWeek, timeOfDay);
+        }
+    }
+
+    /**
+     * The values the Friday prompt is rendered from, in template order; see {@link ProtectiveInputs}.
+     */
+    private record FridayInputs(int fridayScore, int criticalOpen, int staleUrgents, boolean deepWorkDone,
+                                double chaosScore, boolean hasAfterHours, int complianceScore, String stressLevel) {
+        static FridayInputs of(WorldState state, ComplianceReport compliance, int fridayScore, int criticalOpen,
+                               int staleUrgents, boolean deepWorkDone, double chaosScore) {
+            return new FridayInputs(fridayScore, criticalOpen, staleUrgents, deepWorkDone, chaosScore,
+                state.hasAfterHoursActivity(), compliance.complianceScore(), state.getStressLevel().name());
+        }
+
+        String ask(FridayDeployAiService ai) {
+            return ai.assessDeployReadiness(fridayScore, criticalOpen, staleUrgents, deepWorkDone,
+                chaosScore, hasAfterHours, complianceScore, stressLevel);
+        }
+
+        TokenStream stream(FridayDeployAiService ai) {
+            return ai.streamDeployReadiness(fridayScore, criticalOpen, staleUrgents, deepWorkDone,
+                chaosScore, hasAfterHours, complianceScore, stressLevel);
+        }
+    }
+
+    private String cached(String agent, String prompt, Record inputs) {
+        return responseCache != null ? responseCache.get(agent, prompt, inputs).orElse(null) : null;
+    }
+
+    private void remember(String agent, String prompt, String text, Record inputs) {
+        if (responseCache != null) {
+            responseCache.put(agent, prompt, text, inputs);
+        }
+    }
+
+    private static String dayOfWeek(LocalDateTime now) {
+        return now.getDayOfWeek().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+    }
+
+    private static String timeOfDay(LocalDateTime now) {
+        return now.getHour() < 12 ? "morning" : now.getHour() < 17 ? "afternoon" : "evening";
+    }
+
     // ======================== Fallback Implementations ========================
 
     private ProtectiveResponse generateFallbackProtectiveResponse(WorldState state, int consecutiveHighDays, String dayOfWeek) {
@@ -0,0 +1,234 @@
+package com.demo.burnout.agent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * LLM answers for agents whose inputs are a handful of small values (the protective and
+ * Friday prompts), keyed by model, agent, prompt template and the exact input tuple.
+ *
+ * Each key collects up to {@code variants} answers: until it has that many, {@link #get}
+ * misses and the caller asks the LLM and {@link #put}s the answer; after that a hit returns
+ * one of them at random, so repeat visitors don't see the same sentence every time. Answers
+ * expire {@code ttl} after they were generated. Editing a prompt template changes its
+ * fingerprint, and switching model or deployment changes the model part of the key, so
+ * answers to another prompt or from another model are never served.
+ *
+ * Answers are appended to a JSON-lines file and read back on start. Expired and surplus lines
+ * are dropped and the file is rewritten on start, and again whenever appends have doubled it
+ * since the last rewrite (at least {@value #COMPACT_MIN_LINES} lines), so it stays within a
+ * constant factor of the live answers. Reads never touch the file.
+ *
+ * burnout.llm.cache{agent, result=hit|miss}   lookups
+ * burnout.llm.cache.entries                    keys held
+ */
+public class AgentResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AgentResponseCache.class);
+
+    static final int COMPACT_MIN_LINES = 256;
+
+    private final Path file;
+    private final String model;
+    private final Duration ttl;
+    private final int variants;
+    private final Clock clock;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry registry;
+    private final Map<String, List<Line>> answers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> hits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> misses = new ConcurrentHashMap<>();
+    private int fileLines;
+    private int compactedLines;
+
+    /**
+     * One cached answer, as stored in the file.
+     */
+    record Line(String key, String text, long createdAt) {}
+
+    /**
+     * @param model the model or deployment answering, part of every key
+     */
+    public AgentResponseCache(Path file, String model, Duration ttl, int variants, Clock clock,
+                              ObjectMapper objectMapper, MeterRegistry registry) {
+        this.file = file;
+        this.model = model;
+        this.ttl = ttl;
+        this.variants = Math.max(1, variants);
+        this.clock = clock;
+        this.objectMapper = objectMapper;
+        this.registry = registry;
+        load();
+        Gauge.builder("burnout.llm.cache.entries", answers, Map::size)
+            .description("Input tuples with cached LLM answers")
+            .register(registry);
+    }
+
+    /**
+     * A cached answer for these inputs, once the key has collected all its variants.
+     *
+     * @param prompt the prompt template, fingerprinted into the key
+     */
+    public Optional<String> get(String agent, String prompt, Object... inputs) {
+        List<Line> lines = answers.get(key(model, agent, prompt, inputs));
+        long now = clock.millis();
+        int live = 0;
+        if (lines != null) {
+            for (Line line : lines) {
+                if (!expired(line, now)) live++;
+            }
+        }
+        if (live < variants) {
+            counter(misses, agent, "miss").increment();
+            return Optional.empty();
+        }
+        int pick = ThreadLocalRandom.current().nextInt(live);
+        for (Line line : lines) {
+            if (!expired(line, now) && pick-- == 0) {
+                counter(hits, agent, "hit").increment();
+                return Optional.of(line.text());
+            }
+        }
+        counter(misses, agent, "miss").increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Remember an LLM answer for these inputs and append it to the file, compacting the file
+     * when it has grown enough since the last rewrite.
+     */
+    public void put(String agent, String prompt, String text, Object... inputs) {
+        if (text == null || text.isBlank()) return;
+        Line line = new Line(key(model, agent, prompt, inputs), text, clock.millis());
+        // Map update and append together, so a compaction never writes a line twice
+        synchronized (this) {
+            answers.compute(line.key(), (key, lines) -> add(lines, line, clock.millis()));
+            append(line);
+            if (fileLines >= Math.max(COMPACT_MIN_LINES, 2 * compactedLines)) {
+                compact();
+            }
+        }
+    }
+
+    private List<Line> add(List<Line> lines, Line line, long now) {
+        List<Line> kept = new ArrayList<>(variants);
+        if (lines != null) {
+            for (Line old : lines) {
+                if (!expired(old, now)) kept.add(old);
+            }
+        }
+        kept.add(line);
+        // Oldest first, so a full key drops its oldest answer
+        return List.copyOf(kept.subList(Math.max(0, kept.size() - variants), kept.size()));
+    }
+
+    private boolean expired(Line line, long now) {
+        return now - line.createdAt() >= ttl.toMillis();
+    }
+
+    private static String key(String model, String agent, String prompt, Object... inputs) {
+        StringBuilder key = new StringBuilder(model).append('|').append(agent)
+            .append('|').append(Integer.toHexString(prompt.hashCode()));
+        for (Object input : inputs) {
+            key.append('|').append(input);
+        }
+        return key.toString();
+    }
+
+    private Counter counter(Map<String, Counter> counters, String agent, String result) {
+        return counters.computeIfAbsent(agent, a -> Counter.builder("burnout.llm.cache")
+            .description("Cached LLM answer lookups by agent and result")
+            .tag("agent", a)
+            .tag("result", result)
+            .register(registry));
+    }
+
+    private void append(Line line) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, objectMapper.writeValueAsString(line) + "\n",
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            fileLines++;
+        } catch (IOException e) {
+            log.warn("Could not persist cached answer to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Drop expired answers from memory and rewrite the file with the rest.
+     */
+    private void compact() {
+        long now = clock.millis();
+        answers.replaceAll((key, lines) -> lines.stream().filter(line -> !expired(line, now)).toList());
+        answers.values().removeIf(List::isEmpty);
+        rewrite();
+    }
+
+    /**
+     * Replace the file with the answers held in memory.
+     */
+    private void rewrite() {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            List<String> out = new ArrayList<>();
+            for (List<Line> kept : answers.values()) {
+                for (Line line : kept) out.add(objectMapper.writeValueAsString(line));
+            }
+            Files.write(tmp, out);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            fileLines = out.size();
+            compactedLines = out.size();
+        } catch (IOException e) {
+            // Try again once the file has doubled, not on every put
+            compactedLines = fileLines;
+            log.warn("Could not compact response cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Read the file back, keeping the newest live answers per key, and rewrite it compacted.
+     */
+    private void load() {
+        if (!Files.exists(file)) return;
+        long now = clock.millis();
+        Map<String, List<Line>> loaded = new LinkedHashMap<>();
+        try (var lines = Files.lines(file)) {
+            lines.forEach(text -> {
+                try {
+                    Line line = objectMapper.readValue(text, Line.class);
+                    if (expired(line, now)) return;
+                    loaded.compute(line.key(), (key, kept) -> add(kept, line, now));
+                } catch (IOException e) {
+                    log.debug("Skipping unreadable cache line in {}: {}", file, e.getMessage());
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Could not read response cache {}: {}", file, e.getMessage());
+            return;
+        }
+        answers.putAll(loaded);
+        rewrite();
+        log.info("Loaded cached agent answers for {} inputs from {}", answers.size(), file);
+    }
+}
@@ -0,0 +1,19 @@
+package com.demo.burnout.agent;
+
+/**
+ * Receiver for an agent answer that is delivered progressively.
+ *
+ * {@link #fallback} is called first, before any model call, with the deterministic answer, so
+ * a client always has something to show. Then come zero or more {@link #token}s and exactly
+ * one {@link #complete}: the model's answer, or the fallback again (llmUsed = false) when the
+ * LLM is disabled or the call fails, in which case any tokens already received are void.
+ * Tokens and completion may arrive on a model thread.
+ */
+public interface AgentStream<T> {
+
+    void fallback(T fallback);
+
+    void token(String token);
+
+    void complete(T result, boolean llmUsed);
+}
@@ -1,6 +1,7 @@
 package com.demo.burnout.agent;
 
 import dev.langchain4j.service.SystemMessage;
+import dev.langchain4j.service.TokenStream;
 import dev.langchain4j.service.UserMessage;
 import dev.langchain4j.service.V;
 
@@ -12,7 +13,7 @@ import dev.langchain4j.service.V;
  */
 public interface FridayDeployAiService {
 
-    @SystemMessage("""
+    String SYSTEM_MESSAGE = """
         You are a calm, experienced release engineer providing Friday deploy assessments.
         Your role is to give developers confidence or appropriate caution about deploying.
         
@@ -30,8 +31,9 @@ public interface FridayDeployAiService {
         - If score is low (<50): Recommend deferring, explain why
         
         Format: Assessment emoji (🟢/🟡/🔴) + 2-3 sentences.
-        """)
-    @UserMessage("""
+        """;
+
+    String USER_MESSAGE = """
         Assess Friday deploy readiness:
         
         Friday Score: {{fridayScore}}/100
@@ -47,7 +49,10 @@ public interface FridayDeployAiService {
         Current stress level: {{stressLevel}}
         
         Provide your deploy recommendation.
-        """)
+        """;
+
+    @SystemMessage(SYSTEM_MESSAGE)
+    @UserMessage(USER_MESSAGE)
     String assessDeployReadiness(
         @V("fridayScore") int fridayScore,
         @V("criticalOpen") int criticalOpen,
@@ -58,4 +63,21 @@ public interface FridayDeployAiService {
         @V("complianceScore") int complianceScore,
         @V("stressLevel") String stressLevel
     );
+
+    /**
+     * {@link #assessDeployReadiness} as a token stream, for clients that render the
+     * assessment as it is written.
+     */
+    @SystemMessage(SYSTEM_MESSAGE)
+    @UserMessage(USER_MESSAGE)
+    TokenStream streamDeployReadiness(
+        @V("fridayScore") int fridayScore,
+        @V("criticalOpen") int criticalOpen,
+        @V("staleUrgents") int staleUrgents,
+        @V("deepWorkDone") boolean deepWorkDone,
+        @V("chaosScore") double chaosScore,
+        @V("hasAfterHours") boolean hasAfterHours,
+        @V("complianceScore") int complianceScore,
+        @V("stressLevel") String stressLevel
+    );
 }
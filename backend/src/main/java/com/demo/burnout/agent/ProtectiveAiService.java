@@ -1,6 +1,7 @@
 package com.demo.burnout.agent;
 
 import dev.langchain4j.service.SystemMessage;
+import dev.langchain4j.service.TokenStream;
 import dev.langchain4j.service.UserMessage;
 import dev.langchain4j.service.V;
 
@@ -12,7 +13,7 @@ import dev.langchain4j.service.V;
  */
 public interface ProtectiveAiService {
 
-    @SystemMessage("""
+    String SYSTEM_MESSAGE = """
         You are a protective AI companion focused on developer wellbeing.
         Your role is to detect signs of burnout and provide gentle, supportive interventions.
         
@@ -30,8 +31,9 @@ public interface ProtectiveAiService {
         5. Include one actionable suggestion
         
         Format: 1-2 sentences of acknowledgment + 1 protective suggestion.
-        """)
-    @UserMessage("""
+        """;
+
+    String USER_MESSAGE = """
         Analyze this developer's state and provide a protective response:
         
         Signals:
@@ -46,7 +48,10 @@ public interface ProtectiveAiService {
         
         If stress signals are high, suggest a protective action.
         If signals are normal, respond with brief encouragement.
-        """)
+        """;
+
+    @SystemMessage(SYSTEM_MESSAGE)
+    @UserMessage(USER_MESSAGE)
     String generateProtectiveResponse(
         @V("consecutiveHighDays") int consecutiveHighDays,
         @V("hasAfterHours") boolean hasAfterHours,
@@ -57,4 +62,20 @@ public interface ProtectiveAiService {
         @V("dayOfWeek") String dayOfWeek,
         @V("timeOfDay") String timeOfDay
     );
+
+    /**
+     * Same prompt, answered token by token on the streaming chat model.
+     */
+    @SystemMessage(SYSTEM_MESSAGE)
+    @UserMessage(USER_MESSAGE)
+    TokenStream streamProtectiveResponse(
+        @V("consecutiveHighDays") int consecutiveHighDays,
+        @V("hasAfterHours") boolean hasAfterHours,
+        @V("contextSwitches") int contextSwitches,
+        @V("blockedCount") int blockedCount,
+        @V("recentlyTouched") int recentlyTouched,
+        @V("stressScore") int stressScore,
+        @V("dayOfWeek") String dayOfWeek,
+        @V("timeOfDay") String timeOfDay
+    );
 }
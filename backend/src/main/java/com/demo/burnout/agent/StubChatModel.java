@@ -0,0 +1,295 @@
+package com.demo.burnout.agent;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.exception.RateLimitException;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.openaiofficial.OpenAiOfficialTokenUsage;
+import dev.langchain4j.model.output.FinishReason;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Offline {@link ChatModel} for load and capacity tests (profile {@code stub-llm}).
+ *
+ * Recognises the three kinds of calls the backend makes and answers them deterministically:
+ * - supervisor planner: returns the next agent from {@code script} as an AgentInvocation
+ *   JSON (the step is the number of earlier planner answers in its chat memory), then "done"
+ * - sub-agent with tools: calls the tool named in its system message (for ClassifyAgent the
+ *   one matching the requested classification) with the issue number from the user message,
+ *   then answers with a summary once tool results come back
+ * - everything else (protective, explainer, Friday deploy): canned text
+ *
+ * Latency is log-normal with the configured median and p99, calls fail with
+ * {@link RateLimitException} at {@code errorRate}, and token usage is estimated from
+ * message length. Cached input tokens follow the provider's prompt cache rules: prompts of at
+ * least 1024 tokens, matched against earlier prompts in 128-token prefix blocks.
+ */
+public class StubChatModel implements ChatModel {
+
+    private static final Pattern AGENT_CARD = Pattern.compile("\\{'([^']+)', '[^']*', \\[([^\\]]*)\\]\\}");
+    private static final Pattern ISSUE_LINE = Pattern.compile("- #(\\d+): (.*?) \\[");
+    private static final Pattern ISSUE_NUMBER = Pattern.compile("#(\\d+)");
+    private static final Pattern CLASSIFICATION = Pattern.compile(" as ([\\w-]+)");
+    private static final Pattern STRESS_SCORE = Pattern.compile("Stress Score: (\\d+)");
+    private static final Pattern AFTER_HOURS = Pattern.compile("After Hours Activity: (true|false)");
+    private static final double Z_99 = 2.326;
+    private static final int CACHE_MIN_TOKENS = 1024;
+    private static final int CACHE_BLOCK_TOKENS = 128;
+    private static final int CACHE_MAX_PREFIXES = 100_000;
+
+    /**
+     * Stub behaviour. {@code script} lists supervisor sub-agents in call order by method name
+     * (the planner sees them as {@code name$index}).
+     */
+    public record Settings(
+        Duration medianLatency,
+        Duration p99Latency,
+        double errorRate,
+        int charsPerToken,
+        List<String> script,
+        long seed
+    ) {}
+
+    private final String modelName;
+    private final Settings settings;
+    private final List<ChatModelListener> listeners;
+    private final Random random;
+    private final AtomicLong toolCallIds = new AtomicLong();
+    /** Hashes of prompt prefixes seen so far, one per cache block boundary. */
+    private final Set<Integer> cachedPrefixes = ConcurrentHashMap.newKeySet();
+
+    public StubChatModel(String modelName, Settings settings, List<ChatModelListener> listeners) {
+        this.modelName = modelName;
+        this.settings = settings;
+        this.listeners = List.copyOf(listeners);
+        this.random = new Random(settings.seed());
+    }
+
+    @Override
+    public List<ChatModelListener> listeners() {
+        return listeners;
+    }
+
+    @Override
+    public ChatResponse doChat(ChatRequest request) {
+        simulateLatency();
+        if (random.nextDouble() < settings.errorRate()) {
+            throw new RateLimitException("stub-llm: simulated rate limit");
+        }
+
+        List<ChatMessage> messages = request.messages();
+        String system = messages.stream()
+            .filter(m -> m instanceof SystemMessage)
+            .map(m -> ((SystemMessage) m).text())
+            .findFirst().orElse("");
+        String user = lastUserText(messages);
+        ChatMessage last = messages.get(messages.size() - 1);
+
+        AiMessage answer;
+        if (system.contains("You are a planner expert")) {
+            answer = AiMessage.from(plan(system, user, messages));
+        } else if (last instanceof ToolExecutionResultMessage) {
+            answer = AiMessage.from(toolResultsSummary(messages));
+        } else if (request.toolSpecifications() != null && !request.toolSpecifications().isEmpty()) {
+            answer = toolCall(system, user, request.toolSpecifications());
+        } else {
+            answer = AiMessage.from("You've been carrying a lot this week. Protect one focus block today "
+                + "and let the rest wait until Monday.");
+        }
+
+        return ChatResponse.builder()
+            .aiMessage(answer)
+            .modelName(modelName)
+            .tokenUsage(OpenAiOfficialTokenUsage.builder()
+                .inputTokenCount(estimateTokens(messages))
+                .inputTokensDetails(OpenAiOfficialTokenUsage.InputTokensDetails.builder()
+                    .cachedTokens(cachedTokens(messages))
+                    .build())
+                .outputTokenCount(estimateTokens(answer))
+                .build())
+            .finishReason(answer.hasToolExecutionRequests() ? FinishReason.TOOL_EXECUTION : FinishReason.STOP)
+            .build();
+    }
+
+    private String plan(String system, String user, List<ChatMessage> messages) {
+        int step = (int) messages.stream().filter(m -> m instanceof AiMessage).count();
+        List<String[]> cards = new ArrayList<>();
+        Matcher card = AGENT_CARD.matcher(system);
+        while (card.find()) {
+            cards.add(new String[] {card.group(1), card.group(2)});
+        }
+        List<String[]> scripted = settings.script().stream()
+            .flatMap(name -> cards.stream().filter(c -> c[0].replaceFirst("\\$\\d+$", "").equals(name)))
+            .toList();
+        if (step >= scripted.size()) {
+            return "{\"agentName\": \"done\", \"arguments\": {\"response\": "
+                + quote("Rebalanced the workload with " + scripted.size()
+                    + " agent steps. Focus on one deep-work item and defer the rest.") + "}}";
+        }
+
+        String[] agent = scripted.get(step);
+        List<String[]> issues = new ArrayList<>();
+        Matcher line = ISSUE_LINE.matcher(user);
+        while (line.find()) {
+            issues.add(new String[] {line.group(1), line.group(2)});
+        }
+        String[] issue = issues.isEmpty() ? new String[] {"1", "Unknown issue"}
+            : issues.get(Math.max(0, issues.size() - 1 - step));
+
+        List<String> args = new ArrayList<>();
+        for (String arg : agent[1].split(",")) {
+            String name = arg.split(":")[0].trim();
+            if (name.isEmpty()) continue;
+            String value = switch (name) {
+                case "issueNumber" -> issue[0];
+                case "issueTitle" -> quote(issue[1]);
+                case "classification" -> quote("quick-win");
+                case "stressScore" -> find(STRESS_SCORE, user, "50");
+                case "hasAfterHours" -> find(AFTER_HOURS, user, "false");
+                default -> quote("");
+            };
+            args.add(quote(name) + ": " + value);
+        }
+        return "{\"agentName\": " + quote(agent[0]) + ", \"arguments\": {" + String.join(", ", args) + "}}";
+    }
+
+    private AiMessage toolCall(String system, String user, List<ToolSpecification> tools) {
+        List<ToolSpecification> mentioned = tools.stream()
+            .filter(t -> system.contains(t.name()))
+            .sorted((a, b) -> Integer.compare(system.indexOf(a.name()), system.indexOf(b.name())))
+            .toList();
+        if (mentioned.isEmpty()) {
+            return AiMessage.from("No action needed.");
+        }
+        ToolSpecification tool = mentioned.get(0);
+        Matcher classification = CLASSIFICATION.matcher(user);
+        if (mentioned.size() > 1 && classification.find()) {
+            String wanted = classification.group(1).replaceAll("[^a-zA-Z]", "").toLowerCase();
+            tool = mentioned.stream()
+                .filter(t -> t.name().toLowerCase().contains(wanted))
+                .findFirst().orElse(tool);
+        }
+        boolean takesIssue = tool.parameters() != null && tool.parameters().properties() != null
+            && tool.parameters().properties().containsKey("issueNumber");
+        String arguments = takesIssue ? "{\"issueNumber\": " + find(ISSUE_NUMBER, user, "1") + "}" : "{}";
+        return AiMessage.from(List.of(ToolExecutionRequest.builder()
+            .id("stub-" + toolCallIds.incrementAndGet())
+            .name(tool.name())
+            .arguments(arguments)
+            .build()));
+    }
+
+    private static String toolResultsSummary(List<ChatMessage> messages) {
+        return messages.stream()
+            .filter(m -> m instanceof ToolExecutionResultMessage)
+            .map(m -> ((ToolExecutionResultMessage) m).text())
+            .collect(Collectors.joining(" "));
+    }
+
+    private void simulateLatency() {
+        long median = settings.medianLatency().toNanos();
+        if (median <= 0) return;
+        double sigma = Math.log((double) settings.p99Latency().toNanos() / median) / Z_99;
+        long nanos = (long) (median * Math.exp(Math.max(0, sigma) * random.nextGaussian()));
+        try {
+            Thread.sleep(Duration.ofNanos(nanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int estimateTokens(List<ChatMessage> messages) {
+        int chars = 0;
+        for (ChatMessage m : messages) {
+            chars += text(m).length();
+        }
+        return Math.max(1, chars / settings.charsPerToken());
+    }
+
+    /**
+     * Longest prefix of this prompt, in whole cache blocks, that an earlier prompt also had.
+     * The prefix hash is rolled forward over the messages and remembered at every block
+     * boundary, so a prompt is hashed once however many blocks it spans.
+     */
+    private int cachedTokens(List<ChatMessage> messages) {
+        int charsPerToken = settings.charsPerToken();
+        int minChars = CACHE_MIN_TOKENS * charsPerToken;
+        int blockChars = CACHE_BLOCK_TOKENS * charsPerToken;
+        if (cachedPrefixes.size() > CACHE_MAX_PREFIXES) {
+            cachedPrefixes.clear();
+        }
+        int hash = 0;
+        int chars = 0;
+        int cachedChars = 0;
+        boolean hit = true;
+        for (ChatMessage m : messages) {
+            String text = text(m);
+            for (int i = 0; i < text.length(); i++) {
+                hash = 31 * hash + text.charAt(i);
+                chars++;
+                if (chars >= minChars && (chars - minChars) % blockChars == 0) {
+                    if (hit && cachedPrefixes.contains(hash)) {
+                        cachedChars = chars;
+                    } else {
+                        hit = false;
+                        cachedPrefixes.add(hash);
+                    }
+                }
+            }
+        }
+        return cachedChars / charsPerToken;
+    }
+
+    private static String text(ChatMessage message) {
+        String text = switch (message) {
+            case SystemMessage s -> s.text();
+            case UserMessage u -> u.hasSingleText() ? u.singleText() : null;
+            case AiMessage a -> a.text();
+            case ToolExecutionResultMessage t -> t.text();
+            default -> null;
+        };
+        return text != null ? text : "";
+    }
+
+    private int estimateTokens(AiMessage answer) {
+        int chars = answer.text() != null ? answer.text().length()
+            : answer.toolExecutionRequests().stream().mapToInt(t -> t.name().length() + t.arguments().length()).sum();
+        return Math.max(1, chars / settings.charsPerToken());
+    }
+
+    private static String lastUserText(List<ChatMessage> messages) {
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if (messages.get(i) instanceof UserMessage u && u.hasSingleText()) {
+                return u.singleText();
+            }
+        }
+        return "";
+    }
+
+    private static String find(Pattern pattern, String text, String fallback) {
+        Matcher m = pattern.matcher(text);
+        return m.find() ? m.group(1) : fallback;
+    }
+
+    private static String quote(String s) {
+        return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+}
@@ -0,0 +1,53 @@
+package com.demo.burnout.agent;
+
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+
+import java.util.List;
+
+/**
+ * Offline {@link StreamingChatModel} (profile {@code stub-llm}): answers like the wrapped
+ * {@link StubChatModel}, on a virtual thread, with the text split into chunks of
+ * {@code charsPerToken} characters. The stub's latency is spent before the first chunk, so
+ * it models time to first token; the remaining chunks follow immediately.
+ */
+public class StubStreamingChatModel implements StreamingChatModel {
+
+    private final StubChatModel delegate;
+    private final int charsPerToken;
+    private final List<ChatModelListener> listeners;
+
+    public StubStreamingChatModel(StubChatModel delegate, int charsPerToken, List<ChatModelListener> listeners) {
+        this.delegate = delegate;
+        this.charsPerToken = Math.max(1, charsPerToken);
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public List<ChatModelListener> listeners() {
+        return listeners;
+    }
+
+    @Override
+    public void doChat(ChatRequest request, StreamingChatResponseHandler handler) {
+        Thread.ofVirtual().name("stub-stream").start(() -> {
+            ChatResponse response;
+            try {
+                response = delegate.doChat(request);
+            } catch (RuntimeException e) {
+                handler.onError(e);
+                return;
+            }
+            String text = response.aiMessage().text();
+            if (text != null) {
+                for (int i = 0; i < text.length(); i += charsPerToken) {
+                    handler.onPartialResponse(text.substring(i, Math.min(text.length(), i + charsPerToken)));
+                }
+            }
+            handler.onCompleteResponse(response);
+        });
+    }
+}
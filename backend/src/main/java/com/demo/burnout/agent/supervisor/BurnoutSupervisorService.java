@@ -1,20 +1,30 @@
 package com.demo.burnout.agent.supervisor;
 
+import com.demo.burnout.agent.AgentStream;
 import com.demo.burnout.goap.GitHubMutationPlan;
+import com.demo.burnout.metrics.AgentTracingListener;
+import com.demo.burnout.metrics.PipelineMetrics;
+import com.demo.burnout.metrics.TracedToolExecutor;
 import com.demo.burnout.model.ChaosMetrics;
 import com.demo.burnout.model.Issue;
 import com.demo.burnout.model.WorldState;
+import com.demo.burnout.service.PlanSimulationService;
+import com.demo.burnout.util.AssigneeMatcher;
 import dev.langchain4j.agentic.AgenticServices;
 import dev.langchain4j.agentic.supervisor.SupervisorAgent;
 import dev.langchain4j.agentic.supervisor.SupervisorResponseStrategy;
 import dev.langchain4j.model.chat.ChatModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -40,13 +50,22 @@ public class BurnoutSupervisorService {
 
     private final ChatModel chatModel;
     private final ChatModel plannerModel;
+    private final PlanSimulationService planSimulationService;
+    private final PipelineMetrics metrics;
+    private final MeterRegistry registry;
     private final boolean llmEnabled;
 
     @Autowired
     public BurnoutSupervisorService(
             @Autowired(required = false) ChatModel chatModel,
-            @Autowired(required = false) @Qualifier("plannerModel") ChatModel plannerModel) {
+            @Autowired(required = false) @Qualifier("plannerModel") ChatModel plannerModel,
+            PlanSimulationService planSimulationService,
+            PipelineMetrics metrics,
+            MeterRegistry registry) {
         this.chatModel = chatModel;
+        this.planSimulationService = planSimulationService;
+        this.metrics = metrics;
+        this.registry = registry;
         this.plannerModel = plannerModel != null ? plannerModel : chatModel;
         this.llmEnabled = chatModel != null;
         log.info("BurnoutSupervisorService initialized. LLM enabled: {}, Supervisor pattern: {}",
@@ -74,22 +93,59 @@ public class BurnoutSupervisorService {
      * 1. Build sub-agents with chatModel and tools
      * 2. Build supervisor with plannerModel that coordinates sub-agents
      * 3. Supervisor autonomously plans and invokes sub-agents based on the request
+     *
+     * {@code baseline} is the user's simulation baseline for the same snapshot; the
+     * returned stress estimate is the exact post-plan score.
      */
     public SupervisorResult preventBurnout(
             WorldState state,
             List<Issue> issues,
             String userId,
             String repo,
-            ChaosMetrics chaos) {
+            ChaosMetrics chaos,
+            PlanSimulationService.Baseline baseline) {
+        return metrics.time("supervisor", Map.of(PipelineMetrics.REPO, repo, PipelineMetrics.USER, userId),
+            () -> invokeSupervisor(state, issues, userId, repo, chaos, baseline));
+    }
+
+    /**
+     * {@link #preventBurnout} for streaming clients: the deterministic fallback first, then the
+     * supervisor's result. The agentic supervisor has no streaming API, so the summary arrives
+     * in one piece and there are no tokens. Blocks until the supervisor is done.
+     */
+    public void streamPreventBurnout(
+            WorldState state,
+            List<Issue> issues,
+            String userId,
+            String repo,
+            ChaosMetrics chaos,
+            PlanSimulationService.Baseline baseline,
+            AgentStream<SupervisorResult> stream) {
+        stream.fallback(generateFallbackResult(state));
+        SupervisorResult result = preventBurnout(state, issues, userId, repo, chaos, baseline);
+        stream.complete(result, result.llmUsed());
+    }
+
+    private SupervisorResult invokeSupervisor(
+            WorldState state,
+            List<Issue> issues,
+            String userId,
+            String repo,
+            ChaosMetrics chaos,
+            PlanSimulationService.Baseline baseline) {
         
         if (!llmEnabled) {
             log.warn("LLM not enabled, returning fallback response");
+            countInvocation("fallback");
             return generateFallbackResult(state);
         }
 
         try {
             // Create the mutation tool with access to issues
             BurnoutMutationTool mutationTool = new BurnoutMutationTool(issues, repo);
+            Map<String, String> spanAttributes = Map.of(PipelineMetrics.REPO, repo, PipelineMetrics.USER, userId);
+            var tools = TracedToolExecutor.forTools(mutationTool, metrics, spanAttributes);
+            var tracing = new AgentTracingListener(metrics.tracer(), spanAttributes);
             
             log.info("Building Supervisor pattern for user {} in repo {}", userId, repo);
 
@@ -97,31 +153,36 @@ public class BurnoutSupervisorService {
             BurnoutAgents.DeferAgent deferAgent = AgenticServices
                 .agentBuilder(BurnoutAgents.DeferAgent.class)
                 .chatModel(chatModel)
-                .tools(mutationTool)
+                .tools(tools)
+                .listener(tracing)
                 .build();
             
             BurnoutAgents.DelegateAgent delegateAgent = AgenticServices
                 .agentBuilder(BurnoutAgents.DelegateAgent.class)
                 .chatModel(chatModel)
-                .tools(mutationTool)
+                .tools(tools)
+                .listener(tracing)
                 .build();
             
             BurnoutAgents.ClassifyAgent classifyAgent = AgenticServices
                 .agentBuilder(BurnoutAgents.ClassifyAgent.class)
                 .chatModel(chatModel)
-                .tools(mutationTool)
+                .tools(tools)
+                .listener(tracing)
                 .build();
             
             BurnoutAgents.ScopeAgent scopeAgent = AgenticServices
                 .agentBuilder(BurnoutAgents.ScopeAgent.class)
                 .chatModel(chatModel)
-                .tools(mutationTool)
+                .tools(tools)
+                .listener(tracing)
                 .build();
             
             BurnoutAgents.WellnessAgent wellnessAgent = AgenticServices
                 .agentBuilder(BurnoutAgents.WellnessAgent.class)
                 .chatModel(chatModel)
-                .tools(mutationTool)
+                .tools(tools)
+                .listener(tracing)
                 .build();
 
             // Build supervisor using AgenticServices.supervisorBuilder() with sub-agents
@@ -135,13 +196,24 @@ public class BurnoutSupervisorService {
 
             log.info("Invoking Supervisor to orchestrate burnout prevention agents");
 
-            // Format issues for the supervisor prompt
-            String issueList = formatIssueList(issues, userId);
-
-            // Build the supervisor request with full context
+            // Stable part first (goals, then the issue catalogue in issue-number order) and the
+            // per-request numbers last, so repeated runs for the same backlog share a prompt
+            // prefix the provider can serve from its prompt cache.
             String supervisorRequest = String.format("""
                 Analyze and rebalance this developer's workload to reduce stress.
                 
+                Goals:
+                1. Reduce stress score below 50
+                2. Achieve 3-3-3 compliance (1 deep work, 3 quick wins, 3 maintenance)
+                3. Protect the developer's focus time
+                4. Flag unclear issues for scope clarification
+                5. Recommend wellness actions if stress is high
+                
+                Use the available agents to accomplish these goals.
+                
+                Available Issues:
+                %s
+                
                 Current State:
                 - Stress Score: %d/100 (%s)
                 - Total Assigned: %d issues
@@ -152,19 +224,8 @@ public class BurnoutSupervisorService {
                 - Chaos Score: %.1f/10
                 - After Hours Activity: %s
                 - Mystery Meat Issues: %d
-                
-                Available Issues:
-                %s
-                
-                Goals:
-                1. Reduce stress score below 50
-                2. Achieve 3-3-3 compliance (1 deep work, 3 quick wins, 3 maintenance)
-                3. Protect the developer's focus time
-                4. Flag unclear issues for scope clarification
-                5. Recommend wellness actions if stress is high
-                
-                Use the available agents to accomplish these goals.
                 """,
+                formatIssueList(issues, userId),
                 state.calculateStressScore(),
                 state.getStressLevel().name(),
                 state.totalAssigned(),
@@ -174,8 +235,7 @@ public class BurnoutSupervisorService {
                 state.is333Compliant(),
                 chaos.score(),
                 state.hasAfterHoursActivity(),
-                state.mysteryMeatCount(),
-                issueList
+                state.mysteryMeatCount()
             );
             
             // Supervisor autonomously plans and executes via sub-agents
@@ -186,48 +246,50 @@ public class BurnoutSupervisorService {
             
             log.info("Supervisor completed. Actions planned: {}", mutationPlan.actions().size());
             
-            // Estimate new stress score based on actions taken
-            int estimatedStress = estimateReducedStress(state, mutationPlan);
+            // Project the stress score after the planned mutations
+            int estimatedStress = metrics.time("simulation",
+                () -> planSimulationService.simulate(baseline, mutationPlan)).stressScore();
             
+            countInvocation("llm");
             return new SupervisorResult(explanation, mutationPlan, estimatedStress, true);
             
         } catch (Exception e) {
             log.error("Supervisor invocation failed: {}", e.getMessage(), e);
+            countInvocation("error");
             return generateFallbackResult(state);
         }
     }
 
+    private void countInvocation(String outcome) {
+        Counter.builder("burnout.supervisor.invocations")
+            .description("Supervisor runs by outcome: llm, fallback (LLM disabled) or error")
+            .tag("outcome", outcome)
+            .register(registry)
+            .increment();
+    }
+
     /**
-     * Format the issue list for the LLM prompt.
+     * Format the issue list for the LLM prompt, ordered by issue number and with labels sorted,
+     * so the text depends only on the issues and not on the order they were fetched in.
      */
     private String formatIssueList(List<Issue> issues, String userId) {
+        AssigneeMatcher assignee = AssigneeMatcher.of(userId);
         return issues.stream()
-            .filter(i -> "open".equalsIgnoreCase(i.state()) || "OPEN".equals(i.state()))
-            .filter(i -> i.assignees() != null && i.assignees().stream()
-                .anyMatch(a -> a.login().equalsIgnoreCase(userId)))
+            .filter(i -> "open".equalsIgnoreCase(i.state()))
+            .filter(assignee::matches)
+            .sorted(Comparator.comparingInt(Issue::number))
             .map(i -> String.format("- #%d: %s [%s]%s",
                 i.number(),
                 i.title(),
                 i.labels() != null ? i.labels().stream()
                     .map(Issue.Label::name)
+                    .sorted(String.CASE_INSENSITIVE_ORDER)
                     .collect(Collectors.joining(", ")) : "no labels",
-                i.body() == null || i.body().isBlank() ? " (no description)" : ""
+                i.bodyBlank() ? " (no description)" : ""
             ))
             .collect(Collectors.joining("\n"));
     }
 
-    /**
-     * Estimate reduced stress score based on planned mutations.
-     */
-    private int estimateReducedStress(WorldState state, GitHubMutationPlan plan) {
-        int currentStress = state.calculateStressScore();
-        int actionCount = plan.actions().size();
-        
-        // Rough estimate: each action reduces stress by 5-10 points
-        int reduction = actionCount * 7;
-        return Math.max(0, currentStress - reduction);
-    }
-
     /**
      * Generate fallback result when LLM is unavailable.
      */
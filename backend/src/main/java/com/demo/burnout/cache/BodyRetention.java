@@ -0,0 +1,39 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.Issue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How much of each issue body {@link com.demo.burnout.service.IssueCache} keeps after ingest.
+ *
+ * FULL keeps bodies as synced. PREVIEW keeps only the first {@code previewChars} characters;
+ * everything the analysis reads from a body (blank, length bucket, scope markers) is already
+ * in {@link Issue#bodyFeatures()}, computed from the full body at ingest and carried over,
+ * so scores do not change. Clients see the preview wherever issues are returned (e.g. the
+ * body field of /api/issues/query).
+ */
+public enum BodyRetention {
+    FULL,
+    PREVIEW;
+
+    public List<Issue> apply(List<Issue> issues, int previewChars) {
+        if (this == FULL) return issues;
+        List<Issue> out = new ArrayList<>(issues.size());
+        for (Issue issue : issues) {
+            out.add(preview(issue, previewChars));
+        }
+        return out;
+    }
+
+    static Issue preview(Issue issue, int previewChars) {
+        String body = issue.body();
+        if (body == null || body.length() <= previewChars) return issue;
+        int end = previewChars;
+        if (end > 0 && Character.isHighSurrogate(body.charAt(end - 1))) end--;
+        return new Issue(issue.number(), issue.title(), body.substring(0, end), issue.labels(), issue.assignees(),
+            issue.createdAt(), issue.updatedAt(), issue.state(), issue.milestone(), issue.bodyFeatures(),
+            issue.demoFlags());
+    }
+}
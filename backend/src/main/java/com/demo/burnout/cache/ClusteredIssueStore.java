@@ -0,0 +1,204 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.Issue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Issue store shared by horizontally scaled replicas.
+ *
+ * OWNERSHIP: a {@link ConsistentHashRing} maps each repo to {@code replicationFactor} nodes.
+ * The first reachable owner assigns the version and pushes the snapshot to the other owners.
+ * A sync landing on a non-owner is forwarded to the owner and the result kept locally, so
+ * the node that acked a sync always serves it back.
+ *
+ * VERSIONS come from {@link LocalIssueStore} with this node's ring slot in the low bits, and
+ * an owner assigning one first asks the other owners for theirs and goes above it. So an
+ * owner that restarted with no memory, or missed syncs taken by another owner while it was
+ * down, still assigns versions that replicas accept, and no two owners hand out the same one.
+ *
+ * VERSION-AWARE READS: every node serves its local copy for {@code remoteTtl}, then
+ * revalidates the version against the other owners and re-fetches the issue list from the
+ * newest one only when that is ahead. A repo no owner has is remembered as missing for
+ * {@code remoteTtl} too, so lookups of never-synced repos do not ask the peers every time. Owners revalidate too, which is how a returning or
+ * restarted owner catches up on replicas it missed. {@link #get(String, long)} skips the TTL
+ * whenever the local copy is older than the version the caller was acked. If no other owner
+ * is reachable the last known copy is served.
+ */
+public class ClusteredIssueStore implements IssueStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusteredIssueStore.class);
+
+    private final String selfId;
+    private final ConsistentHashRing ring;
+    private final int replicationFactor;
+    private final PeerTransport transport;
+    private final long remoteTtlNanos;
+    private final LongSupplier nanoTime;
+    private final LocalIssueStore local;
+    private final Map<String, Long> validatedAt = new ConcurrentHashMap<>();
+
+    public ClusteredIssueStore(String selfId, ConsistentHashRing ring, int replicationFactor,
+                               PeerTransport transport, Duration remoteTtl) {
+        this(selfId, ring, replicationFactor, transport, remoteTtl, System::nanoTime, System::currentTimeMillis);
+    }
+
+    ClusteredIssueStore(String selfId, ConsistentHashRing ring, int replicationFactor,
+                        PeerTransport transport, Duration remoteTtl, LongSupplier nanoTime, LongSupplier millis) {
+        this.selfId = selfId;
+        this.ring = ring;
+        this.replicationFactor = Math.max(1, replicationFactor);
+        this.transport = transport;
+        this.remoteTtlNanos = remoteTtl.toNanos();
+        this.nanoTime = nanoTime;
+        this.local = new LocalIssueStore(UnaryOperator.identity(), ring.slot(selfId), millis);
+    }
+
+    @Override
+    public Snapshot put(String repo, List<Issue> issues, Instant fetchedAt) {
+        List<String> owners = ring.owners(repo, replicationFactor);
+        for (String owner : owners) {
+            if (owner.equals(selfId)) {
+                Snapshot snapshot = local.put(repo, issues, fetchedAt, newestElsewhere(repo, owners));
+                replicate(snapshot, owners);
+                return snapshot;
+            }
+            try {
+                Snapshot snapshot = local.accept(transport.forwardPut(owner, repo, issues, fetchedAt));
+                validatedAt.put(repo, nanoTime.getAsLong());
+                return snapshot;
+            } catch (PeerTransport.PeerUnavailableException e) {
+                log.warn("Owner {} of {} unavailable, trying next owner", owner, repo);
+            }
+        }
+        log.warn("No owner of {} reachable, keeping sync on {} only", repo, selfId);
+        return local.put(repo, issues, fetchedAt);
+    }
+
+    @Override
+    public Optional<Snapshot> get(String repo) {
+        Long checked = validatedAt.get(repo);
+        if (checked != null && nanoTime.getAsLong() - checked < remoteTtlNanos) {
+            // Also when absent: a repo no owner had stays unknown for the TTL
+            return local.get(repo);
+        }
+        return refreshFromOwners(repo);
+    }
+
+    @Override
+    public Optional<Snapshot> get(String repo, long minVersion) {
+        Optional<Snapshot> current = get(repo);
+        if (current.isPresent() && current.get().version() >= minVersion) {
+            return current;
+        }
+        return refreshFromOwners(repo).filter(s -> s.version() >= minVersion);
+    }
+
+    // ======================== Peer-facing operations ========================
+
+    /**
+     * A peer forwarded a sync because this node owns the repo.
+     */
+    public Snapshot acceptForwarded(String repo, List<Issue> issues, Instant fetchedAt) {
+        return put(repo, issues, fetchedAt);
+    }
+
+    /**
+     * A peer pushed a replica.
+     */
+    public void acceptReplica(Snapshot snapshot) {
+        local.accept(snapshot);
+    }
+
+    /**
+     * Local copy only - peers never trigger further hops.
+     */
+    public Optional<Snapshot> localSnapshot(String repo) {
+        return local.get(repo);
+    }
+
+    public long localVersion(String repo) {
+        return local.version(repo);
+    }
+
+    public String selfId() {
+        return selfId;
+    }
+
+    public List<String> owners(String repo) {
+        return ring.owners(repo, replicationFactor);
+    }
+
+    private void replicate(Snapshot snapshot, List<String> owners) {
+        for (String owner : owners) {
+            if (owner.equals(selfId)) continue;
+            try {
+                transport.replicate(owner, snapshot);
+            } catch (PeerTransport.PeerUnavailableException e) {
+                log.warn("Replica {} missed {} v{}", owner, snapshot.repo(), snapshot.version());
+            }
+        }
+    }
+
+    /**
+     * Highest version any other reachable owner holds, 0 if none.
+     */
+    private long newestElsewhere(String repo, List<String> owners) {
+        long newest = 0;
+        for (String owner : owners) {
+            if (owner.equals(selfId)) continue;
+            try {
+                newest = Math.max(newest, transport.version(owner, repo));
+            } catch (PeerTransport.PeerUnavailableException e) {
+                log.warn("Owner {} of {} unavailable while versioning a sync", owner, repo);
+            }
+        }
+        return newest;
+    }
+
+    /**
+     * Ask every other owner for its version and fetch from the newest if it is ahead of the
+     * local copy. The check counts as done once any owner answered, or when there is no
+     * other owner to ask.
+     */
+    private Optional<Snapshot> refreshFromOwners(String repo) {
+        long newest = local.version(repo);
+        String newestOwner = null;
+        int others = 0;
+        boolean answered = false;
+        for (String owner : ring.owners(repo, replicationFactor)) {
+            if (owner.equals(selfId)) continue;
+            others++;
+            try {
+                long ownerVersion = transport.version(owner, repo);
+                if (ownerVersion > newest) {
+                    newest = ownerVersion;
+                    newestOwner = owner;
+                }
+                answered = true;
+            } catch (PeerTransport.PeerUnavailableException e) {
+                log.warn("Owner {} of {} unavailable for read, trying next owner", owner, repo);
+            }
+        }
+        if (newestOwner != null) {
+            try {
+                transport.fetch(newestOwner, repo).ifPresent(local::accept);
+            } catch (PeerTransport.PeerUnavailableException e) {
+                log.warn("Owner {} of {} went away before the fetch", newestOwner, repo);
+            }
+        }
+        if (answered || others == 0) {
+            validatedAt.put(repo, nanoTime.getAsLong());
+        }
+        return local.get(repo);
+    }
+}
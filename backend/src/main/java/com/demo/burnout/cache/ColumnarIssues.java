@@ -0,0 +1,373 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.Issue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * One issue snapshot stored column by column in direct (off-heap) buffers.
+ *
+ * Per issue: int number, epoch-milli created/updated (Long.MIN_VALUE when absent), body
+ * features, demo flags, a state id and a milestone id, plus label ids, assignee ids and the UTF-8
+ * title and body, each addressed through an offsets column. Labels, assignees, states and
+ * milestones are dictionary-encoded; the dictionaries are the only per-snapshot objects on
+ * the heap, so a 100k-issue repo is a few dozen objects for the GC instead of ~10 per issue.
+ *
+ * Analysis code that walks every issue reads through a {@link Cursor}, a reusable
+ * flyweight that decodes nothing it is not asked for. The {@link List} view materializes
+ * an {@link Issue} per {@link #get}, for code that needs records (e.g. a page of results).
+ * Timestamps are kept at millisecond precision (GitHub reports seconds).
+ *
+ * Immutable. Off-heap memory is released with the object (and counts against
+ * -XX:MaxDirectMemorySize).
+ */
+public final class ColumnarIssues extends AbstractList<Issue> implements RandomAccess {
+
+    private static final int NONE = -1;
+    private static final byte LABELS_NULL = 1;
+    private static final byte ASSIGNEES_NULL = 1 << 1;
+    private static final byte TITLE_NULL = 1 << 2;
+    private static final byte BODY_NULL = 1 << 3;
+
+    private final int size;
+    private final IntBuffer numbers;
+    private final LongBuffer createdAt;
+    private final LongBuffer updatedAt;
+    private final IntBuffer bodyFeatures;
+    private final ByteBuffer demoFlags;
+    private final ByteBuffer flags;
+    private final ByteBuffer states;
+    private final IntBuffer milestones;
+    private final IntBuffer labelOffsets;
+    private final IntBuffer labelIds;
+    private final IntBuffer assigneeOffsets;
+    private final IntBuffer assigneeIds;
+    private final IntBuffer textOffsets;
+    private final ByteBuffer text;
+
+    private final Issue.Label[] labels;
+    private final Issue.Assignee[] assignees;
+    private final String[] stateNames;
+    private final Issue.Milestone[] milestoneValues;
+
+    private ColumnarIssues(List<Issue> issues) {
+        int n = issues.size();
+        this.size = n;
+        Dictionary<String, Issue.Label> labelDict = new Dictionary<>();
+        Dictionary<String, Issue.Assignee> assigneeDict = new Dictionary<>();
+        Dictionary<String, String> stateDict = new Dictionary<>();
+        Dictionary<Issue.Milestone, Issue.Milestone> milestoneDict = new Dictionary<>();
+
+        long labelCount = 0;
+        long assigneeCount = 0;
+        long textBytes = 0;
+        for (Issue issue : issues) {
+            if (issue.labels() != null) labelCount += issue.labels().size();
+            if (issue.assignees() != null) assigneeCount += issue.assignees().size();
+            textBytes += utf8Length(issue.title()) + utf8Length(issue.body());
+        }
+        if (textBytes > Integer.MAX_VALUE || labelCount > Integer.MAX_VALUE || assigneeCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Snapshot too large for a columnar segment: "
+                + textBytes + " text bytes, " + labelCount + " labels, " + assigneeCount + " assignees");
+        }
+
+        this.numbers = allocate(n * 4L).asIntBuffer();
+        this.createdAt = allocate(n * 8L).asLongBuffer();
+        this.updatedAt = allocate(n * 8L).asLongBuffer();
+        this.bodyFeatures = allocate(n * 4L).asIntBuffer();
+        this.demoFlags = allocate(n);
+        this.flags = allocate(n);
+        this.states = allocate(n);
+        this.milestones = allocate(n * 4L).asIntBuffer();
+        this.labelOffsets = allocate((n + 1) * 4L).asIntBuffer();
+        this.labelIds = allocate(labelCount * 4).asIntBuffer();
+        this.assigneeOffsets = allocate((n + 1) * 4L).asIntBuffer();
+        this.assigneeIds = allocate(assigneeCount * 4).asIntBuffer();
+        this.textOffsets = allocate((2L * n + 1) * 4).asIntBuffer();
+        this.text = allocate(textBytes);
+
+        int labelPos = 0;
+        int assigneePos = 0;
+        for (int id = 0; id < n; id++) {
+            Issue issue = issues.get(id);
+            numbers.put(id, issue.number());
+            createdAt.put(id, millis(issue.createdAt()));
+            updatedAt.put(id, millis(issue.updatedAt()));
+            bodyFeatures.put(id, issue.bodyFeatures());
+            demoFlags.put(id, (byte) issue.demoFlags());
+            byte f = 0;
+            if (issue.labels() == null) f |= LABELS_NULL;
+            if (issue.assignees() == null) f |= ASSIGNEES_NULL;
+            if (issue.title() == null) f |= TITLE_NULL;
+            if (issue.body() == null) f |= BODY_NULL;
+            flags.put(id, f);
+            int state = issue.state() == null ? NONE : stateDict.id(issue.state(), issue.state());
+            if (state > Byte.MAX_VALUE) throw new IllegalArgumentException("More than 127 distinct issue states");
+            states.put(id, (byte) state);
+            milestones.put(id, issue.milestone() == null ? NONE : milestoneDict.id(issue.milestone(), issue.milestone()));
+
+            labelOffsets.put(id, labelPos);
+            if (issue.labels() != null) {
+                for (Issue.Label label : issue.labels()) {
+                    labelIds.put(labelPos++, labelDict.id(label.name(), label));
+                }
+            }
+            assigneeOffsets.put(id, assigneePos);
+            if (issue.assignees() != null) {
+                for (Issue.Assignee assignee : issue.assignees()) {
+                    assigneeIds.put(assigneePos++, assigneeDict.id(assignee.login(), assignee));
+                }
+            }
+            textOffsets.put(2 * id, text.position());
+            putText(issue.title());
+            textOffsets.put(2 * id + 1, text.position());
+            putText(issue.body());
+        }
+        labelOffsets.put(n, labelPos);
+        assigneeOffsets.put(n, assigneePos);
+        textOffsets.put(2 * n, text.position());
+        if (text.position() != textBytes) {
+            throw new IllegalStateException("UTF-8 length mismatch: " + text.position() + " != " + textBytes);
+        }
+
+        this.labels = labelDict.values.toArray(Issue.Label[]::new);
+        this.assignees = assigneeDict.values.toArray(Issue.Assignee[]::new);
+        this.stateNames = stateDict.values.toArray(String[]::new);
+        this.milestoneValues = milestoneDict.values.toArray(Issue.Milestone[]::new);
+    }
+
+    public static ColumnarIssues of(List<Issue> issues) {
+        return issues instanceof ColumnarIssues columnar ? columnar : new ColumnarIssues(issues);
+    }
+
+    private static ByteBuffer allocate(long bytes) {
+        return ByteBuffer.allocateDirect(Math.toIntExact(bytes)).order(ByteOrder.nativeOrder());
+    }
+
+    private static long millis(Instant instant) {
+        return instant == null ? Long.MIN_VALUE : instant.toEpochMilli();
+    }
+
+    private void putText(String s) {
+        if (s != null && !s.isEmpty()) text.put(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encoded length of {@code s}, matching {@link String#getBytes} (lone surrogates become '?').
+     */
+    private static long utf8Length(String s) {
+        if (s == null) return 0;
+        long bytes = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                bytes += 1;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private static final class Dictionary<K, V> {
+        private final Map<K, Integer> ids = new HashMap<>();
+        private final List<V> values = new ArrayList<>();
+
+        int id(K key, V value) {
+            return ids.computeIfAbsent(key, k -> {
+                values.add(value);
+                return values.size() - 1;
+            });
+        }
+    }
+
+    // ======================== List view ========================
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Materialize issue {@code id}. Label, assignee and milestone objects are shared with
+     * every other issue that has them.
+     */
+    @Override
+    public Issue get(int id) {
+        return cursor().at(id).toIssue();
+    }
+
+    /**
+     * A new cursor; cursors are cheap but not thread-safe, so use one per thread.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Number of distinct labels (case-sensitive); label ids are {@code 0..labelCount()-1}.
+     */
+    public int labelCount() {
+        return labels.length;
+    }
+
+    public String labelName(int labelId) {
+        return labels[labelId].name();
+    }
+
+    /**
+     * Number of distinct assignee logins; assignee ids are {@code 0..assigneeCount()-1}.
+     */
+    public int assigneeCount() {
+        return assignees.length;
+    }
+
+    public String assigneeLogin(int assigneeId) {
+        return assignees[assigneeId].login();
+    }
+
+    /**
+     * Off-heap bytes held by this snapshot.
+     */
+    public long offHeapBytes() {
+        return 4L * (numbers.capacity() + bodyFeatures.capacity() + milestones.capacity()
+                + labelOffsets.capacity() + labelIds.capacity() + assigneeOffsets.capacity()
+                + assigneeIds.capacity() + textOffsets.capacity())
+            + 8L * (createdAt.capacity() + updatedAt.capacity())
+            + demoFlags.capacity() + flags.capacity() + states.capacity() + text.capacity();
+    }
+
+    /**
+     * Flyweight over one issue at a time: position it with {@link #at} and read columns
+     * without creating an {@link Issue}.
+     */
+    public final class Cursor {
+        private int id;
+
+        private Cursor() {}
+
+        public Cursor at(int id) {
+            this.id = Objects.checkIndex(id, size);
+            return this;
+        }
+
+        public int id() {
+            return id;
+        }
+
+        public int number() {
+            return numbers.get(id);
+        }
+
+        /**
+         * Epoch millis, {@link Long#MIN_VALUE} when absent.
+         */
+        public long createdAtMillis() {
+            return createdAt.get(id);
+        }
+
+        /**
+         * Epoch millis, {@link Long#MIN_VALUE} when absent.
+         */
+        public long updatedAtMillis() {
+            return updatedAt.get(id);
+        }
+
+        public int bodyFeatures() {
+            return bodyFeatures.get(id);
+        }
+
+        public int demoFlags() {
+            return demoFlags.get(id);
+        }
+
+        public String state() {
+            byte state = states.get(id);
+            return state == NONE ? null : stateNames[state];
+        }
+
+        public Issue.Milestone milestone() {
+            int milestone = milestones.get(id);
+            return milestone == NONE ? null : milestoneValues[milestone];
+        }
+
+        public int labelCount() {
+            return labelOffsets.get(id + 1) - labelOffsets.get(id);
+        }
+
+        /**
+         * Dictionary id of the {@code k}-th label (see {@link ColumnarIssues#labelName}).
+         */
+        public int labelId(int k) {
+            return labelIds.get(labelOffsets.get(id) + k);
+        }
+
+        public int assigneeCount() {
+            return assigneeOffsets.get(id + 1) - assigneeOffsets.get(id);
+        }
+
+        /**
+         * Dictionary id of the {@code k}-th assignee (see {@link ColumnarIssues#assigneeLogin}).
+         */
+        public int assigneeId(int k) {
+            return assigneeIds.get(assigneeOffsets.get(id) + k);
+        }
+
+        public String title() {
+            return (flags.get(id) & TITLE_NULL) != 0 ? null : text(2 * id);
+        }
+
+        public String body() {
+            return (flags.get(id) & BODY_NULL) != 0 ? null : text(2 * id + 1);
+        }
+
+        private String text(int column) {
+            int start = textOffsets.get(column);
+            byte[] bytes = new byte[textOffsets.get(column + 1) - start];
+            text.get(start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        public Issue toIssue() {
+            byte f = flags.get(id);
+            List<Issue.Label> labelList = null;
+            if ((f & LABELS_NULL) == 0) {
+                Issue.Label[] out = new Issue.Label[labelCount()];
+                for (int k = 0; k < out.length; k++) out[k] = labels[labelId(k)];
+                labelList = List.of(out);
+            }
+            List<Issue.Assignee> assigneeList = null;
+            if ((f & ASSIGNEES_NULL) == 0) {
+                Issue.Assignee[] out = new Issue.Assignee[assigneeCount()];
+                for (int k = 0; k < out.length; k++) out[k] = assignees[assigneeId(k)];
+                assigneeList = List.of(out);
+            }
+            return new Issue(number(), title(), body(), labelList, assigneeList,
+                instant(createdAtMillis()), instant(updatedAtMillis()), state(), milestone(), bodyFeatures(),
+                demoFlags());
+        }
+
+        private static Instant instant(long millis) {
+            return millis == Long.MIN_VALUE ? null : Instant.ofEpochMilli(millis);
+        }
+    }
+}
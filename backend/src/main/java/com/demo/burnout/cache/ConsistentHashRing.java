@@ -0,0 +1,85 @@
+package com.demo.burnout.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash ring assigning each repo to an ordered list of owner nodes.
+ * The first owner assigns versions; the rest hold replicas.
+ */
+public class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+    private final int nodeCount;
+    private final List<String> sortedNodes;
+
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        if (nodeIds.isEmpty()) {
+            throw new IllegalArgumentException("Hash ring needs at least one node");
+        }
+        for (String node : nodeIds) {
+            for (int v = 0; v < virtualNodes; v++) {
+                ring.put(hash(node + "#" + v), node);
+            }
+        }
+        this.nodeCount = nodeIds.size();
+        this.sortedNodes = nodeIds.stream().distinct().sorted().toList();
+    }
+
+    /**
+     * Small number unique to the node within this ring (its position in node-id order), so
+     * versions assigned by different owners never collide. Every replica configured with
+     * the same peer list agrees on it.
+     */
+    public int slot(String nodeId) {
+        int slot = sortedNodes.indexOf(nodeId);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Node " + nodeId + " is not on the ring");
+        }
+        return slot;
+    }
+
+    /**
+     * Up to {@code count} distinct nodes owning the key, primary first.
+     */
+    public List<String> owners(String key, int count) {
+        int wanted = Math.min(count, nodeCount);
+        List<String> owners = new ArrayList<>(wanted);
+        long h = hash(key);
+        for (Map.Entry<Long, String> e : ring.tailMap(h, true).entrySet()) {
+            if (owners.size() == wanted) return owners;
+            if (!owners.contains(e.getValue())) owners.add(e.getValue());
+        }
+        for (Map.Entry<Long, String> e : ring.entrySet()) {
+            if (owners.size() == wanted) return owners;
+            if (!owners.contains(e.getValue())) owners.add(e.getValue());
+        }
+        return owners;
+    }
+
+    public String primary(String key) {
+        return owners(key, 1).get(0);
+    }
+
+    /**
+     * 64-bit FNV-1a with a murmur finalizer for an even spread of short keys.
+     */
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
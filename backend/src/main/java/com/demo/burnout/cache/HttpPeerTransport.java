@@ -0,0 +1,106 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.Issue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Replica-to-replica transport over the /internal/cache endpoints.
+ * Requests carry the shared cluster secret in {@value #SECRET_HEADER}.
+ */
+public class HttpPeerTransport implements PeerTransport {
+
+    public static final String SECRET_HEADER = "X-Cache-Secret";
+
+    private final Map<String, String> peerUrls;
+    private final String secret;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(2))
+        .build();
+
+    public HttpPeerTransport(Map<String, String> peerUrls, String secret, ObjectMapper objectMapper) {
+        this.peerUrls = peerUrls;
+        this.secret = secret;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public IssueStore.Snapshot forwardPut(String nodeId, String repo, List<Issue> issues, Instant fetchedAt) {
+        HttpResponse<String> response = send(nodeId, "/forward",
+            new ForwardRequest(repo, issues, fetchedAt));
+        return read(nodeId, response, IssueStore.Snapshot.class);
+    }
+
+    @Override
+    public void replicate(String nodeId, IssueStore.Snapshot snapshot) {
+        send(nodeId, "/replica", snapshot);
+    }
+
+    @Override
+    public Optional<IssueStore.Snapshot> fetch(String nodeId, String repo) {
+        HttpResponse<String> response = send(nodeId, "/snapshot?repo=" + encode(repo), null);
+        if (response.statusCode() == 404) return Optional.empty();
+        return Optional.of(read(nodeId, response, IssueStore.Snapshot.class));
+    }
+
+    @Override
+    public long version(String nodeId, String repo) {
+        HttpResponse<String> response = send(nodeId, "/version?repo=" + encode(repo), null);
+        return read(nodeId, response, Long.class);
+    }
+
+    private HttpResponse<String> send(String nodeId, String path, Object body) {
+        String baseUrl = peerUrls.get(nodeId);
+        if (baseUrl == null) {
+            throw new PeerUnavailableException(nodeId, null);
+        }
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/internal/cache" + path))
+                .header(SECRET_HEADER, secret)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(5));
+            request = body == null
+                ? request.GET()
+                : request.POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 500 || response.statusCode() == 401 || response.statusCode() == 403) {
+                throw new PeerUnavailableException(nodeId,
+                    new IOException("HTTP " + response.statusCode()));
+            }
+            return response;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PeerUnavailableException(nodeId, e);
+        } catch (IOException e) {
+            throw new PeerUnavailableException(nodeId, e);
+        }
+    }
+
+    private <T> T read(String nodeId, HttpResponse<String> response, Class<T> type) {
+        try {
+            return objectMapper.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new PeerUnavailableException(nodeId, e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    public record ForwardRequest(String repo, List<Issue> issues, Instant fetchedAt) {}
+}
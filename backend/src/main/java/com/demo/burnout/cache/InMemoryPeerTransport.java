@@ -0,0 +1,109 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.Issue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * In-JVM multi-node stand-in for a replica set. Nodes share this transport and can be
+ * stopped/started, or restarted with empty memory, to exercise failover without any
+ * external services.
+ */
+public class InMemoryPeerTransport implements PeerTransport {
+
+    private final Map<String, ClusteredIssueStore> nodes = new ConcurrentHashMap<>();
+    private final Set<String> down = ConcurrentHashMap.newKeySet();
+    private final ConsistentHashRing ring;
+    private final int replicationFactor;
+    private final Duration remoteTtl;
+    private final LongSupplier millis;
+
+    private InMemoryPeerTransport(ConsistentHashRing ring, int replicationFactor, Duration remoteTtl,
+                                  LongSupplier millis) {
+        this.ring = ring;
+        this.replicationFactor = replicationFactor;
+        this.remoteTtl = remoteTtl;
+        this.millis = millis;
+    }
+
+    /**
+     * Build {@code nodeCount} nodes named node-0..node-(n-1) on one ring.
+     */
+    public static InMemoryPeerTransport cluster(int nodeCount, int replicationFactor, Duration remoteTtl) {
+        return cluster(nodeCount, replicationFactor, remoteTtl, System::currentTimeMillis);
+    }
+
+    /**
+     * As {@link #cluster(int, int, Duration)}, with every node's wall clock read from {@code millis}.
+     */
+    public static InMemoryPeerTransport cluster(int nodeCount, int replicationFactor, Duration remoteTtl,
+                                                LongSupplier millis) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < nodeCount; i++) {
+            ids.add("node-" + i);
+        }
+        InMemoryPeerTransport transport = new InMemoryPeerTransport(
+            new ConsistentHashRing(ids, 64), replicationFactor, remoteTtl, millis);
+        for (String id : ids) {
+            transport.restart(id);
+        }
+        return transport;
+    }
+
+    public ClusteredIssueStore node(String nodeId) {
+        return nodes.get(nodeId);
+    }
+
+    public void stop(String nodeId) {
+        down.add(nodeId);
+    }
+
+    public void start(String nodeId) {
+        down.remove(nodeId);
+    }
+
+    /**
+     * Replace the node with a fresh one holding nothing, as after a process restart.
+     */
+    public void restart(String nodeId) {
+        nodes.put(nodeId, new ClusteredIssueStore(nodeId, ring, replicationFactor, this, remoteTtl,
+            System::nanoTime, millis));
+        down.remove(nodeId);
+    }
+
+    @Override
+    public IssueStore.Snapshot forwardPut(String nodeId, String repo, List<Issue> issues, Instant fetchedAt) {
+        return reachable(nodeId).acceptForwarded(repo, List.copyOf(issues), fetchedAt);
+    }
+
+    @Override
+    public void replicate(String nodeId, IssueStore.Snapshot snapshot) {
+        reachable(nodeId).acceptReplica(snapshot);
+    }
+
+    @Override
+    public Optional<IssueStore.Snapshot> fetch(String nodeId, String repo) {
+        return reachable(nodeId).localSnapshot(repo);
+    }
+
+    @Override
+    public long version(String nodeId, String repo) {
+        return reachable(nodeId).localVersion(repo);
+    }
+
+    private ClusteredIssueStore reachable(String nodeId) {
+        ClusteredIssueStore node = nodes.get(nodeId);
+        if (node == null || down.contains(nodeId)) {
+            throw new PeerUnavailableException(nodeId, null);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,519 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.BodyFeatures;
+import com.demo.burnout.model.Classification;
+import com.demo.burnout.model.DemoFlags;
+import com.demo.burnout.model.Issue;
+import com.demo.burnout.model.OfficeHours;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * Roaring-bitmap secondary indexes over one issue snapshot.
+ *
+ * Issues are identified by their position in {@link #issues()}. Every attribute the analysis
+ * filters on (label, assignee, state, milestone, classification, empty body, demo labels) has
+ * a bitmap of the positions that carry it, so questions like "open, assigned to u, quick win,
+ * no body" are ANDs and cardinalities instead of scans. Labels are keyed in lower case,
+ * matching {@link com.demo.burnout.util.LabelUtils}; assignees both as given and in lower case.
+ *
+ * Built once per synced snapshot (see MaterializedViewService) and immutable afterwards.
+ * A {@link ColumnarIssues} snapshot is read through its cursor and kept as is, not copied.
+ * Returned bitmaps are shared; callers combine them with the static {@code RoaringBitmap.and/or}
+ * helpers, which allocate new ones.
+ *
+ * Time-dependent signals (touched today, stale) depend on the read time, so they cannot be
+ * bitmaps. Instead the issues are also kept sorted by updatedAt and by createdAt, and a
+ * window such as "updated in the last hour" is two binary searches; small candidate sets
+ * are checked against the timestamp columns directly. After-hours activity only depends
+ * on the zone, so it is computed once per (office hours, zone) and kept with the index.
+ */
+public final class IssueIndex {
+
+    private static final RoaringBitmap EMPTY = new RoaringBitmap();
+
+    private final List<Issue> issues;
+    private final RoaringBitmap all;
+    private final Map<String, RoaringBitmap> labels;
+    private final Map<String, RoaringBitmap> assignees;
+    private final Map<String, RoaringBitmap> assigneesIgnoreCase;
+    private final Map<String, RoaringBitmap> states;
+    private final Map<String, RoaringBitmap> milestones;
+    private final Map<Classification, RoaringBitmap> classifications;
+    private final RoaringBitmap unassigned;
+    private final RoaringBitmap bodyEmpty;
+    private final RoaringBitmap demo;
+    private final int distinctLabels;
+    private final int[] numbers;
+    private final long[] createdAt;
+    private final long[] updatedAt;
+    private final TimeOrder byUpdated;
+    private final TimeOrder byCreated;
+    private final Map<ZonedHours, RoaringBitmap> outsideOfficeHours = new ConcurrentHashMap<>();
+
+    private record ZonedHours(OfficeHours hours, ZoneId zone) {}
+
+    private IssueIndex(List<Issue> issues, Function<Issue, Classification> classifier) {
+        this.issues = issues instanceof ColumnarIssues ? issues : List.copyOf(issues);
+        int n = issues.size();
+        this.numbers = new int[n];
+        this.createdAt = new long[n];
+        this.updatedAt = new long[n];
+
+        Map<String, RoaringBitmap> labels = new HashMap<>();
+        Map<String, RoaringBitmap> assignees = new HashMap<>();
+        Map<String, RoaringBitmap> assigneesIgnoreCase = new HashMap<>();
+        Map<String, RoaringBitmap> states = new HashMap<>();
+        Map<String, RoaringBitmap> milestones = new HashMap<>();
+        Map<Classification, RoaringBitmap> classifications = new EnumMap<>(Classification.class);
+        RoaringBitmap unassigned = new RoaringBitmap();
+        RoaringBitmap bodyEmpty = new RoaringBitmap();
+        RoaringBitmap demo = new RoaringBitmap();
+        Set<String> labelNames = new HashSet<>();
+
+        if (issues instanceof ColumnarIssues columnar) {
+            // Read the columns directly; only the classifier sees materialized issues
+            String[] labelKeys = new String[columnar.labelCount()];
+            for (int l = 0; l < labelKeys.length; l++) {
+                labelNames.add(columnar.labelName(l));
+                labelKeys[l] = columnar.labelName(l).toLowerCase();
+            }
+            ColumnarIssues.Cursor cursor = columnar.cursor();
+            for (int id = 0; id < n; id++) {
+                cursor.at(id);
+                numbers[id] = cursor.number();
+                createdAt[id] = cursor.createdAtMillis();
+                updatedAt[id] = cursor.updatedAtMillis();
+                for (int k = 0; k < cursor.labelCount(); k++) {
+                    labels.computeIfAbsent(labelKeys[cursor.labelId(k)], key -> new RoaringBitmap()).add(id);
+                }
+                if (DemoFlags.isDemo(cursor.demoFlags())) {
+                    demo.add(id);
+                }
+                if (cursor.assigneeCount() == 0) {
+                    unassigned.add(id);
+                }
+                for (int k = 0; k < cursor.assigneeCount(); k++) {
+                    String login = columnar.assigneeLogin(cursor.assigneeId(k));
+                    assignees.computeIfAbsent(login, key -> new RoaringBitmap()).add(id);
+                    assigneesIgnoreCase.computeIfAbsent(login.toLowerCase(), key -> new RoaringBitmap()).add(id);
+                }
+                String state = cursor.state();
+                if (state != null) {
+                    states.computeIfAbsent(state, key -> new RoaringBitmap()).add(id);
+                }
+                Issue.Milestone milestone = cursor.milestone();
+                if (milestone != null && milestone.title() != null) {
+                    milestones.computeIfAbsent(milestone.title(), key -> new RoaringBitmap()).add(id);
+                }
+                if (BodyFeatures.isBlank(cursor.bodyFeatures())) {
+                    bodyEmpty.add(id);
+                }
+                if (classifier != null) {
+                    classifications.computeIfAbsent(classifier.apply(cursor.toIssue()), key -> new RoaringBitmap()).add(id);
+                }
+            }
+        } else {
+            for (int id = 0; id < n; id++) {
+                Issue issue = issues.get(id);
+                numbers[id] = issue.number();
+                createdAt[id] = millis(issue.createdAt());
+                updatedAt[id] = millis(issue.updatedAt());
+                if (issue.labels() != null) {
+                    for (Issue.Label label : issue.labels()) {
+                        labelNames.add(label.name());
+                        labels.computeIfAbsent(label.name().toLowerCase(), k -> new RoaringBitmap()).add(id);
+                    }
+                }
+                if (DemoFlags.isDemo(issue.demoFlags())) {
+                    demo.add(id);
+                }
+                if (issue.assignees() == null || issue.assignees().isEmpty()) {
+                    unassigned.add(id);
+                } else {
+                    for (Issue.Assignee assignee : issue.assignees()) {
+                        assignees.computeIfAbsent(assignee.login(), k -> new RoaringBitmap()).add(id);
+                        assigneesIgnoreCase.computeIfAbsent(assignee.login().toLowerCase(), k -> new RoaringBitmap()).add(id);
+                    }
+                }
+                if (issue.state() != null) {
+                    states.computeIfAbsent(issue.state(), k -> new RoaringBitmap()).add(id);
+                }
+                if (issue.milestone() != null && issue.milestone().title() != null) {
+                    milestones.computeIfAbsent(issue.milestone().title(), k -> new RoaringBitmap()).add(id);
+                }
+                if (issue.bodyBlank()) {
+                    bodyEmpty.add(id);
+                }
+                if (classifier != null) {
+                    classifications.computeIfAbsent(classifier.apply(issue), k -> new RoaringBitmap()).add(id);
+                }
+            }
+        }
+
+        this.all = RoaringBitmap.bitmapOfRange(0, n);
+        this.labels = optimize(labels);
+        this.assignees = optimize(assignees);
+        this.assigneesIgnoreCase = optimize(assigneesIgnoreCase);
+        this.states = optimize(states);
+        this.milestones = optimize(milestones);
+        classifications.values().forEach(RoaringBitmap::runOptimize);
+        this.classifications = classifier != null ? classifications : null;
+        unassigned.runOptimize();
+        bodyEmpty.runOptimize();
+        demo.runOptimize();
+        this.unassigned = unassigned;
+        this.bodyEmpty = bodyEmpty;
+        this.demo = demo;
+        this.distinctLabels = labelNames.size();
+        this.byUpdated = TimeOrder.of(updatedAt);
+        this.byCreated = TimeOrder.of(createdAt);
+    }
+
+    public static IssueIndex build(List<Issue> issues, Function<Issue, Classification> classifier) {
+        return new IssueIndex(issues, classifier);
+    }
+
+    /**
+     * Index without classification bitmaps, for callers that only need labels and flags.
+     */
+    public static IssueIndex build(List<Issue> issues) {
+        return new IssueIndex(issues, null);
+    }
+
+    private static <K> Map<K, RoaringBitmap> optimize(Map<K, RoaringBitmap> bitmaps) {
+        bitmaps.values().forEach(RoaringBitmap::runOptimize);
+        return bitmaps;
+    }
+
+    private static long millis(Instant instant) {
+        return instant == null ? Long.MIN_VALUE : instant.toEpochMilli();
+    }
+
+    public List<Issue> issues() {
+        return issues;
+    }
+
+    public int size() {
+        return issues.size();
+    }
+
+    public Issue issue(int id) {
+        return issues.get(id);
+    }
+
+    /**
+     * The issues in {@code ids}, in snapshot order.
+     */
+    public List<Issue> issues(RoaringBitmap ids) {
+        Issue[] out = new Issue[ids.getCardinality()];
+        int k = 0;
+        for (var it = ids.getIntIterator(); it.hasNext(); ) {
+            out[k++] = issues.get(it.next());
+        }
+        return List.of(out);
+    }
+
+    public RoaringBitmap all() {
+        return all;
+    }
+
+    public RoaringBitmap label(String name) {
+        return labels.getOrDefault(name.toLowerCase(), EMPTY);
+    }
+
+    /**
+     * Issues carrying at least one of {@code names}.
+     */
+    public RoaringBitmap anyLabel(Collection<String> names) {
+        RoaringBitmap out = new RoaringBitmap();
+        for (String name : names) {
+            out.or(label(name));
+        }
+        return out;
+    }
+
+    /**
+     * Every assignee login in the snapshot, as given.
+     */
+    public Set<String> assigneeLogins() {
+        return Collections.unmodifiableSet(assignees.keySet());
+    }
+
+    public RoaringBitmap assignee(String login) {
+        return assignees.getOrDefault(login, EMPTY);
+    }
+
+    public RoaringBitmap assigneeIgnoreCase(String login) {
+        return assigneesIgnoreCase.getOrDefault(login.toLowerCase(), EMPTY);
+    }
+
+    public RoaringBitmap state(String state) {
+        return states.getOrDefault(state, EMPTY);
+    }
+
+    public RoaringBitmap milestone(String title) {
+        return milestones.getOrDefault(title, EMPTY);
+    }
+
+    public RoaringBitmap classification(Classification c) {
+        return classifications().getOrDefault(c, EMPTY);
+    }
+
+    /**
+     * Classification of one issue, read back from the bitmaps.
+     */
+    public Classification classificationOf(int id) {
+        for (var entry : classifications().entrySet()) {
+            if (entry.getValue().contains(id)) return entry.getKey();
+        }
+        throw new IndexOutOfBoundsException(id);
+    }
+
+    private Map<Classification, RoaringBitmap> classifications() {
+        if (classifications == null) {
+            throw new IllegalStateException("Index was built without a classifier");
+        }
+        return classifications;
+    }
+
+    public RoaringBitmap unassigned() {
+        return unassigned;
+    }
+
+    public RoaringBitmap bodyEmpty() {
+        return bodyEmpty;
+    }
+
+    /**
+     * Issues with any demo:* label; their synthetic-time labels override real timestamps.
+     */
+    public RoaringBitmap demo() {
+        return demo;
+    }
+
+    /**
+     * Number of distinct label names in the snapshot (case-sensitive, as GitHub reports them).
+     */
+    public int distinctLabels() {
+        return distinctLabels;
+    }
+
+    /**
+     * Issue number, read from a column (no issue is materialized).
+     */
+    public int number(int id) {
+        return numbers[id];
+    }
+
+    /**
+     * Epoch millis of createdAt, {@link Long#MIN_VALUE} when absent.
+     */
+    public long createdAt(int id) {
+        return createdAt[id];
+    }
+
+    /**
+     * Epoch millis of updatedAt, {@link Long#MIN_VALUE} when absent.
+     */
+    public long updatedAt(int id) {
+        return updatedAt[id];
+    }
+
+    /**
+     * Members of {@code candidates} updated strictly after {@code cutoff}; missing timestamps
+     * never match. Exact for timestamps with whole-millisecond precision (GitHub's are seconds).
+     */
+    public RoaringBitmap updatedAfter(RoaringBitmap candidates, Instant cutoff) {
+        long floor = cutoff.toEpochMilli();
+        int from = byUpdated.firstAbove(floor);
+        if (!cheaperThanFilter(byUpdated.size() - from, candidates)) {
+            return filter(candidates, id -> updatedAt[id] != Long.MIN_VALUE && updatedAt[id] > floor);
+        }
+        return RoaringBitmap.and(candidates, byUpdated.ids(from, byUpdated.size()));
+    }
+
+    /**
+     * Members of {@code candidates} updated strictly before {@code cutoff}; missing timestamps
+     * never match.
+     */
+    public RoaringBitmap updatedBefore(RoaringBitmap candidates, Instant cutoff) {
+        long ceil = ceilMillis(cutoff);
+        int to = byUpdated.firstAtOrAbove(ceil);
+        if (!cheaperThanFilter(to, candidates)) {
+            return filter(candidates, id -> updatedAt[id] != Long.MIN_VALUE && updatedAt[id] < ceil);
+        }
+        return RoaringBitmap.and(candidates, byUpdated.ids(0, to));
+    }
+
+    /**
+     * Members of {@code candidates} created strictly before {@code cutoff}; missing timestamps
+     * never match.
+     */
+    public RoaringBitmap createdBefore(RoaringBitmap candidates, Instant cutoff) {
+        long ceil = ceilMillis(cutoff);
+        int to = byCreated.firstAtOrAbove(ceil);
+        if (!cheaperThanFilter(to, candidates)) {
+            return filter(candidates, id -> createdAt[id] != Long.MIN_VALUE && createdAt[id] < ceil);
+        }
+        return RoaringBitmap.and(candidates, byCreated.ids(0, to));
+    }
+
+    /**
+     * Members of {@code candidates} without an updatedAt.
+     */
+    public RoaringBitmap updatedMissing(RoaringBitmap candidates) {
+        if (byUpdated.size() == size()) return new RoaringBitmap();
+        return filter(candidates, id -> updatedAt[id] == Long.MIN_VALUE);
+    }
+
+    /**
+     * Issues last updated outside {@code hours} in {@code zone} (none without an updatedAt).
+     * Computed on first use for each (hours, zone) pair and shared afterwards.
+     */
+    public RoaringBitmap updatedOutside(OfficeHours hours, ZoneId zone) {
+        return outsideOfficeHours.computeIfAbsent(new ZonedHours(hours, zone), key -> {
+            ZoneRules rules = zone.getRules();
+            RoaringBitmap out = new RoaringBitmap();
+            for (int id = 0; id < updatedAt.length; id++) {
+                if (updatedAt[id] != Long.MIN_VALUE && hours.outside(updatedAt[id], rules)) out.add(id);
+            }
+            out.runOptimize();
+            return out;
+        });
+    }
+
+    /**
+     * Whether materializing a window of {@code window} sorted positions (a sort of the ids,
+     * ~k log k) beats checking each candidate's timestamp (linear in the candidates).
+     */
+    private static boolean cheaperThanFilter(int window, RoaringBitmap candidates) {
+        long sortCost = (long) window * (32 - Integer.numberOfLeadingZeros(window));
+        return sortCost < candidates.getCardinality();
+    }
+
+    private static long ceilMillis(Instant instant) {
+        long millis = instant.toEpochMilli();
+        return instant.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+    }
+
+    /**
+     * The members of {@code candidates} matching {@code predicate}.
+     */
+    public static RoaringBitmap filter(RoaringBitmap candidates, IntPredicate predicate) {
+        RoaringBitmap out = new RoaringBitmap();
+        for (var it = candidates.getIntIterator(); it.hasNext(); ) {
+            int id = it.next();
+            if (predicate.test(id)) out.add(id);
+        }
+        return out;
+    }
+
+    /**
+     * Whether any member of {@code candidates} matches {@code predicate}; stops at the first.
+     */
+    public static boolean any(RoaringBitmap candidates, IntPredicate predicate) {
+        for (var it = candidates.getIntIterator(); it.hasNext(); ) {
+            if (predicate.test(it.next())) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Positions with a timestamp, sorted by it (ties by position), and the sorted timestamps
+     * alongside for binary search.
+     */
+    private static final class TimeOrder {
+        private final long[] millis;
+        private final int[] ids;
+
+        private TimeOrder(long[] millis, int[] ids) {
+            this.millis = millis;
+            this.ids = ids;
+        }
+
+        static TimeOrder of(long[] column) {
+            int n = 0;
+            for (long t : column) {
+                if (t != Long.MIN_VALUE) n++;
+            }
+            int[] ids = new int[n];
+            int k = 0;
+            for (int id = 0; id < column.length; id++) {
+                if (column[id] != Long.MIN_VALUE) ids[k++] = id;
+            }
+            sort(ids, new int[n], column, 0, n);
+            long[] millis = new long[n];
+            for (int i = 0; i < n; i++) {
+                millis[i] = column[ids[i]];
+            }
+            return new TimeOrder(millis, ids);
+        }
+
+        /**
+         * Stable merge sort of {@code ids[from, to)} by {@code column[id]}.
+         */
+        private static void sort(int[] ids, int[] scratch, long[] column, int from, int to) {
+            if (to - from < 2) return;
+            int mid = (from + to) >>> 1;
+            sort(ids, scratch, column, from, mid);
+            sort(ids, scratch, column, mid, to);
+            if (column[ids[mid - 1]] <= column[ids[mid]]) return;
+            System.arraycopy(ids, from, scratch, from, to - from);
+            int i = from, j = mid, k = from;
+            while (i < mid && j < to) {
+                ids[k++] = column[scratch[j]] < column[scratch[i]] ? scratch[j++] : scratch[i++];
+            }
+            while (i < mid) ids[k++] = scratch[i++];
+            while (j < to) ids[k++] = scratch[j++];
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * First position whose timestamp is greater than {@code t}.
+         */
+        int firstAbove(long t) {
+            return t == Long.MAX_VALUE ? millis.length : firstAtOrAbove(t + 1);
+        }
+
+        /**
+         * First position whose timestamp is at least {@code t}.
+         */
+        int firstAtOrAbove(long t) {
+            int lo = 0, hi = millis.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (millis[mid] < t) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        /**
+         * Positions {@code [from, to)} as a bitmap; sorted first, so the bitmap is built by appending.
+         */
+        RoaringBitmap ids(int from, int to) {
+            int[] window = Arrays.copyOfRange(ids, from, to);
+            Arrays.sort(window);
+            return RoaringBitmap.bitmapOf(window);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.Issue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Pluggable backend behind {@link com.demo.burnout.service.IssueCache}.
+ *
+ * Implementations own versioning: every put produces a strictly increasing version per repo,
+ * including across restarts and across the nodes that may assign it, and reads can demand a
+ * minimum version (read-your-writes after a sync ack).
+ */
+public interface IssueStore {
+
+    /**
+     * Store a new snapshot and return it with its assigned version.
+     */
+    Snapshot put(String repo, List<Issue> issues, Instant fetchedAt);
+
+    /**
+     * Latest snapshot visible to this node, if any.
+     */
+    Optional<Snapshot> get(String repo);
+
+    /**
+     * Snapshot at or above {@code minVersion}. Implementations that replicate may
+     * go to the repo's owner when the local copy is older.
+     */
+    default Optional<Snapshot> get(String repo, long minVersion) {
+        return get(repo).filter(s -> s.version() >= minVersion);
+    }
+
+    /**
+     * Version of the snapshot this node would serve, 0 if none.
+     */
+    default long version(String repo) {
+        return get(repo).map(Snapshot::version).orElse(0L);
+    }
+
+    record Snapshot(String repo, List<Issue> issues, Instant fetchedAt, long version) {}
+}
@@ -0,0 +1,89 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.Issue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Single-JVM store. Default backend, and the per-node storage of {@link ClusteredIssueStore}.
+ *
+ * Snapshots are kept in the form {@code encoding} returns: the list as given by default,
+ * or e.g. {@link ColumnarIssues} for the columnar backend.
+ *
+ * VERSIONS are {@code (tick << NODE_BITS) | node}. The tick is the wall-clock millisecond
+ * (since 2024) times 2^SEQ_BITS, bumped past the previous version when that is higher, so
+ * versions keep increasing across restarts and across clock steps backwards. The node bits
+ * make versions assigned by different owners of a repo distinct, so two snapshots never
+ * share a version. 41 bits of milliseconds plus both fields stay below 2^53 until 2093, so
+ * versions survive JSON clients that read numbers as doubles. More than 2^SEQ_BITS syncs of
+ * one repo in a millisecond just run the tick ahead of the clock.
+ */
+public class LocalIssueStore implements IssueStore {
+
+    static final int NODE_BITS = 6;
+    static final int SEQ_BITS = 6;
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final UnaryOperator<List<Issue>> encoding;
+    private final int node;
+    private final LongSupplier millis;
+
+    public LocalIssueStore() {
+        this(UnaryOperator.identity());
+    }
+
+    public LocalIssueStore(UnaryOperator<List<Issue>> encoding) {
+        this(encoding, 0, System::currentTimeMillis);
+    }
+
+    LocalIssueStore(UnaryOperator<List<Issue>> encoding, int node, LongSupplier millis) {
+        if (node < 0 || node >= 1 << NODE_BITS) {
+            throw new IllegalArgumentException("Node slot " + node + " out of range");
+        }
+        this.encoding = encoding;
+        this.node = node;
+        this.millis = millis;
+    }
+
+    @Override
+    public Snapshot put(String repo, List<Issue> issues, Instant fetchedAt) {
+        return put(repo, issues, fetchedAt, 0);
+    }
+
+    /**
+     * Store a snapshot whose version is above both the local copy and {@code floor}, e.g. the
+     * newest version another owner holds.
+     */
+    public Snapshot put(String repo, List<Issue> issues, Instant fetchedAt, long floor) {
+        List<Issue> encoded = encoding.apply(issues);
+        return snapshots.compute(repo, (r, previous) -> new Snapshot(r, encoded, fetchedAt,
+            nextVersion(Math.max(floor, previous == null ? 0 : previous.version()))));
+    }
+
+    private long nextVersion(long after) {
+        long tick = Math.max((after >>> NODE_BITS) + 1, (millis.getAsLong() - EPOCH_MILLIS) << SEQ_BITS);
+        return (tick << NODE_BITS) | node;
+    }
+
+    @Override
+    public Optional<Snapshot> get(String repo) {
+        return Optional.ofNullable(snapshots.get(repo));
+    }
+
+    /**
+     * Accept a snapshot versioned elsewhere. Older versions never replace newer ones.
+     *
+     * @return the snapshot now held for the repo
+     */
+    public Snapshot accept(Snapshot snapshot) {
+        return snapshots.merge(snapshot.repo(), snapshot,
+            (current, incoming) -> incoming.version() > current.version() ? incoming : current);
+    }
+}
@@ -0,0 +1,40 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.Issue;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * How one node of a {@link ClusteredIssueStore} talks to another.
+ * Every method throws {@link PeerUnavailableException} when the peer cannot be reached.
+ */
+public interface PeerTransport {
+
+    /**
+     * Forward a sync to the repo's primary owner, which assigns the version.
+     */
+    IssueStore.Snapshot forwardPut(String nodeId, String repo, List<Issue> issues, Instant fetchedAt);
+
+    /**
+     * Push an already-versioned snapshot to a replica.
+     */
+    void replicate(String nodeId, IssueStore.Snapshot snapshot);
+
+    /**
+     * Read the snapshot a peer holds for the repo.
+     */
+    Optional<IssueStore.Snapshot> fetch(String nodeId, String repo);
+
+    /**
+     * Version a peer holds for the repo, 0 if none. Cheaper than {@link #fetch}.
+     */
+    long version(String nodeId, String repo);
+
+    class PeerUnavailableException extends RuntimeException {
+        public PeerUnavailableException(String nodeId, Throwable cause) {
+            super("Cache peer " + nodeId + " unavailable", cause);
+        }
+    }
+}
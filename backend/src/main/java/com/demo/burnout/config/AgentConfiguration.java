@@ -4,23 +4,34 @@ import com.azure.core.credential.TokenCredential;
 import com.azure.core.credential.TokenRequestContext;
 import com.azure.identity.DefaultAzureCredentialBuilder;
 import com.demo.burnout.agent.*;
+import com.demo.burnout.jfr.JfrChatModelListener;
+import com.demo.burnout.metrics.ChatModelMetricsListener;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
 import dev.langchain4j.model.openaiofficial.OpenAiOfficialChatModel;
+import dev.langchain4j.model.openaiofficial.OpenAiOfficialStreamingChatModel;
 import dev.langchain4j.service.AiServices;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * LangChain4j Agent Configuration.
  * 
  * Configures AI services with Azure OpenAI integration using managed identity
- * for secure, keyless authentication.
+ * for secure, keyless authentication. Under the {@code stub-llm} profile the chat
+ * models come from {@link StubLlmConfiguration} instead.
  */
 @Configuration
 public class AgentConfiguration {
@@ -44,6 +55,7 @@ public class AgentConfiguration {
      * Supports managed identity in Azure, and falls back to other methods locally.
      */
     @Bean
+    @Profile("!stub-llm")
     public TokenCredential azureCredential() {
         DefaultAzureCredentialBuilder builder = new DefaultAzureCredentialBuilder();
         
@@ -79,10 +91,12 @@ public class AgentConfiguration {
     /**
      * Azure OpenAI Chat Model using OpenAI Official SDK.
      * Uses managed identity token or API key for authentication.
+     * Calls are metered as burnout.llm.*{model="chat"}.
      */
     @Bean
     @Primary
-    public ChatModel azureChatModel(TokenCredential azureCredential) {
+    @Profile("!stub-llm")
+    public ChatModel azureChatModel(TokenCredential azureCredential, MeterRegistry meterRegistry) {
         log.info("Configuring Azure OpenAI with deployment: {} using OpenAI Official SDK", deploymentName);
         String token = getAzureOpenAiToken(azureCredential);
         
@@ -95,6 +109,29 @@ public class AgentConfiguration {
             .timeout(java.time.Duration.ofSeconds(30))
             .temperature(0.3)
             .maxCompletionTokens(1024)
+            .listeners(List.of(new ChatModelMetricsListener(meterRegistry, "chat"), new JfrChatModelListener("chat")))
+            .build();
+    }
+
+    /**
+     * Streaming variant of the chat model, for the SSE endpoints: same deployment and settings,
+     * metered as burnout.llm.*{model="chat-stream"}.
+     */
+    @Bean
+    @Profile("!stub-llm")
+    public StreamingChatModel azureStreamingChatModel(TokenCredential azureCredential, MeterRegistry meterRegistry) {
+        String token = getAzureOpenAiToken(azureCredential);
+
+        return OpenAiOfficialStreamingChatModel.builder()
+            .baseUrl(azureEndpoint)
+            .apiKey(token)
+            .modelName(deploymentName)
+            .isAzure(true)
+            .maxRetries(2)
+            .timeout(java.time.Duration.ofSeconds(30))
+            .temperature(0.3)
+            .maxCompletionTokens(1024)
+            .listeners(List.of(new ChatModelMetricsListener(meterRegistry, "chat-stream"), new JfrChatModelListener("chat-stream")))
             .build();
     }
 
@@ -103,7 +140,8 @@ public class AgentConfiguration {
      * Uses the same deployment but separate instance for planning decisions.
      */
     @Bean("plannerModel")
-    public ChatModel plannerModel(TokenCredential azureCredential) {
+    @Profile("!stub-llm")
+    public ChatModel plannerModel(TokenCredential azureCredential, MeterRegistry meterRegistry) {
         log.info("Configuring Azure OpenAI plannerModel for Supervisor pattern");
         String token = getAzureOpenAiToken(azureCredential);
         
@@ -116,9 +154,19 @@ public class AgentConfiguration {
             .timeout(java.time.Duration.ofSeconds(30))
             .temperature(0.3)
             .maxCompletionTokens(512)
+            .listeners(List.of(new ChatModelMetricsListener(meterRegistry, "planner"), new JfrChatModelListener("planner")))
             .build();
     }
 
+    /**
+     * Threads for streamed agent calls that block until the answer is complete (the
+     * supervisor), one virtual thread per stream.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService agentStreamExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
     /**
      * Chat memory for maintaining conversation context within a session.
      */
@@ -144,10 +192,11 @@ public class AgentConfiguration {
      * Protective AI Service - generates emotionally supportive responses.
      */
     @Bean
-    public ProtectiveAiService protectiveAiService(ChatModel chatModel) {
+    public ProtectiveAiService protectiveAiService(ChatModel chatModel, StreamingChatModel streamingChatModel) {
         log.info("Creating LangChain4j ProtectiveAiService with Azure OpenAI");
         return AiServices.builder(ProtectiveAiService.class)
             .chatModel(chatModel)
+            .streamingChatModel(streamingChatModel)
             .build();
     }
 
@@ -155,10 +204,11 @@ public class AgentConfiguration {
      * Friday Deploy AI Service - assesses deploy readiness.
      */
     @Bean
-    public FridayDeployAiService fridayDeployAiService(ChatModel chatModel) {
+    public FridayDeployAiService fridayDeployAiService(ChatModel chatModel, StreamingChatModel streamingChatModel) {
         log.info("Creating LangChain4j FridayDeployAiService with Azure OpenAI");
         return AiServices.builder(FridayDeployAiService.class)
             .chatModel(chatModel)
+            .streamingChatModel(streamingChatModel)
             .build();
     }
 }
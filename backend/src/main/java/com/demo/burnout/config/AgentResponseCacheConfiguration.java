@@ -0,0 +1,48 @@
+package com.demo.burnout.config;
+
+import com.demo.burnout.agent.AgentResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Disk-backed cache of protective and Friday answers (burnout.llm-cache.enabled, on by default).
+ * Answer age is measured on the system clock, not the injected one: the demo clock is pinned
+ * to a Friday afternoon and would never let an answer expire. Answers are keyed by the Azure
+ * deployment, or by "stub-llm" under that profile, so canned stub answers are never served
+ * once the real model is configured (and answers from one deployment never for another).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "burnout.llm-cache")
+@ConditionalOnProperty(name = "burnout.llm-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class AgentResponseCacheConfiguration {
+
+    private Path path = Path.of("data", "llm-responses.jsonl");
+    private Duration ttl = Duration.ofDays(7);
+    private int variants = 3;
+
+    public Path getPath() { return path; }
+    public void setPath(Path path) { this.path = path; }
+    public Duration getTtl() { return ttl; }
+    public void setTtl(Duration ttl) { this.ttl = ttl; }
+    public int getVariants() { return variants; }
+    public void setVariants(int variants) { this.variants = variants; }
+
+    @Bean
+    public AgentResponseCache agentResponseCache(Environment environment, ObjectMapper objectMapper,
+                                                 MeterRegistry meterRegistry) {
+        String model = environment.acceptsProfiles(Profiles.of("stub-llm"))
+            ? "stub-llm"
+            : environment.getProperty("azure.openai.deployment", "gpt-4o");
+        return new AgentResponseCache(path, model, ttl, variants, Clock.systemUTC(), objectMapper, meterRegistry);
+    }
+}
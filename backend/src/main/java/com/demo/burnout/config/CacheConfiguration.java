@@ -0,0 +1,122 @@
+package com.demo.burnout.config;
+
+import com.demo.burnout.cache.BodyRetention;
+import com.demo.burnout.cache.ClusteredIssueStore;
+import com.demo.burnout.cache.ColumnarIssues;
+import com.demo.burnout.cache.ConsistentHashRing;
+import com.demo.burnout.cache.HttpPeerTransport;
+import com.demo.burnout.cache.IssueStore;
+import com.demo.burnout.cache.LocalIssueStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Issue cache backend selection.
+ *
+ * burnout.cache.backend=local (default) keeps snapshots in this JVM.
+ * burnout.cache.backend=columnar also keeps them in this JVM, encoded as off-heap columns
+ * ({@link ColumnarIssues}) for repos large enough that per-issue objects strain the GC.
+ * burnout.cache.backend=cluster shares them across replicas listed in
+ * burnout.cache.cluster.peers (node id -> base URL, including this node).
+ *
+ * burnout.cache.body-retention=preview drops full issue bodies after ingest and keeps the
+ * first body-preview-chars characters ({@link BodyRetention}). Not with the cluster backend: peers
+ * exchange issues as JSON, which does not carry the body features computed from the full
+ * body, so a replica would re-derive them from the preview.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "burnout.cache")
+public class CacheConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheConfiguration.class);
+
+    private String backend = "local";
+    private ClusterConfig cluster = new ClusterConfig();
+    private BodyRetention bodyRetention = BodyRetention.FULL;
+    private int bodyPreviewChars = 200;
+
+    public String getBackend() { return backend; }
+    public void setBackend(String backend) { this.backend = backend; }
+
+    public BodyRetention getBodyRetention() { return bodyRetention; }
+    public void setBodyRetention(BodyRetention bodyRetention) { this.bodyRetention = bodyRetention; }
+
+    public int getBodyPreviewChars() { return bodyPreviewChars; }
+    public void setBodyPreviewChars(int bodyPreviewChars) {
+        if (bodyPreviewChars < 0) {
+            throw new IllegalArgumentException("burnout.cache.body-preview-chars must be >= 0, got " + bodyPreviewChars);
+        }
+        this.bodyPreviewChars = bodyPreviewChars;
+    }
+
+    public ClusterConfig getCluster() { return cluster; }
+    public void setCluster(ClusterConfig cluster) { this.cluster = cluster; }
+
+    @Bean
+    @ConditionalOnProperty(name = "burnout.cache.backend", havingValue = "local", matchIfMissing = true)
+    public IssueStore localIssueStore() {
+        return new LocalIssueStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "burnout.cache.backend", havingValue = "columnar")
+    public IssueStore columnarIssueStore() {
+        return new LocalIssueStore(ColumnarIssues::of);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "burnout.cache.backend", havingValue = "cluster")
+    public ClusteredIssueStore clusteredIssueStore(ObjectMapper objectMapper) {
+        if (cluster.getPeers().isEmpty() || !cluster.getPeers().containsKey(cluster.getSelfId())) {
+            throw new IllegalStateException(
+                "burnout.cache.cluster.peers must list every replica including self-id " + cluster.getSelfId());
+        }
+        if (cluster.getSecret() == null || cluster.getSecret().isBlank()) {
+            throw new IllegalStateException("burnout.cache.cluster.secret is required for the cluster backend");
+        }
+        if (bodyRetention != BodyRetention.FULL) {
+            throw new IllegalStateException("burnout.cache.body-retention=" + bodyRetention
+                + " is not supported with the cluster cache backend");
+        }
+        log.info("Clustered issue cache: self={}, peers={}, replicationFactor={}",
+            cluster.getSelfId(), cluster.getPeers().keySet(), cluster.getReplicationFactor());
+        return new ClusteredIssueStore(
+            cluster.getSelfId(),
+            new ConsistentHashRing(cluster.getPeers().keySet(), cluster.getVirtualNodes()),
+            cluster.getReplicationFactor(),
+            new HttpPeerTransport(cluster.getPeers(), cluster.getSecret(), objectMapper),
+            cluster.getRemoteTtl()
+        );
+    }
+
+    public static class ClusterConfig {
+        private String selfId = "local";
+        private Map<String, String> peers = new LinkedHashMap<>();
+        private int replicationFactor = 2;
+        private int virtualNodes = 64;
+        private Duration remoteTtl = Duration.ofSeconds(5);
+        private String secret;
+
+        public String getSelfId() { return selfId; }
+        public void setSelfId(String selfId) { this.selfId = selfId; }
+        public Map<String, String> getPeers() { return peers; }
+        public void setPeers(Map<String, String> peers) { this.peers = peers; }
+        public int getReplicationFactor() { return replicationFactor; }
+        public void setReplicationFactor(int replicationFactor) { this.replicationFactor = replicationFactor; }
+        public int getVirtualNodes() { return virtualNodes; }
+        public void setVirtualNodes(int virtualNodes) { this.virtualNodes = virtualNodes; }
+        public Duration getRemoteTtl() { return remoteTtl; }
+        public void setRemoteTtl(Duration remoteTtl) { this.remoteTtl = remoteTtl; }
+        public String getSecret() { return secret; }
+        public void setSecret(String secret) { this.secret = secret; }
+    }
+}
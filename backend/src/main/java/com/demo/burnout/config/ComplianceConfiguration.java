@@ -0,0 +1,50 @@
+package com.demo.burnout.config;
+
+import com.demo.burnout.model.ViolationType;
+import com.demo.burnout.service.ComplianceRules;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 3-3-3 compliance rule overrides.
+ *
+ * burnout.compliance.rules.&lt;TYPE&gt; changes a built-in rule for everyone (severity, min/max,
+ * enabled, metric, texts); burnout.compliance.teams.&lt;team&gt; lists members and rule
+ * overrides applied on top of those. Everything is compiled once at startup.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "burnout.compliance")
+public class ComplianceConfiguration {
+
+    private Map<ViolationType, ComplianceRules.RuleConfig> rules = new EnumMap<>(ViolationType.class);
+    private Map<String, TeamConfig> teams = new LinkedHashMap<>();
+
+    public Map<ViolationType, ComplianceRules.RuleConfig> getRules() { return rules; }
+    public void setRules(Map<ViolationType, ComplianceRules.RuleConfig> rules) { this.rules = rules; }
+    public Map<String, TeamConfig> getTeams() { return teams; }
+    public void setTeams(Map<String, TeamConfig> teams) { this.teams = teams; }
+
+    @Bean
+    public ComplianceRules complianceRules() {
+        Map<String, ComplianceRules.Team> compiled = new LinkedHashMap<>();
+        teams.forEach((name, team) -> compiled.put(name, new ComplianceRules.Team(team.getMembers(), team.getRules())));
+        return ComplianceRules.compile(rules, compiled);
+    }
+
+    public static class TeamConfig {
+        private List<String> members = new ArrayList<>();
+        private Map<ViolationType, ComplianceRules.RuleConfig> rules = new EnumMap<>(ViolationType.class);
+
+        public List<String> getMembers() { return members; }
+        public void setMembers(List<String> members) { this.members = members; }
+        public Map<ViolationType, ComplianceRules.RuleConfig> getRules() { return rules; }
+        public void setRules(Map<ViolationType, ComplianceRules.RuleConfig> rules) { this.rules = rules; }
+    }
+}
@@ -0,0 +1,60 @@
+package com.demo.burnout.config;
+
+import com.demo.burnout.github.GitHubApiClient;
+import com.demo.burnout.github.GitHubMutationExecutor;
+import com.demo.burnout.github.GitHubRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Optional server-side execution of mutation plans (github.executor.enabled=true).
+ * When disabled the extension keeps applying plans itself.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "github.executor")
+@ConditionalOnProperty(name = "github.executor.enabled", havingValue = "true")
+public class GitHubExecutorConfiguration {
+
+    private String apiUrl = "https://api.github.com";
+    private int maxConcurrency = 4;
+    private int maxRetries = 3;
+    private Duration mutationInterval = Duration.ofSeconds(1);
+    private Duration backoffBase = Duration.ofSeconds(60);
+    private Duration serverErrorBackoff = Duration.ofSeconds(1);
+    private Duration maxWait = Duration.ofMinutes(2);
+
+    public String getApiUrl() { return apiUrl; }
+    public void setApiUrl(String apiUrl) { this.apiUrl = apiUrl; }
+    public int getMaxConcurrency() { return maxConcurrency; }
+    public void setMaxConcurrency(int maxConcurrency) { this.maxConcurrency = maxConcurrency; }
+    public int getMaxRetries() { return maxRetries; }
+    public void setMaxRetries(int maxRetries) { this.maxRetries = maxRetries; }
+    public Duration getMutationInterval() { return mutationInterval; }
+    public void setMutationInterval(Duration mutationInterval) { this.mutationInterval = mutationInterval; }
+    public Duration getBackoffBase() { return backoffBase; }
+    public void setBackoffBase(Duration backoffBase) { this.backoffBase = backoffBase; }
+    public Duration getServerErrorBackoff() { return serverErrorBackoff; }
+    public void setServerErrorBackoff(Duration serverErrorBackoff) { this.serverErrorBackoff = serverErrorBackoff; }
+    public Duration getMaxWait() { return maxWait; }
+    public void setMaxWait(Duration maxWait) { this.maxWait = maxWait; }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService githubMutationPool() {
+        return Executors.newFixedThreadPool(maxConcurrency);
+    }
+
+    @Bean
+    public GitHubMutationExecutor gitHubMutationExecutor(ObjectMapper objectMapper) {
+        GitHubApiClient client = new GitHubApiClient(apiUrl,
+            () -> new GitHubRateLimiter(mutationInterval, maxWait), maxRetries, backoffBase, serverErrorBackoff,
+            objectMapper);
+        return new GitHubMutationExecutor(client, githubMutationPool());
+    }
+}
@@ -1,5 +1,6 @@
 package com.demo.burnout.config;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,14 +24,21 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.demo.burnout.actuator.JfrEndpoint;
+import com.demo.burnout.cache.HttpPeerTransport;
+import com.demo.burnout.metrics.PipelineMetrics;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.time.Duration;
 import java.util.Iterator;
 import java.util.List;
@@ -46,11 +54,26 @@ public class SecurityConfig {
     @Value("${security.enabled:true}")
     private boolean securityEnabled;
 
+    @Value("${burnout.cache.cluster.secret:}")
+    private String clusterSecret;
+
+    @Value("${burnout.jfr.operator-secret:}")
+    private String operatorSecret;
+
     // Cache validated tokens for 5 minutes to avoid hitting GitHub API on every request
     private final Map<String, CachedAuth> tokenCache = new ConcurrentHashMap<>();
     private static final Duration CACHE_DURATION = Duration.ofMinutes(5);
     private static final int MAX_CACHE_SIZE = 1000;
     private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String[] PUBLIC_ACTUATOR = {
+        "/actuator/health", "/actuator/health/**", "/actuator/info"
+    };
+
+    private final PipelineMetrics metrics;
+
+    public SecurityConfig(PipelineMetrics metrics) {
+        this.metrics = metrics;
+    }
 
     record CachedAuth(String username, long expiresAt) {
         boolean isExpired() {
@@ -65,12 +88,22 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                // Health endpoints are public (for Azure probes)
-                .requestMatchers("/actuator/**").permitAll()
+                // Async dispatch of an already authorized request (SSE streams completing)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                // Health and info are public (for Azure probes)
+                .requestMatchers(PUBLIC_ACTUATOR).permitAll()
+                // One global JFR recording; operators only, whatever security.enabled says
+                .requestMatchers("/actuator/jfr", "/actuator/jfr/**").hasRole("OPERATOR")
+                // Metrics and view stats expose repo names and traffic; require a token
+                .requestMatchers("/actuator/**").authenticated()
                 // OPTIONS requests for CORS preflight
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 // All API endpoints require authentication
                 .requestMatchers("/api/**").authenticated()
+                // Cache replication between backend replicas
+                .requestMatchers("/internal/**").hasRole("CACHE_PEER")
+                // Error dispatch, so rejected API requests keep their 4xx status
+                .requestMatchers("/error").permitAll()
                 .anyRequest().denyAll()
             )
             .addFilterBefore(githubTokenFilter(), UsernamePasswordAuthenticationFilter.class);
@@ -111,7 +144,34 @@ public class SecurityConfig {
                 
                 // Skip auth for health endpoints
                 String path = request.getRequestURI();
-                if (path.startsWith("/actuator")) {
+                if (path.equals("/actuator/health") || path.startsWith("/actuator/health/")
+                        || path.equals("/actuator/info")) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                // Replica-to-replica cache traffic authenticates with the shared cluster secret
+                if (path.startsWith("/internal/")) {
+                    if (!matches(clusterSecret, request.getHeader(HttpPeerTransport.SECRET_HEADER))) {
+                        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+                        return;
+                    }
+                    var auth = new UsernamePasswordAuthenticationToken(
+                        "cache-peer", null, List.of(new SimpleGrantedAuthority("ROLE_CACHE_PEER")));
+                    SecurityContextHolder.getContext().setAuthentication(auth);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                // JFR recordings authenticate with the operator secret
+                if (path.equals("/actuator/jfr") || path.startsWith("/actuator/jfr/")) {
+                    if (!matches(operatorSecret, request.getHeader(JfrEndpoint.OPERATOR_HEADER))) {
+                        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+                        return;
+                    }
+                    var auth = new UsernamePasswordAuthenticationToken(
+                        "operator", null, List.of(new SimpleGrantedAuthority("ROLE_OPERATOR")));
+                    SecurityContextHolder.getContext().setAuthentication(auth);
                     filterChain.doFilter(request, response);
                     return;
                 }
@@ -142,6 +202,7 @@ public class SecurityConfig {
                 CachedAuth cached = tokenCache.get(token);
                 if (cached != null && !cached.isExpired()) {
                     log.debug("Using cached auth for user: {}", cached.username());
+                    metrics.tagRequest("burnout.auth", "cached");
                     var auth = new UsernamePasswordAuthenticationToken(
                         cached.username(), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
                     SecurityContextHolder.getContext().setAuthentication(auth);
@@ -160,7 +221,7 @@ public class SecurityConfig {
                         .GET()
                         .build();
 
-                    HttpResponse<String> ghResponse = httpClient.send(ghRequest, HttpResponse.BodyHandlers.ofString());
+                    HttpResponse<String> ghResponse = validate(ghRequest);
 
                     if (ghResponse.statusCode() == 200) {
                         // Extract username from response (simple JSON parsing)
@@ -198,6 +259,25 @@ public class SecurityConfig {
                 }
             }
 
+            /**
+             * GitHub /user call, traced as its own span so slow validations show up
+             * under the request that paid for them.
+             */
+            private HttpResponse<String> validate(HttpRequest ghRequest) throws IOException, InterruptedException {
+                Tracer tracer = metrics.tracer();
+                Span span = tracer.nextSpan().name("github-token-validation").start();
+                try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                    HttpResponse<String> ghResponse = httpClient.send(ghRequest, HttpResponse.BodyHandlers.ofString());
+                    span.tag("http.response.status_code", String.valueOf(ghResponse.statusCode()));
+                    return ghResponse;
+                } catch (IOException | InterruptedException | RuntimeException e) {
+                    span.error(e);
+                    throw e;
+                } finally {
+                    span.end();
+                }
+            }
+
             private String extractJsonField(String json, String field) {
                 try {
                     JsonNode node = objectMapper.readTree(json);
@@ -211,6 +291,15 @@ public class SecurityConfig {
         };
     }
 
+    /**
+     * Whether {@code given} equals the configured {@code secret}, in constant time; never
+     * when no secret is configured.
+     */
+    private static boolean matches(String secret, String given) {
+        return !secret.isEmpty() && given != null && MessageDigest.isEqual(
+            secret.getBytes(StandardCharsets.UTF_8), given.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * Remove expired entries from the token cache to prevent memory leaks.
      */
@@ -0,0 +1,80 @@
+package com.demo.burnout.config;
+
+import com.demo.burnout.agent.StubChatModel;
+import com.demo.burnout.agent.StubStreamingChatModel;
+import com.demo.burnout.jfr.JfrChatModelListener;
+import com.demo.burnout.metrics.ChatModelMetricsListener;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Offline chat models for load tests (profile {@code stub-llm}).
+ * Replaces the Azure OpenAI beans; no credentials or network access needed.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "burnout.stub-llm")
+@Profile("stub-llm")
+public class StubLlmConfiguration {
+
+    private Duration medianLatency = Duration.ofMillis(800);
+    private Duration p99Latency = Duration.ofSeconds(4);
+    private Duration plannerMedianLatency = Duration.ofMillis(400);
+    private Duration plannerP99Latency = Duration.ofSeconds(2);
+    private double errorRate = 0.0;
+    private int charsPerToken = 4;
+    private List<String> script = List.of("classifyIssue", "deferIssue", "assessWellness");
+    private long seed = 42;
+
+    public Duration getMedianLatency() { return medianLatency; }
+    public void setMedianLatency(Duration medianLatency) { this.medianLatency = medianLatency; }
+    public Duration getP99Latency() { return p99Latency; }
+    public void setP99Latency(Duration p99Latency) { this.p99Latency = p99Latency; }
+    public Duration getPlannerMedianLatency() { return plannerMedianLatency; }
+    public void setPlannerMedianLatency(Duration plannerMedianLatency) { this.plannerMedianLatency = plannerMedianLatency; }
+    public Duration getPlannerP99Latency() { return plannerP99Latency; }
+    public void setPlannerP99Latency(Duration plannerP99Latency) { this.plannerP99Latency = plannerP99Latency; }
+    public double getErrorRate() { return errorRate; }
+    public void setErrorRate(double errorRate) { this.errorRate = errorRate; }
+    public int getCharsPerToken() { return charsPerToken; }
+    public void setCharsPerToken(int charsPerToken) { this.charsPerToken = charsPerToken; }
+    public List<String> getScript() { return script; }
+    public void setScript(List<String> script) { this.script = script; }
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    @Bean
+    @Primary
+    public ChatModel stubChatModel(MeterRegistry meterRegistry) {
+        return new StubChatModel("stub-chat",
+            new StubChatModel.Settings(medianLatency, p99Latency, errorRate, charsPerToken, script, seed),
+            List.of(new ChatModelMetricsListener(meterRegistry, "chat"), new JfrChatModelListener("chat")));
+    }
+
+    /**
+     * Streaming counterpart of the chat model, metered as model "chat-stream".
+     */
+    @Bean
+    public StreamingChatModel stubStreamingChatModel(MeterRegistry meterRegistry) {
+        StubChatModel answers = new StubChatModel("stub-chat-stream",
+            new StubChatModel.Settings(medianLatency, p99Latency, errorRate, charsPerToken, script, seed + 2),
+            List.of());
+        return new StubStreamingChatModel(answers, charsPerToken,
+            List.of(new ChatModelMetricsListener(meterRegistry, "chat-stream"), new JfrChatModelListener("chat-stream")));
+    }
+
+    @Bean("plannerModel")
+    public ChatModel plannerModel(MeterRegistry meterRegistry) {
+        return new StubChatModel("stub-planner",
+            new StubChatModel.Settings(plannerMedianLatency, plannerP99Latency, errorRate, charsPerToken, script, seed + 1),
+            List.of(new ChatModelMetricsListener(meterRegistry, "planner"), new JfrChatModelListener("planner")));
+    }
+}
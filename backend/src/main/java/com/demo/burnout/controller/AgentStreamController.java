@@ -0,0 +1,162 @@
+package com.demo.burnout.controller;
+
+import com.demo.burnout.agent.AgentOrchestrator;
+import com.demo.burnout.agent.AgentStream;
+import com.demo.burnout.agent.supervisor.BurnoutSupervisorService;
+import com.demo.burnout.model.ChaosMetrics;
+import com.demo.burnout.model.ComplianceReport;
+import com.demo.burnout.model.WorldState;
+import com.demo.burnout.service.MaterializedViewService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Server-sent event versions of the agent answers, so clients show text as soon as there is
+ * some instead of waiting for the whole completion.
+ *
+ * Every stream starts with a {@code fallback} event carrying the deterministic answer, then
+ * {@code token} events with LLM text as it is generated, and ends with one {@code complete}
+ * event: {@code {"result": ..., "llmUsed": ...}}. With llmUsed = false the result is the
+ * fallback and earlier tokens should be discarded. Event data is always one line of JSON
+ * (tokens are JSON strings), so text with line breaks cannot split an event. A repo that has
+ * not been synced gets a single {@code not_synced} event.
+ */
+@RestController
+@RequestMapping("/api/stream")
+@CrossOrigin(origins = "*")
+public class AgentStreamController {
+
+    private static final Logger log = LoggerFactory.getLogger(AgentStreamController.class);
+
+    /** Covers the supervisor's several model calls, each with its own 30s timeout. */
+    private static final Duration TIMEOUT = Duration.ofMinutes(3);
+
+    private final MaterializedViewService viewService;
+    private final AgentOrchestrator agentOrchestrator;
+    private final BurnoutSupervisorService supervisorService;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper;
+
+    public AgentStreamController(MaterializedViewService viewService,
+                                 AgentOrchestrator agentOrchestrator,
+                                 BurnoutSupervisorService supervisorService,
+                                 @Qualifier("agentStreamExecutor") ExecutorService executor,
+                                 ObjectMapper objectMapper) {
+        this.viewService = viewService;
+        this.agentOrchestrator = agentOrchestrator;
+        this.supervisorService = supervisorService;
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping(path = "/protective", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter protective(@RequestParam String repo, @RequestParam String userId) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT.toMillis());
+        var userView = viewService.userView(repo, userId);
+        if (userView == null) {
+            return notSynced(emitter);
+        }
+        agentOrchestrator.streamProtectiveResponse(userView.state(), 0, new SseAgentStream<>(emitter, objectMapper));
+        return emitter;
+    }
+
+    @GetMapping(path = "/friday", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter friday(@RequestParam String repo, @RequestParam String userId) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT.toMillis());
+        var repoView = viewService.repoView(repo);
+        if (repoView == null) {
+            return notSynced(emitter);
+        }
+        ChaosMetrics chaos = repoView.chaos();
+        var userView = viewService.userView(repo, userId);
+        ComplianceReport compliance = userView.compliance();
+        WorldState state = userView.state();
+        int criticalOpen = RoaringBitmap.andCardinality(
+            repoView.index().label("priority:critical"), repoView.index().state("open"));
+
+        agentOrchestrator.streamFridayDeploy(state, compliance,
+            FridayScoreController.score(chaos, compliance),
+            criticalOpen,
+            (int) chaos.unresolvedUrgent(),
+            state.deepWorkCount() == 0,
+            chaos.score(),
+            new SseAgentStream<>(emitter, objectMapper));
+        return emitter;
+    }
+
+    @GetMapping(path = "/supervisor", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter supervisor(@RequestParam String repo, @RequestParam String userId) {
+        SseEmitter emitter = new SseEmitter(TIMEOUT.toMillis());
+        var repoView = viewService.repoView(repo);
+        if (repoView == null) {
+            return notSynced(emitter);
+        }
+        var userView = viewService.userView(repo, userId);
+        executor.execute(() -> supervisorService.streamPreventBurnout(
+            userView.state(), repoView.issues(), userId, repo, repoView.chaos(), userView.baseline(),
+            new SseAgentStream<>(emitter, objectMapper)));
+        return emitter;
+    }
+
+    private SseEmitter notSynced(SseEmitter emitter) {
+        new SseAgentStream<>(emitter, objectMapper).send("not_synced", "Issues not synced");
+        emitter.complete();
+        return emitter;
+    }
+
+    public record Completed<T>(T result, boolean llmUsed) {}
+
+    /**
+     * Writes stream callbacks as SSE events. Once the client has gone, further events are
+     * dropped rather than failing the model thread.
+     */
+    private static final class SseAgentStream<T> implements AgentStream<T> {
+        private final SseEmitter emitter;
+        private final ObjectMapper objectMapper;
+        private volatile boolean closed;
+
+        SseAgentStream(SseEmitter emitter, ObjectMapper objectMapper) {
+            this.emitter = emitter;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public void fallback(T fallback) {
+            send("fallback", fallback);
+        }
+
+        @Override
+        public void token(String token) {
+            send("token", token);
+        }
+
+        @Override
+        public void complete(T result, boolean llmUsed) {
+            send("complete", new Completed<>(result, llmUsed));
+            if (!closed) {
+                closed = true;
+                emitter.complete();
+            }
+        }
+
+        void send(String event, Object data) {
+            if (closed) return;
+            try {
+                emitter.send(SseEmitter.event().name(event).data(objectMapper.writeValueAsString(data)));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping {} event, client disconnected: {}", event, e.getMessage());
+                closed = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.demo.burnout.controller;
+
+import com.demo.burnout.cache.ClusteredIssueStore;
+import com.demo.burnout.cache.HttpPeerTransport;
+import com.demo.burnout.cache.IssueStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Peer endpoints for the clustered issue cache. Only reachable with the shared
+ * cluster secret (see SecurityConfig); never called by the extension.
+ */
+@RestController
+@RequestMapping("/internal/cache")
+@ConditionalOnProperty(name = "burnout.cache.backend", havingValue = "cluster")
+public class CacheReplicationController {
+
+    private final ClusteredIssueStore store;
+
+    public CacheReplicationController(ClusteredIssueStore store) {
+        this.store = store;
+    }
+
+    @PostMapping("/forward")
+    public IssueStore.Snapshot forward(@RequestBody HttpPeerTransport.ForwardRequest req) {
+        return store.acceptForwarded(req.repo(), req.issues(), req.fetchedAt());
+    }
+
+    @PostMapping("/replica")
+    public void replica(@RequestBody IssueStore.Snapshot snapshot) {
+        store.acceptReplica(snapshot);
+    }
+
+    @GetMapping("/snapshot")
+    public ResponseEntity<IssueStore.Snapshot> snapshot(@RequestParam String repo) {
+        return ResponseEntity.of(store.localSnapshot(repo));
+    }
+
+    @GetMapping("/version")
+    public long version(@RequestParam String repo) {
+        return store.localVersion(repo);
+    }
+}
@@ -1,8 +1,7 @@
 package com.demo.burnout.controller;
 
 import com.demo.burnout.model.ChaosMetrics;
-import com.demo.burnout.service.ChaosMetricsService;
-import com.demo.burnout.service.IssueCache;
+import com.demo.burnout.service.MaterializedViewService;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -10,21 +9,19 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "*")
 public class ChaosController {
     
-    private final IssueCache issueCache;
-    private final ChaosMetricsService chaosMetricsService;
+    private final MaterializedViewService viewService;
 
-    public ChaosController(IssueCache issueCache, ChaosMetricsService chaosMetricsService) {
-        this.issueCache = issueCache;
-        this.chaosMetricsService = chaosMetricsService;
+    public ChaosController(MaterializedViewService viewService) {
+        this.viewService = viewService;
     }
 
     @GetMapping("/chaos")
     public ChaosResponse chaos(@RequestParam String repo) {
-        if (!issueCache.hasRepo(repo)) {
+        var view = viewService.repoView(repo);
+        if (view == null) {
             return ChaosResponse.notSynced();
         }
-        ChaosMetrics metrics = chaosMetricsService.calculate(issueCache.get(repo));
-        return ChaosResponse.from(metrics);
+        return ChaosResponse.from(view.chaos());
     }
 
     public record ChaosResponse(
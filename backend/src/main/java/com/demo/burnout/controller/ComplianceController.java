@@ -1,8 +1,7 @@
 package com.demo.burnout.controller;
 
 import com.demo.burnout.model.ComplianceReport;
-import com.demo.burnout.service.ComplianceService;
-import com.demo.burnout.service.IssueCache;
+import com.demo.burnout.service.MaterializedViewService;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -10,19 +9,18 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin(origins = "*")
 public class ComplianceController {
     
-    private final IssueCache issueCache;
-    private final ComplianceService complianceService;
+    private final MaterializedViewService viewService;
 
-    public ComplianceController(IssueCache issueCache, ComplianceService complianceService) {
-        this.issueCache = issueCache;
-        this.complianceService = complianceService;
+    public ComplianceController(MaterializedViewService viewService) {
+        this.viewService = viewService;
     }
 
     @GetMapping("/compliance")
     public ComplianceReport compliance(@RequestParam String repo, @RequestParam String userId) {
-        if (!issueCache.hasRepo(repo)) {
+        var view = viewService.userView(repo, userId);
+        if (view == null) {
             return ComplianceReport.notSynced();
         }
-        return complianceService.analyze(issueCache.get(repo), userId);
+        return view.compliance();
     }
 }
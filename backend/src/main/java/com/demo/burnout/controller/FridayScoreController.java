@@ -1,45 +1,51 @@
 package com.demo.burnout.controller;
 
 import com.demo.burnout.model.ChaosMetrics;
-import com.demo.burnout.model.Issue;
-import com.demo.burnout.service.ChaosMetricsService;
-import com.demo.burnout.service.ComplianceService;
-import com.demo.burnout.service.IssueCache;
+import com.demo.burnout.model.ComplianceReport;
+import com.demo.burnout.service.MaterializedViewService;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Clock;
-import java.util.List;
-
 @RestController
 @RequestMapping("/api")
 @CrossOrigin(origins = "*")
 public class FridayScoreController {
     
-    private final IssueCache issueCache;
-    private final ChaosMetricsService chaosMetricsService;
-    private final ComplianceService complianceService;
-    private final Clock clock;
+    private final MaterializedViewService viewService;
 
-    public FridayScoreController(IssueCache issueCache, 
-                                 ChaosMetricsService chaosMetricsService,
-                                 ComplianceService complianceService,
-                                 Clock clock) {
-        this.issueCache = issueCache;
-        this.chaosMetricsService = chaosMetricsService;
-        this.complianceService = complianceService;
-        this.clock = clock;
+    public FridayScoreController(MaterializedViewService viewService) {
+        this.viewService = viewService;
     }
 
     @GetMapping("/friday-score")
     public FridayScoreResponse fridayScore(@RequestParam String repo, 
                                             @RequestParam(defaultValue = "") String userId) {
-        if (!issueCache.hasRepo(repo)) {
+        var view = viewService.repoView(repo);
+        if (view == null) {
             return FridayScoreResponse.notSynced();
         }
         
-        List<Issue> issues = issueCache.get(repo);
-        ChaosMetrics chaos = chaosMetricsService.calculate(issues, clock);
+        ChaosMetrics chaos = view.chaos();
+        
+        // Compliance check if userId provided
+        ComplianceReport compliance = userId != null && !userId.isEmpty()
+            ? viewService.userView(repo, userId).compliance()
+            : null;
+        int score = score(chaos, compliance);
         
+        return new FridayScoreResponse(
+            score,
+            status(score),
+            chaos.score(),
+            chaos.unresolvedUrgent(),
+            chaos.afterHoursSignal(),
+            FridayScoreResponse.SCHEMA_VERSION
+        );
+    }
+
+    /**
+     * Friday deploy readiness (0-100). {@code compliance} may be null when no user is given.
+     */
+    static int score(ChaosMetrics chaos, ComplianceReport compliance) {
         int score = 100;
         
         // -20 for chaos > 5
@@ -57,22 +63,13 @@ public class FridayScoreController {
         // -10 for mystery meat
         if (chaos.mysteryMeatCount() > 3) score -= 10;
         
-        // Compliance check if userId provided
-        if (userId != null && !userId.isEmpty()) {
-            var compliance = complianceService.analyze(issues, userId);
-            if (!compliance.isCompliant()) score -= 15;
-        }
-        
-        score = Math.max(0, score);
+        if (compliance != null && !compliance.isCompliant()) score -= 15;
         
-        return new FridayScoreResponse(
-            score,
-            score >= 80 ? "READY" : score >= 50 ? "CAUTION" : "NOT_READY",
-            chaos.score(),
-            chaos.unresolvedUrgent(),
-            chaos.afterHoursSignal(),
-            FridayScoreResponse.SCHEMA_VERSION
-        );
+        return Math.max(0, score);
+    }
+
+    static String status(int score) {
+        return score >= 80 ? "READY" : score >= 50 ? "CAUTION" : "NOT_READY";
     }
 
     public record FridayScoreResponse(
@@ -0,0 +1,90 @@
+package com.demo.burnout.controller;
+
+import com.demo.burnout.service.IssueQuery;
+import com.demo.burnout.service.IssueQueryService;
+import com.demo.burnout.service.MaterializedViewService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GET /api/issues/query - filtered, sorted, projected pages of a synced repo, so clients
+ * no longer download whole repos to filter them.
+ *
+ * q: filter expression ({@link IssueQuery}), e.g. {@code assignee:alice class:quick-win is:body-empty}.
+ * sort: priority (day plan order, default), updated, -updated, created, -created, number, -number.
+ * fields: comma-separated projection (default number,title,labels,assignees,state,updatedAt).
+ * limit / cursor: page size and the nextCursor of the previous page.
+ */
+@RestController
+@RequestMapping("/api/issues")
+@CrossOrigin(origins = "*")
+public class IssueQueryController {
+
+    private final MaterializedViewService viewService;
+    private final IssueQueryService queryService;
+    private final int maxLimit;
+
+    public IssueQueryController(MaterializedViewService viewService,
+                                IssueQueryService queryService,
+                                @Value("${burnout.query.max-limit:500}") int maxLimit) {
+        this.viewService = viewService;
+        this.queryService = queryService;
+        this.maxLimit = maxLimit;
+    }
+
+    @GetMapping("/query")
+    public QueryResponse query(@RequestParam String repo,
+                               @RequestParam(required = false) String q,
+                               @RequestParam(required = false) String sort,
+                               @RequestParam(required = false) String fields,
+                               @RequestParam(defaultValue = "50") int limit,
+                               @RequestParam(required = false) String cursor) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + maxLimit);
+        }
+        IssueQuery filter;
+        IssueQueryService.Sort order;
+        List<String> projection = fields == null || fields.isBlank() ? IssueQueryService.DEFAULT_FIELDS
+            : Arrays.stream(fields.split(",")).map(String::trim).filter(f -> !f.isEmpty()).distinct().toList();
+        try {
+            filter = IssueQuery.parse(q);
+            order = IssueQueryService.Sort.parse(sort);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        var view = viewService.repoView(repo);
+        if (view == null) {
+            return QueryResponse.notSynced(repo);
+        }
+        try {
+            var page = queryService.query(view, filter, order, projection, limit, cursor);
+            return new QueryResponse("ok", repo, view.version(), page.total(), page.items(), page.nextCursor(),
+                QueryResponse.SCHEMA_VERSION);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    public record QueryResponse(
+        String status,
+        String repo,
+        long version,
+        int total,
+        List<Map<String, Object>> items,
+        String nextCursor,
+        int schemaVersion
+    ) {
+        public static final int SCHEMA_VERSION = 1;
+
+        public static QueryResponse notSynced(String repo) {
+            return new QueryResponse("not_synced", repo, 0, 0, List.of(), null, SCHEMA_VERSION);
+        }
+    }
+}
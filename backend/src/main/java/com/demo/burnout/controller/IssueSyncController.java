@@ -1,7 +1,9 @@
 package com.demo.burnout.controller;
 
+import com.demo.burnout.jfr.IssueSyncEvent;
 import com.demo.burnout.model.Issue;
 import com.demo.burnout.service.IssueCache;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
@@ -21,14 +23,25 @@ public class IssueSyncController {
     }
 
     @PostMapping("/sync")
-    public SyncAck sync(@RequestBody IssueSyncRequest req) {
+    public SyncAck sync(@RequestBody IssueSyncRequest req, HttpServletRequest http) {
         if (req.schemaVersion() != IssueSyncRequest.SCHEMA_VERSION) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                 "Schema version mismatch: expected " + IssueSyncRequest.SCHEMA_VERSION + 
                 ", got " + req.schemaVersion());
         }
+        IssueSyncEvent event = new IssueSyncEvent();
+        event.begin();
         issueCache.put(req.repo(), req.issues(), req.fetchedAt());
-        return new SyncAck(req.repo(), req.issues().size(), req.fetchedAt(), issueCache.getVersion(req.repo()));
+        long version = issueCache.getVersion(req.repo());
+        event.end();
+        if (event.shouldCommit()) {
+            event.repo = req.repo();
+            event.issueCount = req.issues().size();
+            event.bytes = http.getContentLengthLong();
+            event.version = version;
+            event.commit();
+        }
+        return new SyncAck(req.repo(), req.issues().size(), req.fetchedAt(), version);
     }
 
     public record IssueSyncRequest(String repo, List<Issue> issues, Instant fetchedAt, int schemaVersion) {
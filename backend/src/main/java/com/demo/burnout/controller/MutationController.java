@@ -0,0 +1,52 @@
+package com.demo.burnout.controller;
+
+import com.demo.burnout.github.GitHubMutationExecutor;
+import com.demo.burnout.goap.GitHubMutationPlan;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.regex.Pattern;
+
+/**
+ * POST /api/mutations/execute - apply a mutation plan server-side with the caller's
+ * GitHub token, returning per-action outcomes. Only present when github.executor.enabled=true.
+ */
+@RestController
+@RequestMapping("/api/mutations")
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(name = "github.executor.enabled", havingValue = "true")
+public class MutationController {
+
+    /** owner/name as GitHub allows them; the repo is spliced into API paths. */
+    private static final Pattern REPO = Pattern.compile("^[A-Za-z0-9_.-]+/[A-Za-z0-9_.-]+$");
+
+    private final GitHubMutationExecutor executor;
+
+    public MutationController(GitHubMutationExecutor executor) {
+        this.executor = executor;
+    }
+
+    @PostMapping("/execute")
+    public GitHubMutationExecutor.ExecutionReport execute(
+            @RequestBody GitHubMutationPlan plan,
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "A GitHub token is required to execute mutations");
+        }
+        if (!isRepo(plan.repo())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Plan repo must be owner/name");
+        }
+        return executor.execute(plan, authorization.substring(7));
+    }
+
+    static boolean isRepo(String repo) {
+        if (repo == null || !REPO.matcher(repo).matches()) return false;
+        for (String part : repo.split("/")) {
+            if (part.equals(".") || part.equals("..")) return false;
+        }
+        return true;
+    }
+}
@@ -7,58 +7,43 @@ import com.demo.burnout.model.*;
 import com.demo.burnout.service.*;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Clock;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api")
 @CrossOrigin(origins = "*")
 public class ReshapeController {
     
-    private final IssueCache issueCache;
-    private final ChaosMetricsService chaosMetricsService;
-    private final ComplianceService complianceService;
-    private final IssueClassifierService classifier;
+    private final MaterializedViewService viewService;
     private final BurnoutSupervisorService supervisorService;
     private final AgentOrchestrator agentOrchestrator;
-    private final Clock clock;
 
-    public ReshapeController(IssueCache issueCache, 
-                            ChaosMetricsService chaosMetricsService,
-                            ComplianceService complianceService,
-                            IssueClassifierService classifier,
+    public ReshapeController(MaterializedViewService viewService,
                             BurnoutSupervisorService supervisorService,
-                            AgentOrchestrator agentOrchestrator,
-                            Clock clock) {
-        this.issueCache = issueCache;
-        this.chaosMetricsService = chaosMetricsService;
-        this.complianceService = complianceService;
-        this.classifier = classifier;
+                            AgentOrchestrator agentOrchestrator) {
+        this.viewService = viewService;
         this.supervisorService = supervisorService;
         this.agentOrchestrator = agentOrchestrator;
-        this.clock = clock;
     }
 
     @PostMapping("/reshape")
     public ReshapeResponse reshape(@RequestBody ReshapeRequest req) {
-        if (!issueCache.hasRepo(req.repo())) {
+        var repoView = viewService.repoView(req.repo());
+        if (repoView == null) {
             return ReshapeResponse.notSynced();
         }
         
-        List<Issue> issues = issueCache.get(req.repo());
-        ChaosMetrics chaos = chaosMetricsService.calculate(issues, clock);
-        ComplianceReport compliance = complianceService.analyze(issues, req.userId());
-        WorldState state = WorldState.from(issues, req.userId(), chaos, compliance, clock);
+        List<Issue> issues = repoView.issues();
+        ChaosMetrics chaos = repoView.chaos();
+        var userView = viewService.userView(req.repo(), req.userId());
+        ComplianceReport compliance = userView.compliance();
+        WorldState state = userView.state();
         
-        DayStructure dayPlan = buildDayPlan(issues, req.userId());
+        DayStructure dayPlan = userView.dayPlan();
         
         // Use LLM-driven Supervisor pattern instead of deterministic GOAP
         var supervisorResult = supervisorService.preventBurnout(
-            state, issues, req.userId(), req.repo(), chaos);
+            state, issues, req.userId(), req.repo(), chaos, userView.baseline());
         
         GitHubMutationPlan mutationPlan = req.dryRun() 
             ? GitHubMutationPlan.empty() 
@@ -94,51 +79,6 @@ public class ReshapeController {
         );
     }
 
-    private DayStructure buildDayPlan(List<Issue> issues, String userId) {
-        Comparator<Issue> order = Comparator
-            .comparing((Issue i) -> getPriorityWeight(i))
-            .thenComparing(Issue::updatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
-            .thenComparing(Issue::number);
-
-        Map<Classification, List<Issue>> buckets = issues.stream()
-            .filter(i -> "open".equalsIgnoreCase(i.state()))
-            .filter(i -> i.assignees() != null && i.assignees().stream()
-                .anyMatch(a -> a.login().equalsIgnoreCase(userId)))
-            .collect(Collectors.groupingBy(classifier::classify));
-
-        List<Issue> deepWork = buckets.getOrDefault(Classification.DEEP_WORK, List.of())
-            .stream().sorted(order).toList();
-        List<Issue> quickWins = buckets.getOrDefault(Classification.QUICK_WIN, List.of())
-            .stream().sorted(order).toList();
-        List<Issue> maintenance = buckets.getOrDefault(Classification.MAINTENANCE, List.of())
-            .stream().sorted(order).toList();
-        List<Issue> deferred = buckets.getOrDefault(Classification.DEFERRED, List.of())
-            .stream().sorted(order).toList();
-
-        return new DayStructure(
-            deepWork.isEmpty() ? null : deepWork.get(0),
-            quickWins.stream().limit(3).toList(),
-            maintenance.stream().limit(3).toList(),
-            Stream.concat(
-                deepWork.stream().skip(1),
-                Stream.concat(
-                    quickWins.stream().skip(3),
-                    Stream.concat(maintenance.stream().skip(3), deferred.stream())
-                )
-            ).toList()
-        );
-    }
-
-    private int getPriorityWeight(Issue issue) {
-        if (issue.labels() == null) return 2;
-        for (Issue.Label l : issue.labels()) {
-            if (l.name().equalsIgnoreCase("priority:critical")) return 0;
-            if (l.name().equalsIgnoreCase("priority:high")) return 1;
-            if (l.name().equalsIgnoreCase("urgent")) return 1;
-        }
-        return 2;
-    }
-
     private int calculateFridayScore(ChaosMetrics chaos, ComplianceReport compliance, WorldState state) {
         int score = 100;
         if (chaos.score() > 5) score -= 20;
@@ -8,7 +8,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Clock;
 import java.util.List;
 import java.util.Map;
 
@@ -19,40 +18,32 @@ public class StressController {
     
     private static final Logger log = LoggerFactory.getLogger(StressController.class);
     
-    private final IssueCache issueCache;
-    private final ChaosMetricsService chaosMetricsService;
-    private final ComplianceService complianceService;
+    private final MaterializedViewService viewService;
     private final BurnoutSupervisorService supervisorService;
-    private final Clock clock;
 
-    public StressController(IssueCache issueCache, 
-                           ChaosMetricsService chaosMetricsService,
-                           ComplianceService complianceService,
-                           BurnoutSupervisorService supervisorService,
-                           Clock clock) {
-        this.issueCache = issueCache;
-        this.chaosMetricsService = chaosMetricsService;
-        this.complianceService = complianceService;
+    public StressController(MaterializedViewService viewService,
+                           BurnoutSupervisorService supervisorService) {
+        this.viewService = viewService;
         this.supervisorService = supervisorService;
-        this.clock = clock;
     }
 
     @GetMapping("/stress")
     public StressResponse stress(@RequestParam String repo, @RequestParam String userId) {
-        if (!issueCache.hasRepo(repo)) {
+        var repoView = viewService.repoView(repo);
+        if (repoView == null) {
             return StressResponse.notSynced();
         }
         
-        List<Issue> issues = issueCache.get(repo);
-        ChaosMetrics chaos = chaosMetricsService.calculate(issues, clock);
-        ComplianceReport compliance = complianceService.analyze(issues, userId);
-        WorldState state = WorldState.from(issues, userId, chaos, compliance, clock);
+        List<Issue> issues = repoView.issues();
+        ChaosMetrics chaos = repoView.chaos();
+        var userView = viewService.userView(repo, userId);
+        WorldState state = userView.state();
         
         // Use the supervisor service to get stress assessment, with graceful fallback
         List<GoapActionSummary> actionSummaries;
         int estimatedStress;
         try {
-            var supervisorResult = supervisorService.preventBurnout(state, issues, userId, repo, chaos);
+            var supervisorResult = supervisorService.preventBurnout(state, issues, userId, repo, chaos, userView.baseline());
             // Convert mutation actions to summaries for backward compatibility
             actionSummaries = supervisorResult.mutationPlan().actions().stream()
                 .map(a -> new GoapActionSummary(a.type() + " #" + a.issueNumber(), 
@@ -0,0 +1,133 @@
+package com.demo.burnout.controller;
+
+import com.demo.burnout.goap.GitHubMutationPlan;
+import com.demo.burnout.model.*;
+import com.demo.burnout.service.MaterializedViewService;
+import com.demo.burnout.service.PlanSimulationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * POST /api/what-if - compare candidate mutation plans before committing to one.
+ *
+ * Every candidate is projected against the same materialized snapshot (no LLM, no
+ * GitHub calls) and the results are ranked: lowest stress first, then highest
+ * compliance, then highest Friday score, then fewest actions.
+ */
+@RestController
+@RequestMapping("/api")
+@CrossOrigin(origins = "*")
+public class WhatIfController {
+
+    private static final Comparator<CandidateResult> RANKING = Comparator
+        .comparingInt(CandidateResult::stressScore)
+        .thenComparing(Comparator.comparingInt(CandidateResult::complianceScore).reversed())
+        .thenComparing(Comparator.comparingInt(CandidateResult::fridayScore).reversed())
+        .thenComparingInt(CandidateResult::actionCount)
+        .thenComparingInt(CandidateResult::index);
+
+    private final MaterializedViewService viewService;
+    private final PlanSimulationService planSimulationService;
+    private final int maxCandidates;
+
+    public WhatIfController(MaterializedViewService viewService,
+                            PlanSimulationService planSimulationService,
+                            @Value("${burnout.what-if.max-candidates:500}") int maxCandidates) {
+        this.viewService = viewService;
+        this.planSimulationService = planSimulationService;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @PostMapping("/what-if")
+    public WhatIfResponse whatIf(@RequestBody WhatIfRequest req) {
+        List<GitHubMutationPlan> candidates = req.candidates() != null ? req.candidates() : List.of();
+        if (candidates.size() > maxCandidates) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "At most " + maxCandidates + " candidate plans per request");
+        }
+        var userView = viewService.userView(req.repo(), req.userId());
+        if (userView == null) {
+            return WhatIfResponse.notSynced();
+        }
+
+        WorldState state = userView.state();
+        int currentStress = state.calculateStressScore();
+        var projections = planSimulationService.simulateAll(userView.baseline(), candidates);
+
+        List<CandidateResult> results = IntStream.range(0, candidates.size())
+            .mapToObj(i -> result(i, candidates.get(i), projections.get(i), currentStress))
+            .sorted(RANKING)
+            .toList();
+
+        // From the baseline the candidates were projected on, not a possibly newer snapshot
+        ChaosMetrics chaos = planSimulationService.chaos(userView.baseline().repo());
+        return new WhatIfResponse(
+            "ok",
+            currentStress,
+            userView.compliance().complianceScore(),
+            FridayScoreController.score(chaos, userView.compliance()),
+            results,
+            WhatIfResponse.SCHEMA_VERSION
+        );
+    }
+
+    private CandidateResult result(int index, GitHubMutationPlan plan,
+                                   PlanSimulationService.Projection projection, int currentStress) {
+        int stress = projection.stressScore();
+        int friday = FridayScoreController.score(projection.chaos(), projection.compliance());
+        return new CandidateResult(
+            index,
+            plan.actions().size(),
+            stress,
+            projection.state().getStressLevel(),
+            stress - currentStress,
+            projection.compliance().complianceScore(),
+            projection.compliance().isCompliant(),
+            friday,
+            FridayScoreController.status(friday),
+            projection.chaos().score()
+        );
+    }
+
+    public record WhatIfRequest(String repo, String userId, List<GitHubMutationPlan> candidates) {}
+
+    /**
+     * One candidate's projected outcome; {@code index} refers to the request's candidate list.
+     */
+    public record CandidateResult(
+        int index,
+        int actionCount,
+        int stressScore,
+        StressLevel stressLevel,
+        int stressDelta,
+        int complianceScore,
+        boolean is333Compliant,
+        int fridayScore,
+        String fridayStatus,
+        double chaosScore
+    ) {}
+
+    /**
+     * {@code ranked} is best first.
+     */
+    public record WhatIfResponse(
+        String status,
+        int currentStressScore,
+        int currentComplianceScore,
+        int currentFridayScore,
+        List<CandidateResult> ranked,
+        int schemaVersion
+    ) {
+        public static final int SCHEMA_VERSION = 1;
+
+        public static WhatIfResponse notSynced() {
+            return new WhatIfResponse("not_synced", -1, -1, -1, List.of(), SCHEMA_VERSION);
+        }
+    }
+}
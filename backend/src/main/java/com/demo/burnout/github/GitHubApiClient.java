@@ -0,0 +1,144 @@
+package com.demo.burnout.github;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Minimal GitHub REST client for issue mutations with rate-limit aware retries.
+ *
+ * 403/429 responses are retried after Retry-After, after the primary reset when
+ * X-RateLimit-Remaining is 0, or after exponential backoff from {@code backoffBase} otherwise
+ * (secondary limit without a hint). 5xx responses are retried after Retry-After or a short
+ * jittered backoff from {@code serverErrorBackoff}, but only for idempotent methods: a POST
+ * that timed out at a gateway may still have created its comment. The 5xx sleeps of one
+ * request add up to at most the rate limiter's max wait; a retry that would go past it
+ * returns the 5xx instead of holding the thread.
+ *
+ * Each token gets its own {@link GitHubRateLimiter}; idle ones are dropped once more than
+ * {@value #MAX_LIMITERS} are held.
+ */
+public class GitHubApiClient {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubApiClient.class);
+    private static final Set<String> IDEMPOTENT = Set.of("GET", "PUT", "DELETE", "PATCH");
+    static final int MAX_LIMITERS = 1000;
+
+    private final String apiUrl;
+    private final Supplier<GitHubRateLimiter> newRateLimiter;
+    private final Map<String, GitHubRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final int maxRetries;
+    private final Duration backoffBase;
+    private final Duration serverErrorBackoff;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    /**
+     * @param newRateLimiter creates the limiter for a token on its first request
+     */
+    public GitHubApiClient(String apiUrl, Supplier<GitHubRateLimiter> newRateLimiter, int maxRetries,
+                           Duration backoffBase, Duration serverErrorBackoff, ObjectMapper objectMapper) {
+        this.apiUrl = apiUrl.endsWith("/") ? apiUrl.substring(0, apiUrl.length() - 1) : apiUrl;
+        this.newRateLimiter = newRateLimiter;
+        this.maxRetries = maxRetries;
+        this.backoffBase = backoffBase;
+        this.serverErrorBackoff = serverErrorBackoff;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Send one request, retrying rate-limited and server errors.
+     *
+     * @param body JSON body, or null for none
+     */
+    public HttpResponse<String> send(String method, String path, Object body, String token)
+            throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+            .uri(URI.create(apiUrl + path))
+            .header("Authorization", "Bearer " + token)
+            .header("Accept", "application/vnd.github+json")
+            .header("X-GitHub-Api-Version", "2022-11-28")
+            .header("User-Agent", "burnout-backend")
+            .header("Content-Type", "application/json")
+            .timeout(Duration.ofSeconds(10))
+            .method(method, body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+            .build();
+        GitHubRateLimiter rateLimiter = rateLimiter(token);
+        boolean mutating = !"GET".equals(method);
+        boolean retryServerErrors = IDEMPOTENT.contains(method);
+        long backoffBudget = rateLimiter.maxWait().toMillis();
+
+        for (int attempt = 0; ; attempt++) {
+            rateLimiter.acquire(mutating);
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            rateLimiter.observe(response.headers());
+
+            int status = response.statusCode();
+            boolean rateLimited = status == 429 || (status == 403 && isRateLimit(response));
+            boolean serverError = status >= 500 && retryServerErrors;
+            if (!(rateLimited || serverError) || attempt >= maxRetries) {
+                return response;
+            }
+            Duration wait = retryDelay(response, rateLimited, attempt);
+            if (!rateLimited && wait.toMillis() > backoffBudget) {
+                log.warn("GitHub {} {} returned {}, not retrying: backoff would exceed max wait", method, path, status);
+                return response;
+            }
+            log.warn("GitHub {} {} returned {}, retrying in {} ms", method, path, status, wait.toMillis());
+            if (rateLimited) {
+                rateLimiter.pauseFor(wait);
+            } else {
+                backoffBudget -= wait.toMillis();
+                Thread.sleep(wait.toMillis());
+            }
+        }
+    }
+
+    private GitHubRateLimiter rateLimiter(String token) {
+        if (rateLimiters.size() > MAX_LIMITERS) {
+            rateLimiters.values().removeIf(GitHubRateLimiter::idle);
+        }
+        return rateLimiters.computeIfAbsent(token, t -> newRateLimiter.get());
+    }
+
+    private static boolean isRateLimit(HttpResponse<String> response) {
+        return response.headers().firstValue("retry-after").isPresent()
+            || response.headers().firstValue("x-ratelimit-remaining").filter("0"::equals).isPresent()
+            || response.body().toLowerCase().contains("rate limit");
+    }
+
+    private Duration retryDelay(HttpResponse<String> response, boolean rateLimited, int attempt) {
+        OptionalLong retryAfter = response.headers().firstValueAsLong("retry-after");
+        if (retryAfter.isPresent()) {
+            return Duration.ofSeconds(retryAfter.getAsLong());
+        }
+        OptionalLong reset = response.headers().firstValueAsLong("x-ratelimit-reset");
+        if (response.headers().firstValue("x-ratelimit-remaining").filter("0"::equals).isPresent()
+                && reset.isPresent()) {
+            return Duration.ofMillis(Math.max(0, reset.getAsLong() * 1000 - System.currentTimeMillis()));
+        }
+        if (rateLimited) {
+            return backoffBase.multipliedBy(1L << attempt);
+        }
+        // Half to all of the doubled 5xx backoff, so retries from parallel issues spread out
+        long millis = serverErrorBackoff.toMillis() << attempt;
+        return Duration.ofMillis(millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2 + 1));
+    }
+}
@@ -0,0 +1,220 @@
+package com.demo.burnout.github;
+
+import com.demo.burnout.goap.GitHubAction;
+import com.demo.burnout.goap.GitHubMutationPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Server-side executor for {@link GitHubMutationPlan}s.
+ *
+ * BATCHING: all actions for one issue collapse into one POST of the net label additions,
+ * one DELETE per net label removal and one comment joining every Comment action. Labels
+ * are never written as a whole set: the synced snapshot may be behind GitHub, and replacing
+ * the set would drop labels added there since. Each label action is reported from the calls
+ * for its own labels; one superseded by a later action on the same labels is SKIPPED.
+ *
+ * CONCURRENCY: issues run in parallel on the supplied bounded pool; calls for the same
+ * issue stay sequential. Rate limits are enforced per token by {@link GitHubRateLimiter}.
+ */
+public class GitHubMutationExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubMutationExecutor.class);
+
+    private final GitHubApiClient client;
+    private final ExecutorService pool;
+
+    public GitHubMutationExecutor(GitHubApiClient client, ExecutorService pool) {
+        this.client = client;
+        this.pool = pool;
+    }
+
+    /**
+     * Execute the plan against GitHub. Every action gets an outcome, including those of an
+     * issue whose batch threw.
+     *
+     * @param token the caller's GitHub token
+     */
+    public ExecutionReport execute(GitHubMutationPlan plan, String token) {
+        long start = System.nanoTime();
+        Map<Integer, List<GitHubAction>> byIssue = plan.actions().stream()
+            .collect(Collectors.groupingBy(GitHubAction::issueNumber, LinkedHashMap::new, Collectors.toList()));
+        AtomicInteger apiCalls = new AtomicInteger();
+
+        Map<Integer, Future<List<ActionOutcome>>> futures = new LinkedHashMap<>();
+        for (var entry : byIssue.entrySet()) {
+            futures.put(entry.getKey(), pool.submit(() ->
+                executeIssue(plan.repo(), entry.getKey(), entry.getValue(), token, apiCalls)));
+        }
+
+        List<ActionOutcome> outcomes = new ArrayList<>();
+        for (var entry : futures.entrySet()) {
+            List<GitHubAction> actions = byIssue.get(entry.getKey());
+            if (Thread.currentThread().isInterrupted()) {
+                entry.getValue().cancel(true);
+                actions.forEach(a -> outcomes.add(new ActionOutcome(a, Status.FAILED, 0, "Interrupted")));
+                continue;
+            }
+            try {
+                outcomes.addAll(entry.getValue().get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                entry.getValue().cancel(true);
+                actions.forEach(a -> outcomes.add(new ActionOutcome(a, Status.FAILED, 0, "Interrupted")));
+            } catch (ExecutionException e) {
+                log.error("Mutation batch for #{} failed", entry.getKey(), e.getCause());
+                String detail = "Batch failed: " + e.getCause();
+                actions.forEach(a -> outcomes.add(new ActionOutcome(a, Status.FAILED, 0, detail)));
+            }
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Executed {} actions on {} issues in {} with {} API calls ({} ms)",
+            plan.actions().size(), byIssue.size(), plan.repo(), apiCalls.get(), millis);
+        return new ExecutionReport(plan.repo(), outcomes, apiCalls.get(), millis);
+    }
+
+    private List<ActionOutcome> executeIssue(String repo, int number, List<GitHubAction> actions,
+                                             String token, AtomicInteger apiCalls) {
+        List<GitHubAction> labelActions = actions.stream()
+            .filter(a -> !(a instanceof GitHubAction.Comment))
+            .toList();
+        List<GitHubAction.Comment> comments = actions.stream()
+            .filter(a -> a instanceof GitHubAction.Comment)
+            .map(a -> (GitHubAction.Comment) a)
+            .toList();
+
+        List<ActionOutcome> outcomes = new ArrayList<>();
+        if (!labelActions.isEmpty()) {
+            outcomes.addAll(applyLabels(repo, number, labelActions, token, apiCalls));
+        }
+        if (!comments.isEmpty()) {
+            String body = comments.stream().map(GitHubAction.Comment::body).collect(Collectors.joining("\n\n"));
+            CallResult result = call("POST", issuePath(repo, number) + "/comments",
+                Map.of("body", body), token, apiCalls);
+            comments.forEach(a -> outcomes.add(result.outcome(a)));
+        }
+        return outcomes;
+    }
+
+    private List<ActionOutcome> applyLabels(String repo, int number, List<GitHubAction> actions,
+                                            String token, AtomicInteger apiCalls) {
+        // Net effect in plan order, keyed case-insensitively like GitHub label names
+        Map<String, String> adds = new LinkedHashMap<>();
+        Map<String, String> removes = new LinkedHashMap<>();
+        for (GitHubAction action : actions) {
+            if (action instanceof GitHubAction.AddLabels add) {
+                add.labels().forEach(l -> { removes.remove(key(l)); adds.put(key(l), l); });
+            } else if (action instanceof GitHubAction.RemoveLabels remove) {
+                remove.labels().forEach(l -> { adds.remove(key(l)); removes.put(key(l), l); });
+            }
+        }
+
+        // Result of the call that applied each label's net change
+        Map<String, CallResult> byLabel = new HashMap<>();
+        if (!adds.isEmpty()) {
+            CallResult added = call("POST", issuePath(repo, number) + "/labels",
+                Map.of("labels", List.copyOf(adds.values())), token, apiCalls);
+            adds.keySet().forEach(k -> byLabel.put(k, added));
+        }
+        CallResult limited = null;
+        for (var remove : removes.entrySet()) {
+            if (limited != null) {
+                byLabel.put(remove.getKey(),
+                    new CallResult(Status.RATE_LIMITED, limited.httpStatus(), "Not attempted: " + limited.detail()));
+                continue;
+            }
+            CallResult removed = call("DELETE", issuePath(repo, number) + "/labels/"
+                + URLEncoder.encode(remove.getValue(), StandardCharsets.UTF_8).replace("+", "%20"), null, token, apiCalls);
+            // 404 means the label was already absent
+            byLabel.put(remove.getKey(), removed.httpStatus() == 404 ? CallResult.applied(404) : removed);
+            if (removed.status() == Status.RATE_LIMITED) limited = removed;
+        }
+
+        List<ActionOutcome> outcomes = new ArrayList<>(actions.size());
+        for (GitHubAction action : actions) {
+            boolean add = action instanceof GitHubAction.AddLabels;
+            List<String> labels = add
+                ? ((GitHubAction.AddLabels) action).labels()
+                : ((GitHubAction.RemoveLabels) action).labels();
+            Map<String, String> net = add ? adds : removes;
+            // The action's worst label result; labels a later action reversed don't count
+            CallResult result = null;
+            for (String label : labels) {
+                if (!net.containsKey(key(label))) continue;
+                CallResult own = byLabel.get(key(label));
+                if (result == null || (result.status() == Status.APPLIED && own.status() != Status.APPLIED)) {
+                    result = own;
+                }
+            }
+            outcomes.add((result != null ? result : CallResult.skipped("Superseded by a later label action")).outcome(action));
+        }
+        return outcomes;
+    }
+
+    private CallResult call(String method, String path, Object body, String token, AtomicInteger apiCalls) {
+        try {
+            apiCalls.incrementAndGet();
+            HttpResponse<String> response = client.send(method, path, body, token);
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) return CallResult.applied(status);
+            if (status == 403 || status == 429) {
+                return new CallResult(Status.RATE_LIMITED, status, "GitHub rate limit not lifted after retries");
+            }
+            return new CallResult(Status.FAILED, status, "GitHub returned " + status);
+        } catch (GitHubRateLimiter.RateLimitedException e) {
+            return new CallResult(Status.RATE_LIMITED, 0, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new CallResult(Status.FAILED, 0, "Interrupted");
+        } catch (IOException e) {
+            return new CallResult(Status.FAILED, 0, e.getMessage());
+        }
+    }
+
+    private static String issuePath(String repo, int number) {
+        return "/repos/" + repo + "/issues/" + number;
+    }
+
+    private static String key(String label) {
+        return label.toLowerCase(Locale.ROOT);
+    }
+
+    public enum Status { APPLIED, SKIPPED, FAILED, RATE_LIMITED }
+
+    /**
+     * Outcome of one plan action. Actions batched into the same call share its status.
+     */
+    public record ActionOutcome(GitHubAction action, Status status, int httpStatus, String detail) {}
+
+    public record ExecutionReport(String repo, List<ActionOutcome> outcomes, int apiCalls, long durationMillis) {}
+
+    private record CallResult(Status status, int httpStatus, String detail) {
+        static CallResult applied(int httpStatus) {
+            return new CallResult(Status.APPLIED, httpStatus, "");
+        }
+
+        static CallResult skipped(String detail) {
+            return new CallResult(Status.SKIPPED, 0, detail);
+        }
+
+        ActionOutcome outcome(GitHubAction action) {
+            return new ActionOutcome(action, status, httpStatus, detail);
+        }
+    }
+}
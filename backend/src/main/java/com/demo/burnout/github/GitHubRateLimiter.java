@@ -0,0 +1,97 @@
+package com.demo.burnout.github;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Gate for one token's GitHub rate limits, shared by the executor threads working for it.
+ * GitHub counts limits per user, so {@link GitHubApiClient} keeps one per token and one
+ * user's writes or throttling never hold up another's.
+ *
+ * PRIMARY LIMIT: X-RateLimit-Remaining / X-RateLimit-Reset from each response. When the
+ * budget is exhausted the token's threads wait for the reset.
+ * SECONDARY LIMITS: mutating requests are paced at least {@code mutationInterval} apart
+ * (GitHub asks for ~1s), and a 403/429 with Retry-After pauses the token's threads for that long.
+ */
+public class GitHubRateLimiter {
+
+    private final long mutationIntervalNanos;
+    private final long maxWaitNanos;
+
+    private long nextMutationAt;
+    private long pausedUntil;
+
+    public GitHubRateLimiter(Duration mutationInterval, Duration maxWait) {
+        this.mutationIntervalNanos = mutationInterval.toNanos();
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Longest this limiter lets a caller wait before giving up.
+     */
+    public Duration maxWait() {
+        return Duration.ofNanos(maxWaitNanos);
+    }
+
+    /**
+     * Block until the next request may be sent.
+     *
+     * @throws RateLimitedException if that would take longer than the configured max wait
+     */
+    public void acquire(boolean mutating) throws InterruptedException {
+        long sendAt;
+        synchronized (this) {
+            long now = System.nanoTime();
+            sendAt = Math.max(now, pausedUntil);
+            if (mutating) {
+                sendAt = Math.max(sendAt, nextMutationAt);
+                nextMutationAt = sendAt + mutationIntervalNanos;
+            }
+            if (sendAt - now > maxWaitNanos) {
+                throw new RateLimitedException(Duration.ofNanos(sendAt - now));
+            }
+        }
+        sleepUntil(sendAt);
+    }
+
+    /**
+     * Record rate-limit headers from a response.
+     */
+    public void observe(HttpHeaders headers) {
+        OptionalLong remaining = headers.firstValueAsLong("x-ratelimit-remaining");
+        OptionalLong reset = headers.firstValueAsLong("x-ratelimit-reset");
+        if (remaining.isPresent() && remaining.getAsLong() == 0 && reset.isPresent()) {
+            long waitMillis = reset.getAsLong() * 1000 - System.currentTimeMillis();
+            pauseFor(Duration.ofMillis(Math.max(0, waitMillis)));
+        }
+    }
+
+    /**
+     * Whether no pause or pacing is pending, so dropping this limiter loses nothing.
+     */
+    public synchronized boolean idle() {
+        long now = System.nanoTime();
+        return now - pausedUntil >= 0 && now - nextMutationAt >= 0;
+    }
+
+    /**
+     * Pause every thread using this limiter, e.g. after a secondary-limit response.
+     */
+    public synchronized void pauseFor(Duration duration) {
+        pausedUntil = Math.max(pausedUntil, System.nanoTime() + duration.toNanos());
+    }
+
+    private static void sleepUntil(long nanoDeadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = nanoDeadline - System.nanoTime()) > 0) {
+            Thread.sleep(remaining / 1_000_000, (int) (remaining % 1_000_000));
+        }
+    }
+
+    public static class RateLimitedException extends RuntimeException {
+        public RateLimitedException(Duration wait) {
+            super("GitHub rate limit: next request allowed in " + wait.toSeconds() + "s");
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package com.demo.burnout.goap;
 
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
 import java.util.List;
 
 /**
- * GitHub mutations that the extension will execute.
+ * GitHub mutations that the extension (or the server-side executor) will execute.
+ * Serialized with a "type" discriminator so plans round-trip through JSON.
  */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "type")
+@JsonSubTypes({
+    @JsonSubTypes.Type(value = GitHubAction.AddLabels.class, name = "AddLabels"),
+    @JsonSubTypes.Type(value = GitHubAction.RemoveLabels.class, name = "RemoveLabels"),
+    @JsonSubTypes.Type(value = GitHubAction.Comment.class, name = "Comment")
+})
 public sealed interface GitHubAction permits 
     GitHubAction.AddLabels, 
     GitHubAction.RemoveLabels, 
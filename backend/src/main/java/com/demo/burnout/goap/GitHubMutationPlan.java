@@ -1,7 +1,10 @@
 package com.demo.burnout.goap;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import java.util.List;
 
+@JsonIgnoreProperties(ignoreUnknown = true)
 public record GitHubMutationPlan(String repo, List<GitHubAction> actions) {
     public static final int SCHEMA_VERSION = 1;
     
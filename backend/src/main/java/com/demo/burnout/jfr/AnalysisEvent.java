@@ -0,0 +1,30 @@
+package com.demo.burnout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One timed pipeline stage (chaos, compliance, world-state, day-plan, simulation, supervisor, ...).
+ */
+@Name("burnout.Analysis")
+@Label("Analysis Pass")
+@Category({"Burnout", "Analysis"})
+@Description("One stage of the analysis pipeline")
+@StackTrace(false)
+public class AnalysisEvent extends jdk.jfr.Event {
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Repo")
+    public String repo;
+
+    @Label("User")
+    public String user;
+
+    @Label("Issues Scanned")
+    public int issuesScanned;
+}
@@ -0,0 +1,32 @@
+package com.demo.burnout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One POST /api/issues/sync, including view materialization (listeners run on the sync thread).
+ */
+@Name("burnout.IssueSync")
+@Label("Issue Sync")
+@Category({"Burnout", "Cache"})
+@Description("Issue snapshot received and materialized")
+@StackTrace(false)
+public class IssueSyncEvent extends jdk.jfr.Event {
+
+    @Label("Repo")
+    public String repo;
+
+    @Label("Issues")
+    public int issueCount;
+
+    @Label("Request Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Cache Version")
+    public long version;
+}
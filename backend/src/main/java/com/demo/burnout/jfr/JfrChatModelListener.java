@@ -0,0 +1,82 @@
+package com.demo.burnout.jfr;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
+import dev.langchain4j.model.openaiofficial.OpenAiOfficialTokenUsage;
+import dev.langchain4j.model.output.TokenUsage;
+
+import java.util.List;
+
+/**
+ * Emits an {@link LlmCallEvent} per chat model call. Prompt size is only computed while
+ * a recording has the event enabled.
+ */
+public class JfrChatModelListener implements ChatModelListener {
+
+    private static final String EVENT = JfrChatModelListener.class.getName() + ".event";
+
+    private final String model;
+
+    public JfrChatModelListener(String model) {
+        this.model = model;
+    }
+
+    @Override
+    public void onRequest(ChatModelRequestContext context) {
+        LlmCallEvent event = new LlmCallEvent();
+        if (!event.isEnabled()) return;
+        List<ChatMessage> messages = context.chatRequest().messages();
+        event.model = model;
+        event.promptMessages = messages.size();
+        event.promptChars = messages.stream().mapToLong(JfrChatModelListener::length).sum();
+        var tools = context.chatRequest().toolSpecifications();
+        event.tools = tools != null ? tools.size() : 0;
+        event.begin();
+        context.attributes().put(EVENT, event);
+    }
+
+    @Override
+    public void onResponse(ChatModelResponseContext context) {
+        if (!(context.attributes().get(EVENT) instanceof LlmCallEvent event)) return;
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.outcome = "success";
+        TokenUsage usage = context.chatResponse() != null ? context.chatResponse().tokenUsage() : null;
+        if (usage != null) {
+            if (usage.inputTokenCount() != null) event.inputTokens = usage.inputTokenCount();
+            if (usage.outputTokenCount() != null) event.outputTokens = usage.outputTokenCount();
+            if (usage instanceof OpenAiOfficialTokenUsage openAi && openAi.inputTokensDetails() != null
+                    && openAi.inputTokensDetails().cachedTokens() != null) {
+                event.cachedTokens = openAi.inputTokensDetails().cachedTokens();
+            }
+        }
+        event.commit();
+    }
+
+    @Override
+    public void onError(ChatModelErrorContext context) {
+        if (!(context.attributes().get(EVENT) instanceof LlmCallEvent event)) return;
+        event.end();
+        if (!event.shouldCommit()) return;
+        event.outcome = "error";
+        event.error = context.error() != null ? context.error().getClass().getSimpleName() : "unknown";
+        event.commit();
+    }
+
+    private static long length(ChatMessage message) {
+        return switch (message) {
+            case SystemMessage s -> s.text().length();
+            case UserMessage u -> u.hasSingleText() ? u.singleText().length() : 0;
+            case AiMessage a -> a.text() != null ? a.text().length() : 0;
+            case ToolExecutionResultMessage t -> t.text().length();
+            default -> 0;
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.demo.burnout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One chat model call, with the size of the prompt that was sent.
+ */
+@Name("burnout.LlmCall")
+@Label("LLM Call")
+@Category({"Burnout", "LLM"})
+@Description("Chat model request to response or error")
+@StackTrace(false)
+public class LlmCallEvent extends jdk.jfr.Event {
+
+    @Label("Model")
+    public String model;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Prompt Messages")
+    public int promptMessages;
+
+    @Label("Prompt Characters")
+    public long promptChars;
+
+    @Label("Tools Offered")
+    public int tools;
+
+    @Label("Input Tokens")
+    public int inputTokens;
+
+    @Label("Cached Input Tokens")
+    @Description("Input tokens served from the provider's prompt cache")
+    public int cachedTokens;
+
+    @Label("Output Tokens")
+    public int outputTokens;
+
+    @Label("Error")
+    public String error;
+}
@@ -0,0 +1,29 @@
+package com.demo.burnout.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Materialized view lookup. The views memoize classification, compliance and day plans,
+ * so {@code result} is the classification cache outcome: hit, refresh (recomputed because
+ * the data or clock moved), user-miss (first read for a non-assignee) or not_synced.
+ */
+@Name("burnout.ViewRead")
+@Label("View Read")
+@Category({"Burnout", "Cache"})
+@Description("Materialized view cache lookup")
+@StackTrace(false)
+public class ViewReadEvent extends jdk.jfr.Event {
+
+    @Label("Repo")
+    public String repo;
+
+    @Label("User")
+    public String user;
+
+    @Label("Result")
+    public String result;
+}
@@ -0,0 +1,63 @@
+package com.demo.burnout.metrics;
+
+import dev.langchain4j.agentic.observability.AgentInvocationError;
+import dev.langchain4j.agentic.observability.AgentListener;
+import dev.langchain4j.agentic.observability.AgentRequest;
+import dev.langchain4j.agentic.observability.AgentResponse;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+
+/**
+ * One span per sub-agent invocation ("agent deferIssue", ...), nested under the span that
+ * was current when the supervisor started.
+ *
+ * One listener is shared by the sub-agents of a single supervisor run. They are invoked
+ * synchronously, so open spans form a stack.
+ */
+public class AgentTracingListener implements AgentListener {
+
+    private final Tracer tracer;
+    private final Map<String, String> attributes;
+    private final Deque<Open> open = new ArrayDeque<>();
+
+    private record Open(Span span, Tracer.SpanInScope scope) {}
+
+    public AgentTracingListener(Tracer tracer, Map<String, String> attributes) {
+        this.tracer = tracer;
+        this.attributes = attributes;
+    }
+
+    @Override
+    public void beforeAgentInvocation(AgentRequest request) {
+        Span span = tracer.nextSpan().name("agent " + request.agentName());
+        attributes.forEach(span::tag);
+        span.tag("agent.id", request.agentId());
+        Object issueNumber = request.inputs().get("issueNumber");
+        if (issueNumber != null) {
+            span.tag("burnout.issue", issueNumber.toString());
+        }
+        open.push(new Open(span, tracer.withSpan(span.start())));
+    }
+
+    @Override
+    public void afterAgentInvocation(AgentResponse response) {
+        close(null);
+    }
+
+    @Override
+    public void onAgentInvocationError(AgentInvocationError error) {
+        close(error.error());
+    }
+
+    private void close(Throwable error) {
+        Open current = open.poll();
+        if (current == null) return;
+        if (error != null) current.span().error(error);
+        current.scope().close();
+        current.span().end();
+    }
+}
@@ -0,0 +1,106 @@
+package com.demo.burnout.metrics;
+
+import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
+import dev.langchain4j.model.openaiofficial.OpenAiOfficialTokenUsage;
+import dev.langchain4j.model.output.TokenUsage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer listener for one {@code ChatModel} bean.
+ *
+ * burnout.llm.latency{model, outcome=success|error}   request → response/error
+ * burnout.llm.tokens{model, type=input|output|cached} token usage reported by the provider;
+ *                                                     cached is the part of input served from the
+ *                                                     provider's prompt cache
+ * burnout.llm.prompt.cached{model}                    cached share of each prompt, 0..1
+ * burnout.llm.failures{model, error=ExceptionClass}   failed calls
+ */
+public class ChatModelMetricsListener implements ChatModelListener {
+
+    private static final String START_NANOS = ChatModelMetricsListener.class.getName() + ".start";
+
+    private final MeterRegistry registry;
+    private final String model;
+    private final Timer success;
+    private final Timer error;
+    private final Counter inputTokens;
+    private final Counter outputTokens;
+    private final Counter cachedTokens;
+    private final DistributionSummary cachedShare;
+
+    public ChatModelMetricsListener(MeterRegistry registry, String model) {
+        this.registry = registry;
+        this.model = model;
+        this.success = latency("success");
+        this.error = latency("error");
+        this.inputTokens = tokens("input");
+        this.outputTokens = tokens("output");
+        this.cachedTokens = tokens("cached");
+        this.cachedShare = DistributionSummary.builder("burnout.llm.prompt.cached")
+            .description("Share of each prompt's input tokens read from the prompt cache")
+            .tag("model", model)
+            .register(registry);
+    }
+
+    @Override
+    public void onRequest(ChatModelRequestContext context) {
+        context.attributes().put(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void onResponse(ChatModelResponseContext context) {
+        record(success, context.attributes().get(START_NANOS));
+        TokenUsage usage = context.chatResponse() != null ? context.chatResponse().tokenUsage() : null;
+        if (usage != null) {
+            if (usage.inputTokenCount() != null) inputTokens.increment(usage.inputTokenCount());
+            if (usage.outputTokenCount() != null) outputTokens.increment(usage.outputTokenCount());
+            Integer input = usage.inputTokenCount();
+            if (input != null && input > 0 && usage instanceof OpenAiOfficialTokenUsage openAi
+                    && openAi.inputTokensDetails() != null && openAi.inputTokensDetails().cachedTokens() != null) {
+                int cached = openAi.inputTokensDetails().cachedTokens();
+                cachedTokens.increment(cached);
+                cachedShare.record((double) cached / input);
+            }
+        }
+    }
+
+    @Override
+    public void onError(ChatModelErrorContext context) {
+        record(error, context.attributes().get(START_NANOS));
+        Counter.builder("burnout.llm.failures")
+            .tag("model", model)
+            .tag("error", context.error() != null ? context.error().getClass().getSimpleName() : "unknown")
+            .register(registry)
+            .increment();
+    }
+
+    private static void record(Timer timer, Object start) {
+        if (start instanceof Long nanos) {
+            timer.record(System.nanoTime() - nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer latency(String outcome) {
+        return Timer.builder("burnout.llm.latency")
+            .description("Chat model call latency")
+            .tag("model", model)
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private Counter tokens(String type) {
+        return Counter.builder("burnout.llm.tokens")
+            .description("Tokens reported by the chat model provider")
+            .tag("model", model)
+            .tag("type", type)
+            .register(registry);
+    }
+}
@@ -0,0 +1,132 @@
+package com.demo.burnout.metrics;
+
+import com.demo.burnout.jfr.AnalysisEvent;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Per-stage timers and spans for the analysis pipeline.
+ *
+ * Timers are exported as {@code burnout.pipeline.stage{stage=...}}. Stages: cache-read, index, chaos,
+ * compliance, world-state, day-plan, simulation, supervisor, protective-response, and for
+ * streamed answers protective-/friday-first-token and protective-/friday-stream. Histograms
+ * are enabled in application.yml (management.metrics.distribution.percentiles-histogram).
+ *
+ * Every timed stage also runs in a child span of the current one (normally the HTTP server
+ * span), so a trace shows where a slow request spent its time. Spans go through the Micrometer
+ * {@link Tracer} rather than Observations, which would register a second timer per stage.
+ * Without a tracing bridge on the classpath the tracer is a no-op.
+ *
+ * Timed stages are also recorded as {@link AnalysisEvent}s when a JFR recording is running,
+ * taking repo, user and issue count from the span attributes.
+ */
+@Component
+public class PipelineMetrics {
+
+    public static final String STAGE_TIMER = "burnout.pipeline.stage";
+
+    public static final String REPO = "burnout.repo";
+    public static final String USER = "burnout.user";
+    public static final String VERSION = "burnout.version";
+    public static final String ISSUES = "burnout.issues";
+
+    private final MeterRegistry registry;
+    private final Tracer tracer;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public PipelineMetrics(MeterRegistry registry, ObjectProvider<Tracer> tracer) {
+        this.registry = registry;
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+    }
+
+    public <T> T time(String stage, Supplier<T> work) {
+        return time(stage, Map.of(), work);
+    }
+
+    /**
+     * Time {@code work} as {@code stage} and trace it as a span of the same name carrying
+     * {@code attributes}.
+     */
+    public <T> T time(String stage, Map<String, String> attributes, Supplier<T> work) {
+        AnalysisEvent event = new AnalysisEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return trace(stage, attributes, work);
+        } finally {
+            record(stage, System.nanoTime() - start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.stage = stage;
+                event.repo = attributes.get(REPO);
+                event.user = attributes.get(USER);
+                String issues = attributes.get(ISSUES);
+                if (issues != null) event.issuesScanned = Integer.parseInt(issues);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Run {@code work} in a child span without a stage timer (agent, tool and auth calls).
+     */
+    public <T> T trace(String name, Map<String, String> attributes, Supplier<T> work) {
+        Span span = tracer.nextSpan().name(name);
+        attributes.forEach(span::tag);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span.start())) {
+            return work.get();
+        } catch (RuntimeException | Error e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    public void record(String stage, long nanos) {
+        timer(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Tag the HTTP server span of the current request (e.g. with the repo and user it served).
+     * Outside a request the span in scope is tagged instead.
+     */
+    public void tagRequest(String key, String value) {
+        if (value == null) return;
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes request) {
+            var server = ServerHttpObservationFilter.findObservationContext(request.getRequest());
+            if (server.isPresent()) {
+                server.get().addHighCardinalityKeyValue(KeyValue.of(key, value));
+                return;
+            }
+        }
+        Span span = tracer.currentSpan();
+        if (span != null) {
+            span.tag(key, value);
+        }
+    }
+
+    public Tracer tracer() {
+        return tracer;
+    }
+
+    private Timer timer(String stage) {
+        return timers.computeIfAbsent(stage, s -> Timer.builder(STAGE_TIMER)
+            .description("Time spent in one stage of the analysis pipeline")
+            .tag("stage", s)
+            .register(registry));
+    }
+}
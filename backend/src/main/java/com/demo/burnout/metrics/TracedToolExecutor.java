@@ -0,0 +1,67 @@
+package com.demo.burnout.metrics;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.agent.tool.ToolSpecifications;
+import dev.langchain4j.invocation.InvocationContext;
+import dev.langchain4j.service.tool.DefaultToolExecutor;
+import dev.langchain4j.service.tool.ToolExecutionResult;
+import dev.langchain4j.service.tool.ToolExecutor;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link ToolExecutor} that runs each tool call in a span named "tool &lt;name&gt;" with
+ * the call's arguments attached.
+ */
+public class TracedToolExecutor implements ToolExecutor {
+
+    private final String name;
+    private final ToolExecutor delegate;
+    private final PipelineMetrics metrics;
+    private final Map<String, String> attributes;
+
+    public TracedToolExecutor(String name, ToolExecutor delegate, PipelineMetrics metrics,
+                              Map<String, String> attributes) {
+        this.name = name;
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.attributes = attributes;
+    }
+
+    /**
+     * Traced executors for every {@link Tool} method of {@code tools}, for
+     * {@code AgentBuilder.tools(Map)}.
+     */
+    public static Map<ToolSpecification, ToolExecutor> forTools(Object tools, PipelineMetrics metrics,
+                                                                Map<String, String> attributes) {
+        Map<ToolSpecification, ToolExecutor> executors = new LinkedHashMap<>();
+        for (Method method : tools.getClass().getDeclaredMethods()) {
+            if (!method.isAnnotationPresent(Tool.class)) continue;
+            ToolSpecification specification = ToolSpecifications.toolSpecificationFrom(method);
+            executors.put(specification, new TracedToolExecutor(specification.name(),
+                new DefaultToolExecutor(tools, method), metrics, attributes));
+        }
+        return executors;
+    }
+
+    @Override
+    public String execute(ToolExecutionRequest request, Object memoryId) {
+        return metrics.trace("tool " + name, attributes(request), () -> delegate.execute(request, memoryId));
+    }
+
+    @Override
+    public ToolExecutionResult executeWithContext(ToolExecutionRequest request, InvocationContext context) {
+        return metrics.trace("tool " + name, attributes(request), () -> delegate.executeWithContext(request, context));
+    }
+
+    private Map<String, String> attributes(ToolExecutionRequest request) {
+        Map<String, String> all = new HashMap<>(attributes);
+        all.put("tool.arguments", request.arguments());
+        return all;
+    }
+}
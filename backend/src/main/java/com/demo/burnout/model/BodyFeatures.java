@@ -0,0 +1,90 @@
+package com.demo.burnout.model;
+
+import com.demo.burnout.util.AhoCorasick;
+
+import java.util.List;
+
+/**
+ * What the analysis needs to know about an issue body, packed into one int.
+ *
+ * Computed once when an {@link Issue} is created (i.e. when a sync is deserialized) with a
+ * single pass over the body, so classification and the blank-body checks never rescan or
+ * lowercase the text. Layout, low bit first:
+ * <pre>
+ *  bit  0      computed (always set, so 0 means "not computed yet")
+ *  bit  1      body is null
+ *  bit  2      body is null or blank
+ *  bits 3-4    length bucket: SHORT (&lt;100 chars), MEDIUM (&lt;500), LONG
+ *  bits 5-9    scope markers present, one bit per {@link #SCOPE_MARKERS} entry
+ * </pre>
+ */
+public final class BodyFeatures {
+    private BodyFeatures() {}
+
+    public static final int SHORT = 0;
+    public static final int MEDIUM = 1;
+    public static final int LONG = 2;
+
+    /**
+     * Phrases that mark a body as having a clear scope (matched case-insensitively).
+     */
+    public static final List<String> SCOPE_MARKERS = List.of(
+        "- [ ]", "acceptance criteria", "done when", "steps:", "expected:");
+
+    private static final int COMPUTED = 1;
+    private static final int NULL = 1 << 1;
+    private static final int BLANK = 1 << 2;
+    private static final int LENGTH_SHIFT = 3;
+    private static final int SCOPE_SHIFT = 5;
+
+    private static final AhoCorasick MATCHER = AhoCorasick.compile(SCOPE_MARKERS);
+
+    public static int extract(String body) {
+        if (body == null) {
+            return COMPUTED | NULL | BLANK;
+        }
+        int state = MATCHER.start();
+        int seen = 0;
+        boolean blank = true;
+        for (int i = 0; i < body.length(); i++) {
+            char c = body.charAt(i);
+            if (blank && !Character.isWhitespace(c)) blank = false;
+            state = MATCHER.next(state, c);
+            seen |= MATCHER.matches(state);
+        }
+        int length = body.length() < 100 ? SHORT : body.length() < 500 ? MEDIUM : LONG;
+        return COMPUTED
+            | (blank ? BLANK : 0)
+            | length << LENGTH_SHIFT
+            | seen << SCOPE_SHIFT;
+    }
+
+    public static boolean isNull(int features) {
+        return (features & NULL) != 0;
+    }
+
+    /**
+     * Null, empty or whitespace only.
+     */
+    public static boolean isBlank(int features) {
+        return (features & BLANK) != 0;
+    }
+
+    /**
+     * {@link #SHORT}, {@link #MEDIUM} or {@link #LONG}; SHORT for a null body.
+     */
+    public static int lengthBucket(int features) {
+        return (features >>> LENGTH_SHIFT) & 0b11;
+    }
+
+    /**
+     * Bitmask over {@link #SCOPE_MARKERS}.
+     */
+    public static int scopeMarkers(int features) {
+        return (features >>> SCOPE_SHIFT) & ((1 << SCOPE_MARKERS.size()) - 1);
+    }
+
+    public static boolean hasClearScope(int features) {
+        return scopeMarkers(features) != 0;
+    }
+}
@@ -0,0 +1,68 @@
+package com.demo.burnout.model;
+
+import com.demo.burnout.util.DemoLabels;
+
+import java.util.List;
+
+/**
+ * Which synthetic-time labels an issue carries, packed into one int.
+ *
+ * Computed once when an {@link Issue} is created, from its labels, so the golden rule of
+ * {@link com.demo.burnout.util.SyntheticTimeResolver} (a demo:* label replaces the real
+ * timestamps) is a bit test per check instead of lowercasing and comparing every label.
+ * Layout, low bit first:
+ * <pre>
+ *  bit  0      computed (always set, so 0 means "not computed yet")
+ *  bit  1      any demo:* label
+ *  bit  2      {@value DemoLabels#TOUCHED_TODAY}
+ *  bit  3      {@value DemoLabels#AFTER_HOURS}
+ *  bit  4      {@value DemoLabels#STALE_14D}
+ *  bit  5      {@value DemoLabels#FRIDAY}
+ * </pre>
+ * Label names match case-insensitively, as in {@link DemoLabels}.
+ */
+public final class DemoFlags {
+    private DemoFlags() {}
+
+    public static final int DEMO = 1 << 1;
+    public static final int TOUCHED_TODAY = 1 << 2;
+    public static final int AFTER_HOURS = 1 << 3;
+    public static final int STALE_14D = 1 << 4;
+    public static final int FRIDAY = 1 << 5;
+
+    private static final int COMPUTED = 1;
+    private static final String PREFIX = "demo:";
+
+    public static int extract(List<Issue.Label> labels) {
+        int flags = COMPUTED;
+        if (labels == null) return flags;
+        for (Issue.Label label : labels) {
+            String name = label.name();
+            if (name == null || !name.regionMatches(true, 0, PREFIX, 0, PREFIX.length())) continue;
+            flags |= DEMO | of(name);
+        }
+        return flags;
+    }
+
+    /**
+     * The bit of one of the {@link DemoLabels} constants, or 0 for any other name.
+     */
+    public static int of(String label) {
+        if (label.equalsIgnoreCase(DemoLabels.TOUCHED_TODAY)) return TOUCHED_TODAY;
+        if (label.equalsIgnoreCase(DemoLabels.AFTER_HOURS)) return AFTER_HOURS;
+        if (label.equalsIgnoreCase(DemoLabels.STALE_14D)) return STALE_14D;
+        if (label.equalsIgnoreCase(DemoLabels.FRIDAY)) return FRIDAY;
+        return 0;
+    }
+
+    /**
+     * Any demo:* label: real timestamps must not be consulted.
+     */
+    public static boolean isDemo(int flags) {
+        return (flags & DEMO) != 0;
+    }
+
+    public static boolean has(int flags, int flag) {
+        return (flags & flag) != 0;
+    }
+}
@@ -1,11 +1,15 @@
 package com.demo.burnout.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.time.Instant;
 import java.util.List;
 
 /**
  * GitHub Issue record - fields we analyze from synced issues.
+ *
+ * {@code bodyFeatures} is derived from {@code body} ({@link BodyFeatures}) and {@code demoFlags}
+ * from {@code labels} ({@link DemoFlags}) when the issue is created; neither is serialized.
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 public record Issue(
@@ -17,8 +21,31 @@ public record Issue(
     Instant createdAt,
     Instant updatedAt,
     String state,
-    Milestone milestone
+    Milestone milestone,
+    @JsonIgnore int bodyFeatures,
+    @JsonIgnore int demoFlags
 ) {
+    public Issue {
+        if (bodyFeatures == 0) {
+            bodyFeatures = BodyFeatures.extract(body);
+        }
+        if (demoFlags == 0) {
+            demoFlags = DemoFlags.extract(labels);
+        }
+    }
+
+    public Issue(int number, String title, String body, List<Label> labels, List<Assignee> assignees,
+                 Instant createdAt, Instant updatedAt, String state, Milestone milestone) {
+        this(number, title, body, labels, assignees, createdAt, updatedAt, state, milestone, 0, 0);
+    }
+
+    /**
+     * Body is null, empty or whitespace only.
+     */
+    public boolean bodyBlank() {
+        return BodyFeatures.isBlank(bodyFeatures);
+    }
+
     @JsonIgnoreProperties(ignoreUnknown = true)
     public record Label(String name) {}
     
@@ -0,0 +1,44 @@
+package com.demo.burnout.model;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneRules;
+
+/**
+ * Working hours [startHour, endHour) in local time, optionally Monday to Friday only.
+ * Activity outside them is the "after hours" burnout signal.
+ *
+ * The check works on epoch millis and the zone's offset, so an index can evaluate it over
+ * its timestamp column without materializing a ZonedDateTime per issue; the result is the
+ * same as {@code timestamp.atZone(zone)}.
+ */
+public record OfficeHours(int startHour, int endHour, boolean weekendsOff) {
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    public boolean outside(Instant timestamp, ZoneId zone) {
+        if (timestamp == null) return false;
+        return outside(timestamp.getEpochSecond(), zone.getRules().getOffset(timestamp).getTotalSeconds());
+    }
+
+    /**
+     * Whether {@code epochMillis} falls outside office hours in the zone with {@code rules}.
+     */
+    public boolean outside(long epochMillis, ZoneRules rules) {
+        long epochSecond = Math.floorDiv(epochMillis, 1000);
+        int offset = rules.isFixedOffset()
+            ? rules.getOffset(Instant.EPOCH).getTotalSeconds()
+            : rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        return outside(epochSecond, offset);
+    }
+
+    private boolean outside(long epochSecond, int offsetSeconds) {
+        long local = epochSecond + offsetSeconds;
+        int hour = (int) (Math.floorMod(local, SECONDS_PER_DAY) / 3600);
+        if (hour < startHour || hour >= endHour) return true;
+        if (!weekendsOff) return false;
+        // 1970-01-01 was a Thursday; 0 = Monday
+        int dayOfWeek = (int) Math.floorMod(Math.floorDiv(local, SECONDS_PER_DAY) + 3, 7);
+        return dayOfWeek >= 5;
+    }
+}
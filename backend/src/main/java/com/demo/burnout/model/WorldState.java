@@ -1,11 +1,16 @@
 package com.demo.burnout.model;
 
+import com.demo.burnout.cache.IssueIndex;
 import com.demo.burnout.util.DemoLabels;
-import com.demo.burnout.util.LabelUtils;
+import com.demo.burnout.util.AssigneeMatcher;
+import com.demo.burnout.util.LabelMatcher;
+import com.demo.burnout.util.TimerWheel;
+import org.roaringbitmap.RoaringBitmap;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneId;
 import java.util.List;
 
 /**
@@ -32,6 +37,21 @@ public record WorldState(
     boolean calendarBlocked,
     int consecutiveHighChaosDays
 ) {
+    private static final LabelMatcher DEEP_WORK_LABELS = LabelMatcher.of("priority:critical", "architecture", "deep-work");
+    private static final LabelMatcher QUICK_WIN_LABELS = LabelMatcher.of("good-first-issue", "quick-win", "size:S");
+    private static final LabelMatcher MAINTENANCE_LABELS = LabelMatcher.of("dependencies", "documentation", "maintenance", "tech-debt");
+    private static final LabelMatcher DEFERRED_LABELS = LabelMatcher.of("deferred", "next-sprint", "backlog");
+    private static final LabelMatcher URGENT_LABELS = LabelMatcher.of("urgent", "priority:critical");
+    private static final LabelMatcher BUG_LABELS = LabelMatcher.of("bug");
+    private static final LabelMatcher ENHANCEMENT_LABELS = LabelMatcher.of("enhancement");
+    private static final LabelMatcher UNCLEAR_QUICK_WIN_LABELS = LabelMatcher.of("quick-win", "good-first-issue");
+
+    /** Updates outside these hours count as after-hours activity. */
+    public static final OfficeHours OFFICE_HOURS = new OfficeHours(9, 18, false);
+
+    private static final long TOUCHED_MILLIS = Duration.ofHours(8).toMillis();
+    private static final long STALE_MILLIS = Duration.ofDays(14).toMillis();
+
     public enum ChaosBucket { 
         LOW(0), MEDIUM(1), HIGH(2), CRITICAL(3);
         public final int ordinalValue;
@@ -47,20 +67,32 @@ public record WorldState(
 
     public static WorldState from(List<Issue> issues, String userId, 
                                    ChaosMetrics chaos, ComplianceReport compliance, Clock clock) {
+        return from(count(issues, userId, clock), chaos, compliance);
+    }
+
+    public static WorldState from(IssueIndex index, String userId,
+                                  ChaosMetrics chaos, ComplianceReport compliance, Clock clock) {
+        return from(count(index, userId, clock), chaos, compliance);
+    }
+
+    /**
+     * Build the state from raw (uncapped) counts, e.g. counts maintained incrementally.
+     */
+    public static WorldState from(Counts c, ChaosMetrics chaos, ComplianceReport compliance) {
         return new WorldState(
-            Math.min(5, countDeepWork(issues, userId)),
-            Math.min(5, countQuickWins(issues, userId)),
-            Math.min(5, countMaintenance(issues, userId)),
-            Math.min(10, countDeferred(issues, userId)),
+            Math.min(5, c.deepWork()),
+            Math.min(5, c.quickWins()),
+            Math.min(5, c.maintenance()),
+            Math.min(10, c.deferred()),
             0,
-            Math.min(10, countUrgentUnassigned(issues)),
-            Math.min(5, countContradictory(issues)),
-            Math.min(10, countTouchedToday(issues, userId, clock)),
-            Math.min(5, countAfterHours(issues, userId, clock)),
-            Math.min(10, countStale(issues, clock)),
-            Math.min(10, countMysteryMeat(issues)),
-            Math.min(5, countUnclearQuickWins(issues, userId)),
-            Math.min(15, countAssigned(issues, userId)),
+            Math.min(10, c.urgentUnassigned()),
+            Math.min(5, c.contradictory()),
+            Math.min(10, c.touchedToday()),
+            Math.min(5, c.afterHours()),
+            Math.min(10, c.stale()),
+            Math.min(10, c.mysteryMeat()),
+            Math.min(5, c.unclearQuickWins()),
+            Math.min(15, c.assigned()),
             ChaosBucket.from(chaos.score()),
             roundToFive(compliance.complianceScore()),
             compliance.isCompliant(),
@@ -69,6 +101,196 @@ public record WorldState(
         );
     }
 
+    /**
+     * Raw indicator counts over all issues. Every count is a sum of per-issue 0/1
+     * contributions ({@link #countIssue}), so it can be adjusted one issue at a time.
+     */
+    public record Counts(
+        int deepWork,
+        int quickWins,
+        int maintenance,
+        int deferred,
+        int urgentUnassigned,
+        int contradictory,
+        int touchedToday,
+        int afterHours,
+        int stale,
+        int mysteryMeat,
+        int unclearQuickWins,
+        int assigned
+    ) {
+        public static final Counts ZERO = new Counts(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        public Counts plus(Counts o) {
+            return new Counts(deepWork + o.deepWork, quickWins + o.quickWins,
+                maintenance + o.maintenance, deferred + o.deferred,
+                urgentUnassigned + o.urgentUnassigned, contradictory + o.contradictory,
+                touchedToday + o.touchedToday, afterHours + o.afterHours, stale + o.stale,
+                mysteryMeat + o.mysteryMeat, unclearQuickWins + o.unclearQuickWins,
+                assigned + o.assigned);
+        }
+
+        public Counts minus(Counts o) {
+            return new Counts(deepWork - o.deepWork, quickWins - o.quickWins,
+                maintenance - o.maintenance, deferred - o.deferred,
+                urgentUnassigned - o.urgentUnassigned, contradictory - o.contradictory,
+                touchedToday - o.touchedToday, afterHours - o.afterHours, stale - o.stale,
+                mysteryMeat - o.mysteryMeat, unclearQuickWins - o.unclearQuickWins,
+                assigned - o.assigned);
+        }
+    }
+
+    /**
+     * The sum of {@link #countIssue} over a list, in one pass. For one-off lists this beats
+     * building an index, and with the matchers and precomputed cutoffs it allocates nothing
+     * per issue (for records on the heap; a columnar list materializes each one it returns).
+     */
+    public static Counts count(List<Issue> issues, String userId, Clock clock) {
+        Tally tally = new Tally(AssigneeMatcher.of(userId), clock.instant(), clock.getZone());
+        for (int i = 0, n = issues.size(); i < n; i++) {
+            tally.add(issues.get(i));
+        }
+        return tally.counts();
+    }
+
+    /**
+     * The sum of {@link #countIssue} over the index, as bitmap operations. Timestamp checks
+     * use the index's time orders and only consider candidates without demo labels.
+     */
+    public static Counts count(IssueIndex index, String userId, Clock clock) {
+        Instant now = clock.instant();
+        RoaringBitmap assigned = index.assigneeIgnoreCase(userId);
+        RoaringBitmap assignedReal = RoaringBitmap.andNot(assigned, index.demo());
+
+        int touched = RoaringBitmap.orCardinality(
+            RoaringBitmap.and(assigned, index.label(DemoLabels.TOUCHED_TODAY)),
+            index.updatedAfter(assignedReal, now.minus(Duration.ofHours(8))));
+        int afterHours = afterHoursIssues(index, assigned, clock.getZone()).getCardinality();
+
+        return shared(index, now).plus(new Counts(
+            RoaringBitmap.andCardinality(assigned, index.anyLabel(DEEP_WORK_LABELS.names())),
+            RoaringBitmap.andCardinality(assigned, index.anyLabel(QUICK_WIN_LABELS.names())),
+            RoaringBitmap.andCardinality(assigned, index.anyLabel(MAINTENANCE_LABELS.names())),
+            RoaringBitmap.andCardinality(assigned, index.anyLabel(DEFERRED_LABELS.names())),
+            0,
+            0,
+            touched,
+            afterHours,
+            0,
+            0,
+            RoaringBitmap.andCardinality(RoaringBitmap.and(assigned, index.bodyEmpty()),
+                index.anyLabel(UNCLEAR_QUICK_WIN_LABELS.names())),
+            assigned.getCardinality()
+        ));
+    }
+
+    /**
+     * The counts every user gets regardless of assignment: the sum of
+     * {@code countIssue(i, null, now, zone)} over the index.
+     */
+    public static Counts shared(IssueIndex index, Instant now) {
+        return new Counts(0, 0, 0, 0,
+            RoaringBitmap.andCardinality(index.anyLabel(URGENT_LABELS.names()), index.unassigned()),
+            RoaringBitmap.andCardinality(index.anyLabel(BUG_LABELS.names()), index.anyLabel(ENHANCEMENT_LABELS.names())),
+            0,
+            0,
+            staleIssues(index, index.all(), now).getCardinality(),
+            index.bodyEmpty().getCardinality(),
+            0,
+            0);
+    }
+
+    public static Counts countIssue(Issue i, String userId, Instant now, ZoneId zone) {
+        Tally tally = new Tally(AssigneeMatcher.of(userId), now, zone);
+        tally.add(i);
+        return tally.counts();
+    }
+
+    /**
+     * First epoch milli after {@code afterMillis} at which {@link #countIssue} can change for
+     * issue {@code id} through time alone: it leaves the touched window, or goes stale.
+     * {@link TimerWheel#NEVER} for demo issues, issues without updatedAt and once both have passed.
+     */
+    public static long nextChange(IssueIndex index, int id, long afterMillis) {
+        long updated = index.updatedAt(id);
+        if (updated == Long.MIN_VALUE || index.demo().contains(id)) return TimerWheel.NEVER;
+        long next = TimerWheel.earliestAfter(afterMillis, updated + TOUCHED_MILLIS, TimerWheel.NEVER);
+        return TimerWheel.earliestAfter(afterMillis, updated + STALE_MILLIS + 1, next);
+    }
+
+    /**
+     * Members of {@code candidates} counted as stale: demo:stale-14d, or (without demo labels)
+     * not updated in 14 days.
+     */
+    public static RoaringBitmap staleIssues(IssueIndex index, RoaringBitmap candidates, Instant now) {
+        RoaringBitmap real = RoaringBitmap.andNot(candidates, index.demo());
+        RoaringBitmap stale = RoaringBitmap.and(candidates, index.label(DemoLabels.STALE_14D));
+        stale.or(index.updatedMissing(real));
+        stale.or(index.updatedBefore(real, now.minus(Duration.ofDays(14))));
+        return stale;
+    }
+
+    /**
+     * Members of {@code candidates} counted as after-hours activity: demo:after-hours, or
+     * (without demo labels) last updated outside {@link #OFFICE_HOURS} in {@code zone}.
+     */
+    public static RoaringBitmap afterHoursIssues(IssueIndex index, RoaringBitmap candidates, ZoneId zone) {
+        RoaringBitmap afterHours = RoaringBitmap.and(candidates, index.label(DemoLabels.AFTER_HOURS));
+        afterHours.or(RoaringBitmap.and(RoaringBitmap.andNot(candidates, index.demo()),
+            index.updatedOutside(OFFICE_HOURS, zone)));
+        return afterHours;
+    }
+
+    /**
+     * Running sum of per-issue contributions. The time cutoffs are computed once, and every
+     * check is a matcher, a {@link DemoFlags} bit or a timestamp comparison.
+     */
+    private static final class Tally {
+        private final AssigneeMatcher user;
+        private final Instant touchedAfter;
+        private final Instant staleBefore;
+        private final ZoneId zone;
+        private int deepWork, quickWins, maintenance, deferred, urgentUnassigned, contradictory,
+            touchedToday, afterHours, stale, mysteryMeat, unclearQuickWins, assigned;
+
+        Tally(AssigneeMatcher user, Instant now, ZoneId zone) {
+            this.user = user;
+            this.touchedAfter = now.minusMillis(TOUCHED_MILLIS);
+            this.staleBefore = now.minusMillis(STALE_MILLIS);
+            this.zone = zone;
+        }
+
+        void add(Issue i) {
+            boolean mine = user.matches(i);
+            boolean noBody = i.bodyBlank();
+            int demo = i.demoFlags();
+            boolean real = !DemoFlags.isDemo(demo);
+            Instant updated = i.updatedAt();
+            if (mine) {
+                assigned++;
+                if (DEEP_WORK_LABELS.matches(i)) deepWork++;
+                if (QUICK_WIN_LABELS.matches(i)) quickWins++;
+                if (MAINTENANCE_LABELS.matches(i)) maintenance++;
+                if (DEFERRED_LABELS.matches(i)) deferred++;
+                if (DemoFlags.has(demo, DemoFlags.TOUCHED_TODAY)
+                    || (real && updated != null && updated.isAfter(touchedAfter))) touchedToday++;
+                if (DemoFlags.has(demo, DemoFlags.AFTER_HOURS)
+                    || (real && OFFICE_HOURS.outside(updated, zone))) afterHours++;
+                if (noBody && UNCLEAR_QUICK_WIN_LABELS.matches(i)) unclearQuickWins++;
+            }
+            if ((i.assignees() == null || i.assignees().isEmpty()) && URGENT_LABELS.matches(i)) urgentUnassigned++;
+            if (BUG_LABELS.matches(i) && ENHANCEMENT_LABELS.matches(i)) contradictory++;
+            if (DemoFlags.has(demo, DemoFlags.STALE_14D)
+                || (real && (updated == null || updated.isBefore(staleBefore)))) stale++;
+            if (noBody) mysteryMeat++;
+        }
+
+        Counts counts() {
+            return new Counts(deepWork, quickWins, maintenance, deferred, urgentUnassigned,
+                contradictory, touchedToday, afterHours, stale, mysteryMeat, unclearQuickWins, assigned);
+        }
+    }
+
     public WorldState withDeepWorkCount(int v) {
         return new WorldState(v, quickWinCount, maintenanceCount, deferredCount,
             delegatedCount, urgentUnassigned, contradictoryLabels, issuesTouchedToday, 
@@ -196,114 +418,10 @@ public record WorldState(
         return StressLevel.LOW;
     }
 
-    private static int countDeepWork(List<Issue> issues, String userId) {
-        return (int) issues.stream()
-            .filter(i -> isAssignedTo(i, userId))
-            .filter(i -> LabelUtils.hasAnyLabel(i, List.of("priority:critical", "architecture", "deep-work")))
-            .count();
-    }
-
-    private static int countQuickWins(List<Issue> issues, String userId) {
-        return (int) issues.stream()
-            .filter(i -> isAssignedTo(i, userId))
-            .filter(i -> LabelUtils.hasAnyLabel(i, List.of("good-first-issue", "quick-win", "size:S")))
-            .count();
-    }
-
-    private static int countMaintenance(List<Issue> issues, String userId) {
-        return (int) issues.stream()
-            .filter(i -> isAssignedTo(i, userId))
-            .filter(i -> LabelUtils.hasAnyLabel(i, List.of("dependencies", "documentation", "maintenance", "tech-debt")))
-            .count();
-    }
-
-    private static int countDeferred(List<Issue> issues, String userId) {
-        return (int) issues.stream()
-            .filter(i -> isAssignedTo(i, userId))
-            .filter(i -> LabelUtils.hasAnyLabel(i, List.of("deferred", "next-sprint", "backlog")))
-            .count();
-    }
-
-    private static int countUrgentUnassigned(List<Issue> issues) {
-        return (int) issues.stream()
-            .filter(i -> LabelUtils.hasAnyLabel(i, List.of("urgent", "priority:critical")))
-            .filter(i -> i.assignees() == null || i.assignees().isEmpty())
-            .count();
-    }
-
-    private static int countContradictory(List<Issue> issues) {
-        return (int) issues.stream()
-            .filter(i -> LabelUtils.hasAnyLabel(i, List.of("bug")) && 
-                         LabelUtils.hasAnyLabel(i, List.of("enhancement")))
-            .count();
-    }
-
-    private static int countTouchedToday(List<Issue> issues, String userId, Clock clock) {
-        Instant todayCutoff = clock.instant().minus(Duration.ofHours(8));
-        return (int) issues.stream()
-            .filter(i -> isAssignedTo(i, userId))
-            .filter(i -> DemoLabels.hasLabel(i, DemoLabels.TOUCHED_TODAY) || 
-                         (!DemoLabels.hasDemoLabel(i) && i.updatedAt() != null && 
-                          i.updatedAt().isAfter(todayCutoff)))
-            .count();
-    }
-
-    private static int countAfterHours(List<Issue> issues, String userId, Clock clock) {
-        return (int) issues.stream()
-            .filter(i -> isAssignedTo(i, userId))
-            .filter(i -> DemoLabels.hasLabel(i, DemoLabels.AFTER_HOURS) || 
-                         (!DemoLabels.hasDemoLabel(i) && isAfterHours(i.updatedAt(), clock)))
-            .count();
-    }
-
-    private static int countStale(List<Issue> issues, Clock clock) {
-        return (int) issues.stream()
-            .filter(i -> DemoLabels.hasLabel(i, DemoLabels.STALE_14D) || 
-                         (!DemoLabels.hasDemoLabel(i) && isStale(i.updatedAt(), 14, clock)))
-            .count();
-    }
-
-    private static int countMysteryMeat(List<Issue> issues) {
-        return (int) issues.stream()
-            .filter(i -> i.body() == null || i.body().isBlank())
-            .count();
-    }
-
-    private static int countUnclearQuickWins(List<Issue> issues, String userId) {
-        return (int) issues.stream()
-            .filter(i -> isAssignedTo(i, userId))
-            .filter(i -> LabelUtils.hasAnyLabel(i, List.of("quick-win", "good-first-issue")))
-            .filter(i -> i.body() == null || i.body().isBlank())
-            .count();
-    }
-
-    private static int countAssigned(List<Issue> issues, String userId) {
-        return (int) issues.stream()
-            .filter(i -> isAssignedTo(i, userId))
-            .count();
-    }
-
-    private static boolean isAssignedTo(Issue issue, String userId) {
-        return issue.assignees() != null && 
-               issue.assignees().stream().anyMatch(a -> a.login().equalsIgnoreCase(userId));
-    }
-
     private static int roundToFive(int value) {
         return Math.round(value / 5.0f) * 5;
     }
 
-    private static boolean isAfterHours(Instant timestamp, Clock clock) {
-        if (timestamp == null) return false;
-        int hour = timestamp.atZone(clock.getZone()).getHour();
-        return hour < 9 || hour >= 18;
-    }
-
-    private static boolean isStale(Instant timestamp, int days, Clock clock) {
-        if (timestamp == null) return true;
-        Instant cutoff = clock.instant().minus(Duration.ofDays(days));
-        return timestamp.isBefore(cutoff);
-    }
-
     // Convenience methods for compatibility
     public boolean hasAfterHoursActivity() {
         return issuesUpdatedAfterHours > 0;
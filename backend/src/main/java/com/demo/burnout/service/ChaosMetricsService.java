@@ -1,21 +1,34 @@
 package com.demo.burnout.service;
 
+import com.demo.burnout.cache.IssueIndex;
 import com.demo.burnout.model.ChaosMetrics;
+import com.demo.burnout.model.DemoFlags;
 import com.demo.burnout.model.Issue;
+import com.demo.burnout.model.OfficeHours;
 import com.demo.burnout.util.DemoLabels;
 import com.demo.burnout.util.LabelUtils;
+import com.demo.burnout.util.TimerWheel;
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
-import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.ZonedDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 @Service
 public class ChaosMetricsService {
 
+    /** Window for "issues touched recently". */
+    public static final int RECENT_MINUTES = 60;
+
+    private static final long RECENT_MILLIS = Duration.ofMinutes(RECENT_MINUTES).toMillis();
+    private static final long URGENT_MILLIS = Duration.ofDays(1).toMillis();
+
+    /** Updates outside these hours, or at weekends, are an after-hours signal. */
+    public static final OfficeHours OFFICE_HOURS = new OfficeHours(8, 18, true);
+
     private final Clock clock;
 
     public ChaosMetricsService(Clock clock) {
@@ -27,54 +40,99 @@ public class ChaosMetricsService {
     }
 
     public ChaosMetrics calculate(List<Issue> issues, Clock clk) {
+        return calculate(IssueIndex.build(issues), clk);
+    }
+
+    /**
+     * Same as {@link #calculate(List, Clock)} as bitmap operations over a prebuilt index.
+     */
+    public ChaosMetrics calculate(IssueIndex index, Clock clk) {
         Instant now = clk.instant();
+        long touched = recentlyUpdated(index, now).getCardinality();
+        long urgent = urgentOver24h(index, now).getCardinality();
+        int labels = index.distinctLabels();
+        boolean afterHours = !index.label(DemoLabels.AFTER_HOURS).isEmpty()
+            || RoaringBitmap.andNotCardinality(index.updatedOutside(OFFICE_HOURS, clk.getZone()), index.demo()) > 0;
+        int mysteryMeat = mysteryMeat(index).getCardinality();
         return new ChaosMetrics(
-            countRecentUpdates(issues, 60, now),
-            countUrgentOver24h(issues, now),
-            countDistinctLabels(issues),
-            hasAfterHoursActivity(issues, now, clk),
-            countMissingDescriptionOrAssignee(issues),
-            calculateOverallScore(issues, now, clk)
+            touched,
+            urgent,
+            labels,
+            afterHours,
+            mysteryMeat,
+            score(mysteryMeat, urgent, touched, afterHours, labels)
         );
     }
 
-    private boolean hasAfterHoursActivity(List<Issue> issues, Instant now, Clock clk) {
-        return issues.stream().anyMatch(i -> 
-            DemoLabels.hasLabel(i, DemoLabels.AFTER_HOURS) ||
-            (!DemoLabels.hasDemoLabel(i) && isAfterHours(i.updatedAt(), clk)));
+    // ======================== Indexed signals ========================
+    // The issues matching each per-issue predicate below. Demo labels replace timestamps,
+    // so the time windows only consider issues without one.
+
+    public RoaringBitmap recentlyUpdated(IssueIndex index, Instant now) {
+        RoaringBitmap real = RoaringBitmap.andNot(index.all(), index.demo());
+        return RoaringBitmap.or(index.label(DemoLabels.TOUCHED_TODAY),
+            index.updatedAfter(real, now.minus(Duration.ofMinutes(RECENT_MINUTES))));
     }
 
-    private long countRecentUpdates(List<Issue> issues, int minutes, Instant now) {
-        return issues.stream().filter(i -> 
-            DemoLabels.hasLabel(i, DemoLabels.TOUCHED_TODAY) ||
-            (!DemoLabels.hasDemoLabel(i) && i.updatedAt() != null && 
-             i.updatedAt().isAfter(now.minus(Duration.ofMinutes(minutes))))
-        ).count();
+    public RoaringBitmap urgentOver24h(IssueIndex index, Instant now) {
+        RoaringBitmap urgent = index.label("urgent");
+        return RoaringBitmap.and(urgent, RoaringBitmap.or(
+            index.label(DemoLabels.STALE_14D),
+            index.createdBefore(RoaringBitmap.andNot(urgent, index.demo()), now.minusSeconds(86400))));
     }
 
-    private long countUrgentOver24h(List<Issue> issues, Instant now) {
-        return issues.stream().filter(i -> 
-            LabelUtils.hasLabel(i, "urgent") &&
-            (DemoLabels.hasLabel(i, DemoLabels.STALE_14D) ||
-             (!DemoLabels.hasDemoLabel(i) && i.createdAt() != null && 
-              i.createdAt().isBefore(now.minusSeconds(86400))))
-        ).count();
+    public RoaringBitmap afterHoursActivity(IssueIndex index, ZoneId zone) {
+        return RoaringBitmap.or(index.label(DemoLabels.AFTER_HOURS),
+            RoaringBitmap.andNot(index.updatedOutside(OFFICE_HOURS, zone), index.demo()));
     }
 
-    private int countDistinctLabels(List<Issue> issues) {
-        return (int) issues.stream()
-            .filter(i -> i.labels() != null)
-            .flatMap(i -> i.labels().stream())
-            .map(Issue.Label::name)
-            .distinct()
-            .count();
+    public RoaringBitmap mysteryMeat(IssueIndex index) {
+        return RoaringBitmap.or(index.bodyEmpty(), index.unassigned());
+    }
+
+    // ======================== Per-issue signals ========================
+    // Each count in calculate() is the number of issues matching one of these predicates,
+    // so incremental recomputation can add/subtract single issues.
+
+    public boolean isRecentlyUpdated(Issue i, Instant now) {
+        int demo = i.demoFlags();
+        if (DemoFlags.isDemo(demo)) return DemoFlags.has(demo, DemoFlags.TOUCHED_TODAY);
+        return i.updatedAt() != null && i.updatedAt().isAfter(now.minus(Duration.ofMinutes(RECENT_MINUTES)));
     }
 
-    private int countMissingDescriptionOrAssignee(List<Issue> issues) {
-        return (int) issues.stream().filter(i -> 
-            (i.body() == null || i.body().isBlank()) ||
-            (i.assignees() == null || i.assignees().isEmpty())
-        ).count();
+    public boolean isUrgentOver24h(Issue i, Instant now) {
+        if (!LabelUtils.hasLabel(i, "urgent")) return false;
+        int demo = i.demoFlags();
+        if (DemoFlags.isDemo(demo)) return DemoFlags.has(demo, DemoFlags.STALE_14D);
+        return i.createdAt() != null && i.createdAt().isBefore(now.minusSeconds(86400));
+    }
+
+    public boolean isAfterHoursActivity(Issue i, Clock clk) {
+        int demo = i.demoFlags();
+        if (DemoFlags.isDemo(demo)) return DemoFlags.has(demo, DemoFlags.AFTER_HOURS);
+        return OFFICE_HOURS.outside(i.updatedAt(), clk.getZone());
+    }
+
+    public boolean isMysteryMeat(Issue i) {
+        return i.bodyBlank() ||
+            (i.assignees() == null || i.assignees().isEmpty());
+    }
+
+    /**
+     * First epoch milli after {@code afterMillis} at which the time-dependent signals above
+     * can change for issue {@code id}: it leaves the recent window, or turns 24h old.
+     * {@link TimerWheel#NEVER} for demo issues and once both have passed.
+     */
+    public long nextChange(IssueIndex index, int id, long afterMillis) {
+        if (index.demo().contains(id)) return TimerWheel.NEVER;
+        long next = TimerWheel.NEVER;
+        if (index.updatedAt(id) != Long.MIN_VALUE) {
+            next = TimerWheel.earliestAfter(afterMillis, index.updatedAt(id) + RECENT_MILLIS, next);
+        }
+        if (index.createdAt(id) != Long.MIN_VALUE) {
+            next = TimerWheel.earliestAfter(afterMillis, index.createdAt(id) + URGENT_MILLIS + 1, next);
+        }
+        return next;
     }
 
     /**
@@ -85,31 +143,13 @@ public class ChaosMetricsService {
      * +2 if afterHoursSignal == true
      * +2 if distinctLabelCount >= 12
      */
-    private double calculateOverallScore(List<Issue> issues, Instant now, Clock clk) {
+    public static double score(int mysteryMeat, long urgent, long touched, boolean afterHours, int labels) {
         int score = 0;
-        
-        int mysteryMeat = countMissingDescriptionOrAssignee(issues);
         if (mysteryMeat >= 3) score += 2;
-        
-        long urgent = countUrgentOver24h(issues, now);
         if (urgent >= 3) score += 2;
-        
-        long touched = countRecentUpdates(issues, 60, now);
         if (touched >= 6) score += 2;
-        
-        if (hasAfterHoursActivity(issues, now, clk)) score += 2;
-        
-        int labels = countDistinctLabels(issues);
+        if (afterHours) score += 2;
         if (labels >= 12) score += 2;
-        
         return Math.min(10, score);
     }
-
-    private boolean isAfterHours(Instant timestamp, Clock clk) {
-        if (timestamp == null) return false;
-        ZonedDateTime zoned = timestamp.atZone(clk.getZone());
-        int hour = zoned.getHour();
-        DayOfWeek dow = zoned.getDayOfWeek();
-        return hour < 8 || hour >= 18 || dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY;
-    }
 }
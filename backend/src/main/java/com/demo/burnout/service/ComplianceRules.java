@@ -0,0 +1,306 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.model.DayStructure;
+import com.demo.burnout.model.Issue;
+import com.demo.burnout.model.Severity;
+import com.demo.burnout.model.Violation;
+import com.demo.burnout.model.ViolationType;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Declarative 3-3-3 compliance rules.
+ *
+ * Each rule compares one {@link Metric} of a user's counts against a limit
+ * ({@code value > max} or {@code value < min}), optionally only when another metric is
+ * non-zero. Messages are templates over {value}, {limit} and {excess}.
+ *
+ * Rules are compiled once into a {@link RuleSet}: the set of metrics whose affected-issue
+ * lists {@link ComplianceService#analyze} has to materialize, and the rules themselves,
+ * which only look at the totals. Adding a rule therefore costs one comparison per report,
+ * not another scan of the issues.
+ *
+ * Thresholds, severities and texts can be overridden in burnout.compliance.rules, and per
+ * team in burnout.compliance.teams (see ComplianceConfiguration).
+ */
+public final class ComplianceRules {
+
+    /**
+     * Per-user quantities a rule can test. The first seven are counted per issue; ACTIVE and
+     * USER_ISSUES are sums of buckets.
+     */
+    public enum Metric {
+        DEEP_WORK, QUICK_WINS, MAINTENANCE, DEFERRED, TOUCHED_TODAY, MYSTERY_QUICK_WINS, STALE_DEFERRED,
+        ACTIVE, USER_ISSUES;
+
+        long of(ComplianceService.Counts c) {
+            return switch (this) {
+                case DEEP_WORK -> c.deepWork();
+                case QUICK_WINS -> c.quickWins();
+                case MAINTENANCE -> c.maintenance();
+                case DEFERRED -> c.deferred();
+                case TOUCHED_TODAY -> c.touchedToday();
+                case MYSTERY_QUICK_WINS -> c.mysteryQuickWins();
+                case STALE_DEFERRED -> c.staleDeferred();
+                case ACTIVE -> c.deepWork() + c.quickWins() + c.maintenance();
+                case USER_ISSUES -> c.userIssues();
+            };
+        }
+    }
+
+    /**
+     * One compiled rule. {@code affected} names the metric whose issues are attached to the
+     * violation; with {@code excessOnly} only those beyond {@code max} are.
+     */
+    public record Rule(
+        ViolationType type,
+        boolean enabled,
+        Severity severity,
+        Metric metric,
+        Long min,
+        Long max,
+        Metric requires,
+        Metric affected,
+        boolean excessOnly,
+        String field,
+        String message,
+        String recommendation
+    ) {
+        public Rule {
+            if (type == null || severity == null || metric == null) {
+                throw new IllegalStateException("Compliance rule " + type + " needs a type, severity and metric");
+            }
+            if (min == null && max == null) {
+                throw new IllegalStateException("Compliance rule " + type + " needs a min or max");
+            }
+        }
+
+        boolean violatedBy(ComplianceService.Counts counts) {
+            if (!enabled) return false;
+            if (requires != null && requires.of(counts) == 0) return false;
+            long value = metric.of(counts);
+            return (max != null && value > max) || (min != null && value < min);
+        }
+
+        Violation violation(ComplianceService.Counts counts, Map<Metric, List<Issue>> lists) {
+            long value = metric.of(counts);
+            long limit = max != null ? max : min;
+            List<Issue> issues = affected != null ? lists.getOrDefault(affected, List.of()) : List.of();
+            if (excessOnly && max != null) {
+                issues = issues.size() > max ? issues.subList(max.intValue(), issues.size()) : List.of();
+            }
+            return new Violation(type, severity, render(message, value, limit), issues,
+                render(recommendation, value, limit), field);
+        }
+
+        /**
+         * This rule with the non-null fields of {@code override} applied.
+         */
+        public Rule with(RuleConfig override) {
+            if (override == null) return this;
+            return new Rule(type,
+                override.getEnabled() != null ? override.getEnabled() : enabled,
+                override.getSeverity() != null ? override.getSeverity() : severity,
+                override.getMetric() != null ? override.getMetric() : metric,
+                override.getMin() != null ? override.getMin() : min,
+                override.getMax() != null ? override.getMax() : max,
+                override.getRequires() != null ? override.getRequires() : requires,
+                override.getAffected() != null ? override.getAffected() : affected,
+                override.getExcessOnly() != null ? override.getExcessOnly() : excessOnly,
+                override.getField() != null ? override.getField() : field,
+                override.getMessage() != null ? override.getMessage() : message,
+                override.getRecommendation() != null ? override.getRecommendation() : recommendation);
+        }
+
+        private static String render(String template, long value, long limit) {
+            return template
+                .replace("{value}", String.valueOf(value))
+                .replace("{limit}", String.valueOf(limit))
+                .replace("{excess}", String.valueOf(value - limit));
+        }
+    }
+
+    /**
+     * Configuration for one rule: every field is optional and replaces the default.
+     */
+    public static class RuleConfig {
+        private Boolean enabled;
+        private Severity severity;
+        private Metric metric;
+        private Long min;
+        private Long max;
+        private Metric requires;
+        private Metric affected;
+        private Boolean excessOnly;
+        private String field;
+        private String message;
+        private String recommendation;
+
+        public Boolean getEnabled() { return enabled; }
+        public void setEnabled(Boolean enabled) { this.enabled = enabled; }
+        public Severity getSeverity() { return severity; }
+        public void setSeverity(Severity severity) { this.severity = severity; }
+        public Metric getMetric() { return metric; }
+        public void setMetric(Metric metric) { this.metric = metric; }
+        public Long getMin() { return min; }
+        public void setMin(Long min) { this.min = min; }
+        public Long getMax() { return max; }
+        public void setMax(Long max) { this.max = max; }
+        public Metric getRequires() { return requires; }
+        public void setRequires(Metric requires) { this.requires = requires; }
+        public Metric getAffected() { return affected; }
+        public void setAffected(Metric affected) { this.affected = affected; }
+        public Boolean getExcessOnly() { return excessOnly; }
+        public void setExcessOnly(Boolean excessOnly) { this.excessOnly = excessOnly; }
+        public String getField() { return field; }
+        public void setField(String field) { this.field = field; }
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+        public String getRecommendation() { return recommendation; }
+        public void setRecommendation(String recommendation) { this.recommendation = recommendation; }
+    }
+
+    /**
+     * The built-in rules, in report order.
+     */
+    public static final List<Rule> DEFAULTS = List.of(
+        new Rule(ViolationType.MULTIPLE_DEEP_WORK, true, Severity.CRITICAL,
+            Metric.DEEP_WORK, null, (long) DayStructure.MAX_DEEP_WORK, null, Metric.DEEP_WORK, false, "labels",
+            "You have {value} deep-work issues active. Max is {limit}.",
+            "Pick ONE critical issue. Move others to next sprint or delegate."),
+        new Rule(ViolationType.QUICK_WIN_OVERLOAD, true, Severity.WARNING,
+            Metric.QUICK_WINS, null, (long) DayStructure.MAX_QUICK_WINS, null, Metric.QUICK_WINS, true, "labels",
+            "You have {value} quick wins. Max is {limit} per day.",
+            "Defer {excess} quick wins to tomorrow."),
+        new Rule(ViolationType.MAINTENANCE_OVERLOAD, true, Severity.WARNING,
+            Metric.MAINTENANCE, null, (long) DayStructure.MAX_MAINTENANCE, null, Metric.MAINTENANCE, true, "labels",
+            "You have {value} maintenance tasks. Max is {limit}.",
+            "Batch remaining maintenance for a dedicated maintenance day."),
+        new Rule(ViolationType.NO_DEEP_WORK, true, Severity.INFO,
+            Metric.DEEP_WORK, 1L, null, Metric.USER_ISSUES, null, false, "labels",
+            "No deep-work issue assigned. You may be stuck in reactive mode.",
+            "Identify one priority:critical or architecture issue to focus on."),
+        new Rule(ViolationType.EXCESSIVE_CONTEXT_SWITCHING, true, Severity.CRITICAL,
+            Metric.TOUCHED_TODAY, null, 5L, null, null, false, "updatedAt",
+            "You've touched {value} issues today. High context-switch cost.",
+            "Focus on completing one issue before moving to the next."),
+        new Rule(ViolationType.UNCLEAR_QUICK_WINS, true, Severity.WARNING,
+            Metric.MYSTERY_QUICK_WINS, null, 0L, null, Metric.MYSTERY_QUICK_WINS, false, "body",
+            "{value} quick wins have no description.",
+            "Add scope/acceptance criteria or reclassify as deferred."),
+        new Rule(ViolationType.DEFERRED_BACKLOG_GROWING, true, Severity.INFO,
+            Metric.STALE_DEFERRED, null, 5L, null, Metric.STALE_DEFERRED, false, "createdAt",
+            "{value} deferred issues are >14 days old.",
+            "Schedule a backlog grooming session."),
+        new Rule(ViolationType.TOTAL_OVERLOAD, true, Severity.CRITICAL,
+            Metric.ACTIVE, null, (long) DayStructure.MAX_ACTIVE, null, null, false, "assignees",
+            "Total active issues: {value}. Max for 3-3-3 is {limit}.",
+            "Defer {excess} issues to protect your focus.")
+    );
+
+    /**
+     * Compiled rules for one audience (everyone, or one team).
+     */
+    public static final class RuleSet {
+        private final List<Rule> rules;
+        private final Set<Metric> collected;
+
+        RuleSet(List<Rule> rules) {
+            this.rules = List.copyOf(rules);
+            Set<Metric> collected = EnumSet.noneOf(Metric.class);
+            for (Rule rule : rules) {
+                if (rule.enabled() && rule.affected() != null) collected.add(rule.affected());
+            }
+            this.collected = collected;
+        }
+
+        public List<Rule> rules() {
+            return rules;
+        }
+
+        /**
+         * Metrics whose issues have to be listed.
+         */
+        Set<Metric> collected() {
+            return collected;
+        }
+
+        List<Violation> evaluate(ComplianceService.Counts counts, Map<Metric, List<Issue>> lists) {
+            List<Violation> violations = new ArrayList<>();
+            for (Rule rule : rules) {
+                if (rule.violatedBy(counts)) violations.add(rule.violation(counts, lists));
+            }
+            return violations;
+        }
+    }
+
+    private final RuleSet base;
+    private final Map<String, RuleSet> byMember;
+
+    private ComplianceRules(RuleSet base, Map<String, RuleSet> byMember) {
+        this.base = base;
+        this.byMember = byMember;
+    }
+
+    /**
+     * The built-in rules, with no overrides.
+     */
+    public static ComplianceRules defaults() {
+        return compile(Map.of(), Map.of());
+    }
+
+    /**
+     * Apply {@code overrides} to the defaults, then each team's overrides on top of those.
+     *
+     * @param teams team name -> (members, rule overrides)
+     */
+    public static ComplianceRules compile(Map<ViolationType, RuleConfig> overrides, Map<String, Team> teams) {
+        List<Rule> rules = new ArrayList<>();
+        for (Rule rule : DEFAULTS) {
+            rules.add(rule.with(overrides.get(rule.type())));
+        }
+        RuleSet base = new RuleSet(rules);
+
+        Map<String, RuleSet> byMember = new HashMap<>();
+        Map<String, String> teamOf = new LinkedHashMap<>();
+        teams.forEach((name, team) -> {
+            List<Rule> teamRules = new ArrayList<>();
+            for (Rule rule : rules) {
+                teamRules.add(rule.with(team.rules().get(rule.type())));
+            }
+            RuleSet set = new RuleSet(teamRules);
+            for (String member : team.members()) {
+                String previous = teamOf.put(member, name);
+                if (previous != null) {
+                    throw new IllegalStateException(
+                        "Compliance team member " + member + " is in both " + previous + " and " + name);
+                }
+                byMember.put(member, set);
+            }
+        });
+        return new ComplianceRules(base, Map.copyOf(byMember));
+    }
+
+    /**
+     * Members of a team and their rule overrides.
+     */
+    public record Team(List<String> members, Map<ViolationType, RuleConfig> rules) {
+        public Team {
+            members = members != null ? members : List.of();
+            rules = rules != null ? Map.copyOf(rules) : Map.of();
+        }
+    }
+
+    /**
+     * Rules that apply to {@code userId}: their team's, or the base set.
+     */
+    public RuleSet forUser(String userId) {
+        return byMember.getOrDefault(userId, base);
+    }
+}
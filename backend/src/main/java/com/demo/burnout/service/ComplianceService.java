@@ -1,164 +1,206 @@
 package com.demo.burnout.service;
 
+import com.demo.burnout.cache.IssueIndex;
 import com.demo.burnout.model.*;
 import com.demo.burnout.util.DemoLabels;
+import com.demo.burnout.util.TimerWheel;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 public class ComplianceService {
 
+    private static final Duration TOUCHED_WINDOW = Duration.ofHours(8);
+    private static final Duration STALE_AGE = Duration.ofDays(14);
+
     private final IssueClassifierService classifier;
     private final Clock clock;
+    private final ComplianceRules rules;
 
     public ComplianceService(IssueClassifierService classifier, Clock clock) {
+        this(classifier, clock, ComplianceRules.defaults());
+    }
+
+    @Autowired
+    public ComplianceService(IssueClassifierService classifier, Clock clock, ComplianceRules rules) {
         this.classifier = classifier;
         this.clock = clock;
+        this.rules = rules;
     }
 
     public ComplianceReport analyze(List<Issue> issues, String userId) {
-        List<Issue> userIssues = issues.stream()
-            .filter(i -> "open".equals(i.state()))
-            .filter(i -> i.assignees() != null && i.assignees().stream()
-                .anyMatch(a -> a.login().equals(userId)))
-            .toList();
-
-        Map<Classification, List<Issue>> buckets = userIssues.stream()
-            .collect(Collectors.groupingBy(classifier::classify));
-
-        List<Issue> deepWork = buckets.getOrDefault(Classification.DEEP_WORK, List.of());
-        List<Issue> quickWins = buckets.getOrDefault(Classification.QUICK_WIN, List.of());
-        List<Issue> maintenance = buckets.getOrDefault(Classification.MAINTENANCE, List.of());
-        List<Issue> deferred = buckets.getOrDefault(Classification.DEFERRED, List.of());
-
-        List<Violation> violations = new ArrayList<>();
-
-        if (deepWork.size() > 1) {
-            violations.add(new Violation(
-                ViolationType.MULTIPLE_DEEP_WORK,
-                Severity.CRITICAL,
-                "You have " + deepWork.size() + " deep-work issues active. Max is 1.",
-                deepWork,
-                "Pick ONE critical issue. Move others to next sprint or delegate.",
-                "labels"
-            ));
-        }
+        return analyze(issues, userId, clock.instant());
+    }
 
-        if (quickWins.size() > 3) {
-            violations.add(new Violation(
-                ViolationType.QUICK_WIN_OVERLOAD,
-                Severity.WARNING,
-                "You have " + quickWins.size() + " quick wins. Max is 3 per day.",
-                quickWins.subList(3, quickWins.size()),
-                "Defer " + (quickWins.size() - 3) + " quick wins to tomorrow.",
-                "labels"
-            ));
-        }
+    public ComplianceReport analyze(List<Issue> issues, String userId, Instant now) {
+        return analyze(IssueIndex.build(issues, classifier::classify), userId, now);
+    }
 
-        if (maintenance.size() > 3) {
-            violations.add(new Violation(
-                ViolationType.MAINTENANCE_OVERLOAD,
-                Severity.WARNING,
-                "You have " + maintenance.size() + " maintenance tasks. Max is 3.",
-                maintenance.subList(3, maintenance.size()),
-                "Batch remaining maintenance for a dedicated maintenance day.",
-                "labels"
-            ));
+    /**
+     * Bitmap evaluation over a prebuilt index: the user's open issues are intersected with
+     * the classification and flag bitmaps, and only the timestamp checks visit individual
+     * issues (those without demo labels). Affected-issue lists are materialized only for
+     * the metrics the user's rules attach to violations.
+     */
+    public ComplianceReport analyze(IssueIndex index, String userId, Instant now) {
+        RoaringBitmap user = RoaringBitmap.and(index.state("open"), index.assignee(userId));
+        RoaringBitmap deepWork = RoaringBitmap.and(user, index.classification(Classification.DEEP_WORK));
+        RoaringBitmap quickWins = RoaringBitmap.and(user, index.classification(Classification.QUICK_WIN));
+        RoaringBitmap maintenance = RoaringBitmap.and(user, index.classification(Classification.MAINTENANCE));
+        RoaringBitmap deferred = RoaringBitmap.and(user, index.classification(Classification.DEFERRED));
+        RoaringBitmap touchedToday = RoaringBitmap.or(
+            RoaringBitmap.and(user, index.label(DemoLabels.TOUCHED_TODAY)),
+            index.updatedAfter(RoaringBitmap.andNot(user, index.demo()), now.minus(TOUCHED_WINDOW)));
+        RoaringBitmap mysteryQuickWins = RoaringBitmap.and(quickWins, index.bodyEmpty());
+        RoaringBitmap staleDeferred = RoaringBitmap.or(
+            RoaringBitmap.and(deferred, index.label(DemoLabels.STALE_14D)),
+            index.createdBefore(RoaringBitmap.andNot(deferred, index.demo()), now.minus(STALE_AGE)));
+
+        Counts counts = new Counts(deepWork.getCardinality(), quickWins.getCardinality(),
+            maintenance.getCardinality(), deferred.getCardinality(), touchedToday.getCardinality(),
+            mysteryQuickWins.getCardinality(), staleDeferred.getCardinality());
+
+        Map<ComplianceRules.Metric, List<Issue>> lists = new EnumMap<>(ComplianceRules.Metric.class);
+        for (ComplianceRules.Metric m : rules.forUser(userId).collected()) {
+            RoaringBitmap ids = switch (m) {
+                case DEEP_WORK -> deepWork;
+                case QUICK_WINS -> quickWins;
+                case MAINTENANCE -> maintenance;
+                case DEFERRED -> deferred;
+                case TOUCHED_TODAY -> touchedToday;
+                case MYSTERY_QUICK_WINS -> mysteryQuickWins;
+                case STALE_DEFERRED -> staleDeferred;
+                case ACTIVE -> RoaringBitmap.andNot(user, deferred);
+                case USER_ISSUES -> user;
+            };
+            lists.put(m, index.issues(ids));
         }
+        return report(userId, counts, lists);
+    }
 
-        if (deepWork.isEmpty() && !userIssues.isEmpty()) {
-            violations.add(new Violation(
-                ViolationType.NO_DEEP_WORK,
-                Severity.INFO,
-                "No deep-work issue assigned. You may be stuck in reactive mode.",
-                List.of(),
-                "Identify one priority:critical or architecture issue to focus on.",
-                "labels"
-            ));
-        }
+    /**
+     * Report from bucket counts alone, for callers that maintain counts incrementally.
+     * Score, compliance flag and violation types match {@link #analyze}; violations
+     * carry no affected-issue lists.
+     */
+    public ComplianceReport fromCounts(String userId, Counts counts) {
+        return report(userId, counts, Map.of());
+    }
 
-        Instant todayCutoff = clock.instant().minus(Duration.ofHours(8));
-        long issuesTouchedToday = userIssues.stream()
-            .filter(i -> DemoLabels.hasLabel(i, DemoLabels.TOUCHED_TODAY) ||
-                         (!DemoLabels.hasDemoLabel(i) && i.updatedAt() != null && 
-                          i.updatedAt().isAfter(todayCutoff)))
-            .count();
-        if (issuesTouchedToday > 5) {
-            violations.add(new Violation(
-                ViolationType.EXCESSIVE_CONTEXT_SWITCHING,
-                Severity.CRITICAL,
-                "You've touched " + issuesTouchedToday + " issues today. High context-switch cost.",
-                List.of(),
-                "Focus on completing one issue before moving to the next.",
-                "updatedAt"
-            ));
-        }
+    /**
+     * Contribution of a single issue to {@code userId}'s counts (all zero if it is not
+     * an open issue assigned to them). {@code analyze(...)} counts are the sum of these.
+     */
+    public Counts countIssue(Issue issue, String userId, Instant now) {
+        if (!isUserIssue(issue, userId)) return Counts.ZERO;
+        Classification c = classifier.classify(issue);
+        return new Counts(
+            c == Classification.DEEP_WORK ? 1 : 0,
+            c == Classification.QUICK_WIN ? 1 : 0,
+            c == Classification.MAINTENANCE ? 1 : 0,
+            c == Classification.DEFERRED ? 1 : 0,
+            isTouchedToday(issue, now) ? 1 : 0,
+            c == Classification.QUICK_WIN && hasNoBody(issue) ? 1 : 0,
+            c == Classification.DEFERRED && isStale(issue, now) ? 1 : 0
+        );
+    }
 
-        List<Issue> mysteryQuickWins = quickWins.stream()
-            .filter(i -> i.body() == null || i.body().isBlank())
-            .toList();
-        if (!mysteryQuickWins.isEmpty()) {
-            violations.add(new Violation(
-                ViolationType.UNCLEAR_QUICK_WINS,
-                Severity.WARNING,
-                mysteryQuickWins.size() + " quick wins have no description.",
-                mysteryQuickWins,
-                "Add scope/acceptance criteria or reclassify as deferred.",
-                "body"
-            ));
+    /**
+     * Per-user bucket and signal counts that the compliance rules are evaluated on.
+     */
+    public record Counts(
+        int deepWork,
+        int quickWins,
+        int maintenance,
+        int deferred,
+        long touchedToday,
+        int mysteryQuickWins,
+        int staleDeferred
+    ) {
+        public static final Counts ZERO = new Counts(0, 0, 0, 0, 0, 0, 0);
+
+        public int userIssues() {
+            return deepWork + quickWins + maintenance + deferred;
         }
 
-        Instant staleCutoff = clock.instant().minus(Duration.ofDays(14));
-        List<Issue> staleDeferred = deferred.stream()
-            .filter(i -> DemoLabels.hasLabel(i, DemoLabels.STALE_14D) ||
-                         (!DemoLabels.hasDemoLabel(i) && i.createdAt() != null && 
-                          i.createdAt().isBefore(staleCutoff)))
-            .toList();
-        if (staleDeferred.size() > 5) {
-            violations.add(new Violation(
-                ViolationType.DEFERRED_BACKLOG_GROWING,
-                Severity.INFO,
-                staleDeferred.size() + " deferred issues are >14 days old.",
-                staleDeferred,
-                "Schedule a backlog grooming session.",
-                "createdAt"
-            ));
+        public Counts plus(Counts o) {
+            return new Counts(deepWork + o.deepWork, quickWins + o.quickWins,
+                maintenance + o.maintenance, deferred + o.deferred, touchedToday + o.touchedToday,
+                mysteryQuickWins + o.mysteryQuickWins, staleDeferred + o.staleDeferred);
         }
 
-        int totalActive = deepWork.size() + quickWins.size() + maintenance.size();
-        int maxAllowed = DayStructure.MAX_ACTIVE;
-        if (totalActive > maxAllowed) {
-            violations.add(new Violation(
-                ViolationType.TOTAL_OVERLOAD,
-                Severity.CRITICAL,
-                "Total active issues: " + totalActive + ". Max for 3-3-3 is " + maxAllowed + ".",
-                List.of(),
-                "Defer " + (totalActive - maxAllowed) + " issues to protect your focus.",
-                "assignees"
-            ));
+        public Counts minus(Counts o) {
+            return new Counts(deepWork - o.deepWork, quickWins - o.quickWins,
+                maintenance - o.maintenance, deferred - o.deferred, touchedToday - o.touchedToday,
+                mysteryQuickWins - o.mysteryQuickWins, staleDeferred - o.staleDeferred);
         }
+    }
 
+    private ComplianceReport report(String userId, Counts counts, Map<ComplianceRules.Metric, List<Issue>> lists) {
+        List<Violation> violations = rules.forUser(userId).evaluate(counts, lists);
         return new ComplianceReport(
             userId,
             violations.isEmpty(),
             violations,
             Map.of(
-                "deepWork", deepWork.size(),
-                "quickWins", quickWins.size(),
-                "maintenance", maintenance.size(),
-                "deferred", deferred.size()
+                "deepWork", counts.deepWork(),
+                "quickWins", counts.quickWins(),
+                "maintenance", counts.maintenance(),
+                "deferred", counts.deferred()
             ),
             calculateComplianceScore(violations)
         );
     }
 
+    /**
+     * First epoch milli after {@code afterMillis} at which {@link #countIssue} can change for
+     * issue {@code id} through time alone: it leaves the touched window, or its age passes
+     * the stale cutoff. {@link TimerWheel#NEVER} for demo issues and once both have passed.
+     */
+    public long nextChange(IssueIndex index, int id, long afterMillis) {
+        if (index.demo().contains(id)) return TimerWheel.NEVER;
+        long next = TimerWheel.NEVER;
+        if (index.updatedAt(id) != Long.MIN_VALUE) {
+            next = TimerWheel.earliestAfter(afterMillis, index.updatedAt(id) + TOUCHED_WINDOW.toMillis(), next);
+        }
+        if (index.createdAt(id) != Long.MIN_VALUE) {
+            next = TimerWheel.earliestAfter(afterMillis, index.createdAt(id) + STALE_AGE.toMillis() + 1, next);
+        }
+        return next;
+    }
+
+    private static boolean isUserIssue(Issue i, String userId) {
+        if (!"open".equals(i.state()) || i.assignees() == null) return false;
+        for (int a = 0, n = i.assignees().size(); a < n; a++) {
+            if (i.assignees().get(a).login().equals(userId)) return true;
+        }
+        return false;
+    }
+
+    private static boolean isTouchedToday(Issue i, Instant now) {
+        int demo = i.demoFlags();
+        if (DemoFlags.isDemo(demo)) return DemoFlags.has(demo, DemoFlags.TOUCHED_TODAY);
+        return i.updatedAt() != null && i.updatedAt().isAfter(now.minus(TOUCHED_WINDOW));
+    }
+
+    private static boolean isStale(Issue i, Instant now) {
+        int demo = i.demoFlags();
+        if (DemoFlags.isDemo(demo)) return DemoFlags.has(demo, DemoFlags.STALE_14D);
+        return i.createdAt() != null && i.createdAt().isBefore(now.minus(STALE_AGE));
+    }
+
+    private static boolean hasNoBody(Issue i) {
+        return i.bodyBlank();
+    }
+
     private int calculateComplianceScore(List<Violation> violations) {
         int score = 100;
         for (Violation v : violations) {
@@ -0,0 +1,178 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.cache.IssueIndex;
+import com.demo.burnout.model.Classification;
+import com.demo.burnout.model.DayStructure;
+import com.demo.burnout.model.Issue;
+import com.demo.burnout.util.AssigneeMatcher;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Builds the 3-3-3 day plan for a user: 1 deep work, 3 quick wins, 3 maintenance,
+ * everything else deferred. Items are ordered by priority label, then most recently
+ * updated, then issue number.
+ */
+@Service
+public class DayPlanService {
+
+    private final IssueClassifierService classifier;
+
+    public DayPlanService(IssueClassifierService classifier) {
+        this.classifier = classifier;
+    }
+
+    public DayStructure buildDayPlan(List<Issue> issues, String userId) {
+        return plan(members(issues, userId));
+    }
+
+    /**
+     * {@code previous} when the user's open issues are exactly the ones it was built from
+     * (same records, so nothing that classification or ranking reads has changed), otherwise
+     * a new plan. Lets a sync that did not touch a user's issues skip their re-ranking.
+     */
+    public DayStructure buildDayPlan(List<Issue> issues, String userId, DayStructure previous) {
+        List<Issue> members = members(issues, userId);
+        if (previous != null && sameMembers(previous, members)) {
+            return previous;
+        }
+        return plan(members);
+    }
+
+    private static List<Issue> members(List<Issue> issues, String userId) {
+        AssigneeMatcher user = AssigneeMatcher.of(userId);
+        List<Issue> members = new ArrayList<>();
+        for (Issue issue : issues) {
+            if ("open".equalsIgnoreCase(issue.state()) && user.matches(issue)) {
+                members.add(issue);
+            }
+        }
+        return members;
+    }
+
+    private static boolean sameMembers(DayStructure plan, List<Issue> members) {
+        int planned = (plan.deepWork() == null ? 0 : 1)
+            + plan.quickWins().size() + plan.maintenance().size() + plan.deferred().size();
+        if (planned != members.size()) return false;
+        Set<Issue> previous = new HashSet<>(planned * 2);
+        if (plan.deepWork() != null) previous.add(plan.deepWork());
+        previous.addAll(plan.quickWins());
+        previous.addAll(plan.maintenance());
+        previous.addAll(plan.deferred());
+        return previous.containsAll(members);
+    }
+
+    /**
+     * Bucket by classification with each issue's priority key computed once, pick the 1/3/3
+     * active items with bounded heaps, and sort only what goes to deferred.
+     */
+    private DayStructure plan(List<Issue> members) {
+        Map<Classification, List<Ranked>> buckets = new EnumMap<>(Classification.class);
+        for (Issue issue : members) {
+            buckets.computeIfAbsent(classifier.classify(issue), c -> new ArrayList<>()).add(rank(issue));
+        }
+        List<Ranked> deepWork = buckets.getOrDefault(Classification.DEEP_WORK, new ArrayList<>());
+        List<Ranked> quickWins = buckets.getOrDefault(Classification.QUICK_WIN, new ArrayList<>());
+        List<Ranked> maintenance = buckets.getOrDefault(Classification.MAINTENANCE, new ArrayList<>());
+        List<Ranked> deferred = buckets.getOrDefault(Classification.DEFERRED, new ArrayList<>());
+
+        List<Issue> deepTop = top(deepWork, DayStructure.MAX_DEEP_WORK);
+        List<Issue> quickTop = top(quickWins, DayStructure.MAX_QUICK_WINS);
+        List<Issue> maintenanceTop = top(maintenance, DayStructure.MAX_MAINTENANCE);
+
+        List<Issue> rest = new ArrayList<>(deepWork.size() + quickWins.size() + maintenance.size() + deferred.size());
+        for (List<Ranked> overflow : List.of(deepWork, quickWins, maintenance, deferred)) {
+            overflow.sort(Ranked.ORDER);
+            for (Ranked r : overflow) rest.add(r.issue());
+        }
+        return new DayStructure(
+            deepTop.isEmpty() ? null : deepTop.get(0),
+            quickTop,
+            maintenanceTop,
+            List.copyOf(rest)
+        );
+    }
+
+    /**
+     * Removes the first {@code k} of {@code bucket} in day plan order and returns them in order.
+     */
+    private static List<Issue> top(List<Ranked> bucket, int k) {
+        if (bucket.isEmpty()) return List.of();
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(k + 1, Ranked.ORDER.reversed());
+        for (Ranked r : bucket) {
+            if (heap.size() < k) {
+                heap.add(r);
+            } else if (Ranked.ORDER.compare(r, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(r);
+            }
+        }
+        Ranked[] picked = heap.toArray(Ranked[]::new);
+        Arrays.sort(picked, Ranked.ORDER);
+        Set<Ranked> chosen = Collections.newSetFromMap(new IdentityHashMap<>());
+        chosen.addAll(Arrays.asList(picked));
+        bucket.removeIf(chosen::contains);
+        Issue[] out = new Issue[picked.length];
+        for (int i = 0; i < picked.length; i++) out[i] = picked[i].issue();
+        return List.of(out);
+    }
+
+    private Ranked rank(Issue issue) {
+        return new Ranked(issue, getPriorityWeight(issue),
+            issue.updatedAt() == null ? Long.MIN_VALUE : issue.updatedAt().toEpochMilli(),
+            issue.updatedAt() == null ? 0 : issue.updatedAt().getNano() % 1_000_000);
+    }
+
+    /**
+     * An issue with its day plan order key precomputed: priority weight, updatedAt (as millis
+     * plus sub-milli nanos, most recent first, absent last), number.
+     */
+    private record Ranked(Issue issue, int weight, long updatedMillis, int updatedSubMillis) {
+        static final Comparator<Ranked> ORDER = (a, b) -> {
+            if (a.weight != b.weight) return Integer.compare(a.weight, b.weight);
+            if (a.updatedMillis != b.updatedMillis) {
+                if (a.updatedMillis == Long.MIN_VALUE) return 1;
+                if (b.updatedMillis == Long.MIN_VALUE) return -1;
+                return Long.compare(b.updatedMillis, a.updatedMillis);
+            }
+            if (a.updatedSubMillis != b.updatedSubMillis) return Integer.compare(b.updatedSubMillis, a.updatedSubMillis);
+            return Integer.compare(a.issue.number(), b.issue.number());
+        };
+    }
+
+    public int getPriorityWeight(Issue issue) {
+        if (issue.labels() == null) return 2;
+        for (Issue.Label l : issue.labels()) {
+            if (l.name().equalsIgnoreCase("priority:critical")) return 0;
+            if (l.name().equalsIgnoreCase("priority:high")) return 1;
+            if (l.name().equalsIgnoreCase("urgent")) return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * {@link #getPriorityWeight} for every issue of {@code index}, answered from its label
+     * bitmaps without materializing issues. The first priority label decides, so only issues
+     * carrying both a critical and a high/urgent label are read back to see which comes first.
+     */
+    public IntUnaryOperator priorityWeights(IssueIndex index) {
+        RoaringBitmap critical = index.label("priority:critical");
+        RoaringBitmap high = RoaringBitmap.or(index.label("priority:high"), index.label("urgent"));
+        RoaringBitmap both = RoaringBitmap.and(critical, high);
+        return id -> both.contains(id) ? getPriorityWeight(index.issue(id))
+            : critical.contains(id) ? 0 : high.contains(id) ? 1 : 2;
+    }
+}
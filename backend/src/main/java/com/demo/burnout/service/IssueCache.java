@@ -1,36 +1,67 @@
 package com.demo.burnout.service;
 
+import com.demo.burnout.cache.BodyRetention;
+import com.demo.burnout.cache.IssueStore;
+import com.demo.burnout.config.CacheConfiguration;
 import com.demo.burnout.model.Issue;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Optional;
 
+/**
+ * Synced issue snapshots per repo. Storage is delegated to the configured
+ * {@link IssueStore} (in-JVM by default, shared across replicas in cluster mode).
+ *
+ * With burnout.cache.body-retention=preview, bodies are cut to
+ * burnout.cache.body-preview-chars before they are stored (see {@link BodyRetention}).
+ */
 @Service
 public class IssueCache {
-    private final Map<String, CachedIssues> cache = new ConcurrentHashMap<>();
-    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final IssueStore store;
+    private final ApplicationEventPublisher events;
+    private final BodyRetention bodyRetention;
+    private final int bodyPreviewChars;
 
+    public IssueCache(IssueStore store, ApplicationEventPublisher events, CacheConfiguration config) {
+        this.store = store;
+        this.events = events;
+        this.bodyRetention = config.getBodyRetention();
+        this.bodyPreviewChars = config.getBodyPreviewChars();
+    }
+
+    /**
+     * Store a repo snapshot and publish {@link IssuesSynced} so post-sync hooks
+     * (materialized views) run before the caller gets its ack.
+     */
     public void put(String repo, List<Issue> issues, Instant fetchedAt) {
-        cache.put(repo, new CachedIssues(issues, fetchedAt));
-        versions.computeIfAbsent(repo, r -> new AtomicLong()).incrementAndGet();
+        IssueStore.Snapshot snapshot = store.put(repo, bodyRetention.apply(issues, bodyPreviewChars), fetchedAt);
+        events.publishEvent(new IssuesSynced(repo, snapshot.version()));
     }
 
     public List<Issue> get(String repo) {
-        CachedIssues c = cache.get(repo);
-        return c == null ? List.of() : c.issues();
+        return store.get(repo).map(IssueStore.Snapshot::issues).orElse(List.of());
     }
 
     public boolean hasRepo(String repo) {
-        return cache.containsKey(repo);
+        return store.get(repo).isPresent();
+    }
+
+    /**
+     * Issues plus the version they belong to, read atomically.
+     */
+    public Optional<IssueStore.Snapshot> snapshot(String repo) {
+        return store.get(repo);
     }
 
     public long getVersion(String repo) {
-        return versions.getOrDefault(repo, new AtomicLong(0)).get();
+        return store.version(repo);
     }
 
-    record CachedIssues(List<Issue> issues, Instant fetchedAt) {}
+    /**
+     * Published after every {@link #put}. Listeners run synchronously on the sync thread.
+     */
+    public record IssuesSynced(String repo, long version) {}
 }
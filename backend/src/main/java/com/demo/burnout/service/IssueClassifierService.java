@@ -1,18 +1,26 @@
 package com.demo.burnout.service;
 
+import com.demo.burnout.model.BodyFeatures;
 import com.demo.burnout.model.Classification;
 import com.demo.burnout.model.Issue;
+import com.demo.burnout.util.LabelMatcher;
 import com.demo.burnout.util.LabelUtils;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
-import java.util.Set;
+import java.util.List;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 @Service
 public class IssueClassifierService {
 
+    private static final LabelMatcher DEEP_WORK_LABELS =
+        LabelMatcher.of("priority:critical", "priority:high", "architecture", "security", "deep-work");
+    private static final LabelMatcher QUICK_WIN_LABELS =
+        LabelMatcher.of("good-first-issue", "quick-win", "low-hanging-fruit", "trivial");
+    private static final LabelMatcher MAINTENANCE_LABELS = LabelMatcher.of("dependencies", "documentation", "triage",
+        "chore", "refactor", "tech-debt", "ci", "devops", "maintenance");
+    private static final Pattern EPIC_OR_FEATURE = Pattern.compile("epic.*|feature.*", Pattern.CASE_INSENSITIVE);
+
     public Classification classify(Issue issue) {
         if (isDeepWork(issue)) {
             return Classification.DEEP_WORK;
@@ -27,23 +35,23 @@ public class IssueClassifierService {
     }
 
     private boolean isDeepWork(Issue issue) {
-        return hasAnyLabel(issue, "priority:critical", "priority:high", "architecture", "security", "deep-work")
+        return DEEP_WORK_LABELS.matches(issue)
             || estimateHours(issue) > 2
-            || hasLabelPattern(issue, "epic.*|feature.*");
+            || hasLabelPattern(issue, EPIC_OR_FEATURE);
     }
 
     private boolean isQuickWin(Issue issue) {
-        if (issue.body() == null || issue.body().isBlank()) {
+        int body = issue.bodyFeatures();
+        if (BodyFeatures.isBlank(body)) {
             return false;
         }
-        return hasAnyLabel(issue, "good-first-issue", "quick-win", "low-hanging-fruit", "trivial")
-            || (estimateHours(issue) < 0.5 && hasClearScope(issue))
-            || (LabelUtils.hasLabel(issue, "enhancement") && issue.body().length() < 500);
+        return QUICK_WIN_LABELS.matches(issue)
+            || (estimateHours(issue) < 0.5 && BodyFeatures.hasClearScope(body))
+            || (LabelUtils.hasLabel(issue, "enhancement") && BodyFeatures.lengthBucket(body) != BodyFeatures.LONG);
     }
 
     private boolean isMaintenance(Issue issue) {
-        return hasAnyLabel(issue, "dependencies", "documentation", "triage", 
-                          "chore", "refactor", "tech-debt", "ci", "devops", "maintenance");
+        return MAINTENANCE_LABELS.matches(issue);
     }
 
     private double estimateHours(Issue issue) {
@@ -60,40 +68,24 @@ public class IssueClassifierService {
             if (name.equals("size:xl")) return 8.0;
         }
 
-        if (issue.body() != null) {
-            int bodyLength = issue.body().length();
-            if (bodyLength < 100) return 0.5;
-            if (bodyLength < 500) return 2.0;
-            return 4.0;
+        if (!BodyFeatures.isNull(issue.bodyFeatures())) {
+            return switch (BodyFeatures.lengthBucket(issue.bodyFeatures())) {
+                case BodyFeatures.SHORT -> 0.5;
+                case BodyFeatures.MEDIUM -> 2.0;
+                default -> 4.0;
+            };
         }
 
         return 2.0;
     }
 
-    private boolean hasClearScope(Issue issue) {
-        if (issue.body() == null) return false;
-        String body = issue.body().toLowerCase();
-        return body.contains("- [ ]") 
-            || body.contains("acceptance criteria")
-            || body.contains("done when")
-            || body.contains("steps:")
-            || body.contains("expected:");
-    }
-
-    private boolean hasAnyLabel(Issue issue, String... labelNames) {
-        if (issue.labels() == null) return false;
-        Set<String> target = Arrays.stream(labelNames)
-            .map(String::toLowerCase)
-            .collect(Collectors.toSet());
-        return issue.labels().stream()
-            .anyMatch(l -> target.contains(l.name().toLowerCase()));
-    }
-
-    private boolean hasLabelPattern(Issue issue, String regex) {
-        if (issue.labels() == null) return false;
-        Pattern pattern = Pattern.compile(regex, Pattern.CASE_INSENSITIVE);
-        return issue.labels().stream()
-            .anyMatch(l -> pattern.matcher(l.name()).matches());
+    private static boolean hasLabelPattern(Issue issue, Pattern pattern) {
+        List<Issue.Label> labels = issue.labels();
+        if (labels == null) return false;
+        for (int i = 0, n = labels.size(); i < n; i++) {
+            if (pattern.matcher(labels.get(i).name()).matches()) return true;
+        }
+        return false;
     }
 
     private double parseEstimate(String est) {
@@ -0,0 +1,69 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.model.Issue;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * Copy-on-write view of a cached issue list.
+ *
+ * Reads fall through to the shared base list; replaced issues live in a small map
+ * keyed by position. The base list is never copied or modified, so any number of
+ * overlays can sit on the same snapshot concurrently.
+ */
+public final class IssueOverlay extends AbstractList<Issue> implements RandomAccess {
+
+    private final List<Issue> base;
+    private final Map<Integer, Integer> indexByNumber;
+    private final Map<Integer, Issue> replaced = new HashMap<>();
+
+    /**
+     * @param indexByNumber issue number → position in {@code base}, shared across overlays
+     */
+    public IssueOverlay(List<Issue> base, Map<Integer, Integer> indexByNumber) {
+        this.base = base;
+        this.indexByNumber = indexByNumber;
+    }
+
+    @Override
+    public Issue get(int index) {
+        Issue issue = replaced.get(index);
+        return issue != null ? issue : base.get(index);
+    }
+
+    @Override
+    public int size() {
+        return base.size();
+    }
+
+    /**
+     * Position of an issue number in the base list, or -1 if it is not in the snapshot.
+     */
+    public int positionOf(int issueNumber) {
+        Integer index = indexByNumber.get(issueNumber);
+        return index != null ? index : -1;
+    }
+
+    public Issue base(int index) {
+        return base.get(index);
+    }
+
+    /**
+     * Replace the issue at {@code index} in this overlay only.
+     */
+    public void replace(int index, Issue issue) {
+        replaced.put(index, issue);
+    }
+
+    /**
+     * Positions replaced so far.
+     */
+    public Set<Integer> touched() {
+        return replaced.keySet();
+    }
+}
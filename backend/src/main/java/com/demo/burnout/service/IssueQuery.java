@@ -0,0 +1,262 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.cache.IssueIndex;
+import com.demo.burnout.model.Classification;
+import com.demo.burnout.model.WorldState;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Filter expressions for GET /api/issues/query, evaluated to a bitmap over an {@link IssueIndex}.
+ *
+ * <pre>
+ * expr   := and ("OR" and)*
+ * and    := unary+                      (juxtaposition is AND)
+ * unary  := "-" unary | "(" expr ")" | term
+ * term   := key ":" value ("," value)*  (comma-separated values are OR)
+ * </pre>
+ *
+ * Keys: {@code label}, {@code assignee} (case-insensitive; {@code none} for unassigned),
+ * {@code state}, {@code milestone}, {@code class} (deep-work, quick-win, maintenance,
+ * deferred) and {@code is} (stale, after-hours, body-empty, unassigned). Values may be
+ * double-quoted. Stale and after-hours use the same definitions as the stress indicators
+ * ({@link WorldState#staleIssues}, {@link WorldState#afterHoursIssues}).
+ *
+ * Example: {@code state:open assignee:alice (label:bug OR is:stale) -class:deferred}
+ */
+public final class IssueQuery {
+
+    /**
+     * What evaluation needs besides the index: the instant the view was computed at
+     * and the zone office hours are in.
+     */
+    public record Context(IssueIndex index, Instant now, ZoneId zone) {}
+
+    private sealed interface Node {
+        RoaringBitmap eval(Context ctx);
+    }
+
+    private record All() implements Node {
+        public RoaringBitmap eval(Context ctx) {
+            return ctx.index().all().clone();
+        }
+    }
+
+    private record And(List<Node> nodes) implements Node {
+        public RoaringBitmap eval(Context ctx) {
+            RoaringBitmap out = nodes.get(0).eval(ctx);
+            for (int i = 1; i < nodes.size() && !out.isEmpty(); i++) {
+                out.and(nodes.get(i).eval(ctx));
+            }
+            return out;
+        }
+    }
+
+    private record Or(List<Node> nodes) implements Node {
+        public RoaringBitmap eval(Context ctx) {
+            RoaringBitmap out = new RoaringBitmap();
+            for (Node node : nodes) out.or(node.eval(ctx));
+            return out;
+        }
+    }
+
+    private record Not(Node node) implements Node {
+        public RoaringBitmap eval(Context ctx) {
+            return RoaringBitmap.andNot(ctx.index().all(), node.eval(ctx));
+        }
+    }
+
+    private record Term(String key, List<String> values) implements Node {
+        public RoaringBitmap eval(Context ctx) {
+            IssueIndex index = ctx.index();
+            RoaringBitmap out = new RoaringBitmap();
+            for (String value : values) {
+                out.or(switch (key) {
+                    case "label" -> index.label(value);
+                    case "assignee" -> value.equalsIgnoreCase("none") ? index.unassigned() : index.assigneeIgnoreCase(value);
+                    case "state" -> index.state(value.toLowerCase(Locale.ROOT));
+                    case "milestone" -> index.milestone(value);
+                    case "class" -> index.classification(classification(value));
+                    case "is" -> flag(ctx, value);
+                    default -> throw new IllegalStateException(key);
+                });
+            }
+            return out;
+        }
+    }
+
+    private static final List<String> KEYS = List.of("label", "assignee", "state", "milestone", "class", "is");
+    private static final List<String> FLAGS = List.of("stale", "after-hours", "body-empty", "unassigned");
+
+    private final String source;
+    private final Node root;
+
+    private IssueQuery(String source, Node root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    /**
+     * Parse {@code expression}; blank matches every issue.
+     *
+     * @throws IllegalArgumentException on syntax errors or unknown keys and values
+     */
+    public static IssueQuery parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            return new IssueQuery("", new All());
+        }
+        Parser parser = new Parser(tokenize(expression));
+        Node root = parser.expr();
+        if (parser.pos < parser.tokens.size()) {
+            throw new IllegalArgumentException("Unexpected '" + parser.tokens.get(parser.pos) + "' in query");
+        }
+        return new IssueQuery(expression, root);
+    }
+
+    /**
+     * Positions of the matching issues. Every node returns a new bitmap, so the caller may modify it.
+     */
+    public RoaringBitmap evaluate(Context ctx) {
+        return root.eval(ctx);
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    private static Classification classification(String value) {
+        try {
+            return Classification.valueOf(value.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown class '" + value + "' (deep-work, quick-win, maintenance, deferred)");
+        }
+    }
+
+    private static RoaringBitmap flag(Context ctx, String value) {
+        IssueIndex index = ctx.index();
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "stale" -> WorldState.staleIssues(index, index.all(), ctx.now());
+            case "after-hours" -> WorldState.afterHoursIssues(index, index.all(), ctx.zone());
+            case "body-empty" -> index.bodyEmpty();
+            case "unassigned" -> index.unassigned();
+            default -> throw new IllegalStateException(value);
+        };
+    }
+
+    // ======================== Parsing ========================
+
+    private static List<String> tokenize(String s) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < s.length()) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else if (c == '-' && (i + 1 < s.length()) && !Character.isWhitespace(s.charAt(i + 1))) {
+                tokens.add("-");
+                i++;
+            } else {
+                StringBuilder token = new StringBuilder();
+                boolean quoted = false;
+                while (i < s.length()) {
+                    c = s.charAt(i);
+                    if (c == '"') {
+                        quoted = !quoted;
+                        token.append(c);
+                    } else if (!quoted && (Character.isWhitespace(c) || c == '(' || c == ')')) {
+                        break;
+                    } else {
+                        token.append(c);
+                    }
+                    i++;
+                }
+                if (quoted) throw new IllegalArgumentException("Unterminated quote in query");
+                tokens.add(token.toString());
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Parser {
+        private final List<String> tokens;
+        private int pos;
+
+        Parser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        Node expr() {
+            List<Node> alternatives = new ArrayList<>();
+            alternatives.add(and());
+            while (peek("OR")) {
+                pos++;
+                alternatives.add(and());
+            }
+            return alternatives.size() == 1 ? alternatives.get(0) : new Or(alternatives);
+        }
+
+        private Node and() {
+            List<Node> terms = new ArrayList<>();
+            while (pos < tokens.size() && !peek(")") && !peek("OR")) {
+                terms.add(unary());
+            }
+            if (terms.isEmpty()) {
+                throw new IllegalArgumentException("Expected a term in query");
+            }
+            return terms.size() == 1 ? terms.get(0) : new And(terms);
+        }
+
+        private Node unary() {
+            String token = tokens.get(pos++);
+            if (token.equals("-")) {
+                if (pos >= tokens.size()) throw new IllegalArgumentException("Expected a term after '-'");
+                return new Not(unary());
+            }
+            if (token.equals("(")) {
+                Node inner = expr();
+                if (!peek(")")) throw new IllegalArgumentException("Missing ')' in query");
+                pos++;
+                return inner;
+            }
+            return term(token);
+        }
+
+        private Node term(String token) {
+            int colon = token.indexOf(':');
+            if (colon <= 0 || colon == token.length() - 1) {
+                throw new IllegalArgumentException("Expected key:value, got '" + token + "'");
+            }
+            String key = token.substring(0, colon).toLowerCase(Locale.ROOT);
+            if (!KEYS.contains(key)) {
+                throw new IllegalArgumentException("Unknown key '" + key + "' (" + String.join(", ", KEYS) + ")");
+            }
+            List<String> values = new ArrayList<>();
+            for (String value : token.substring(colon + 1).split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)")) {
+                String v = value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")
+                    ? value.substring(1, value.length() - 1) : value;
+                if (v.isEmpty()) throw new IllegalArgumentException("Empty value in '" + token + "'");
+                values.add(v);
+            }
+            for (String v : values) {
+                if (key.equals("class")) classification(v);
+                if (key.equals("is") && !FLAGS.contains(v.toLowerCase(Locale.ROOT))) {
+                    throw new IllegalArgumentException("Unknown flag 'is:" + v + "' (" + String.join(", ", FLAGS) + ")");
+                }
+            }
+            return new Term(key, values);
+        }
+
+        private boolean peek(String token) {
+            return pos < tokens.size() && tokens.get(pos).equals(token);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.cache.IssueIndex;
+import com.demo.burnout.model.Issue;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Filter, sort, page and project the issues of a materialized repo view.
+ *
+ * The filter is evaluated on the view's {@link IssueIndex}; only the matches are visited to
+ * compute sort keys, and a bounded heap keeps the first {@code limit} after the cursor, so a
+ * page costs O(matches * log limit) and never copies the repo. Sort keys come from the index
+ * columns and label bitmaps; only the issues of the returned page are materialized.
+ *
+ * Pagination is keyset-based: the cursor carries the sort key of the last item returned,
+ * and the next page starts strictly after it. Pages stay consistent when a sync lands
+ * between requests (nothing is skipped or repeated unless the issues themselves changed).
+ */
+@Service
+public class IssueQueryService {
+
+    public static final List<String> FIELDS = List.of(
+        "number", "title", "body", "labels", "assignees", "state", "createdAt", "updatedAt",
+        "milestone", "classification");
+    public static final List<String> DEFAULT_FIELDS = List.of(
+        "number", "title", "labels", "assignees", "state", "updatedAt");
+
+    /**
+     * Sort orders. {@code priority} is the day plan order: priority label
+     * ({@link DayPlanService#getPriorityWeight}), most recently updated, issue number.
+     * Missing timestamps sort last.
+     */
+    public enum Sort {
+        PRIORITY("priority"), UPDATED("updated"), UPDATED_DESC("-updated"),
+        CREATED("created"), CREATED_DESC("-created"), NUMBER("number"), NUMBER_DESC("-number");
+
+        private final String token;
+
+        Sort(String token) {
+            this.token = token;
+        }
+
+        public String token() {
+            return token;
+        }
+
+        public static Sort parse(String token) {
+            if (token == null || token.isBlank()) return PRIORITY;
+            for (Sort sort : values()) {
+                if (sort.token.equalsIgnoreCase(token.trim())) return sort;
+            }
+            throw new IllegalArgumentException("Unknown sort '" + token
+                + "' (priority, updated, -updated, created, -created, number, -number)");
+        }
+    }
+
+    /**
+     * Lexicographic sort key; {@code number} is unique per repo and breaks all ties.
+     */
+    record SortKey(long primary, long secondary, int number) implements Comparable<SortKey> {
+        private static final Comparator<SortKey> ORDER = Comparator
+            .comparingLong(SortKey::primary)
+            .thenComparingLong(SortKey::secondary)
+            .thenComparingInt(SortKey::number);
+
+        @Override
+        public int compareTo(SortKey o) {
+            return ORDER.compare(this, o);
+        }
+    }
+
+    public record Page(int total, List<Map<String, Object>> items, String nextCursor) {}
+
+    private record Hit(SortKey key, int id) {}
+
+    private final DayPlanService dayPlanService;
+    private final Clock clock;
+
+    public IssueQueryService(DayPlanService dayPlanService, Clock clock) {
+        this.dayPlanService = dayPlanService;
+        this.clock = clock;
+    }
+
+    /**
+     * One page of {@code view}'s issues matching {@code filter}.
+     *
+     * @param cursor {@code nextCursor} of the previous page, or null for the first
+     * @throws IllegalArgumentException for unknown fields or a cursor from another sort
+     */
+    public Page query(MaterializedViewService.RepoView view, IssueQuery filter, Sort sort,
+                      List<String> fields, int limit, String cursor) {
+        for (String field : fields) {
+            if (!FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown field '" + field + "' (" + String.join(", ", FIELDS) + ")");
+            }
+        }
+        IssueIndex index = view.index();
+        SortKey after = cursor == null || cursor.isBlank() ? null : decode(cursor, sort);
+        RoaringBitmap matches = filter.evaluate(new IssueQuery.Context(index, view.computedAt(), clock.getZone()));
+
+        PriorityQueue<Hit> page = new PriorityQueue<>(limit + 1, Comparator.comparing(Hit::key).reversed());
+        IntUnaryOperator weights = sort == Sort.PRIORITY ? dayPlanService.priorityWeights(index) : null;
+        int remaining = 0;
+        for (var it = matches.getIntIterator(); it.hasNext(); ) {
+            int id = it.next();
+            SortKey key = key(sort, index, weights, id);
+            if (after != null && key.compareTo(after) <= 0) continue;
+            remaining++;
+            if (page.size() < limit) {
+                page.add(new Hit(key, id));
+            } else if (key.compareTo(page.peek().key()) < 0) {
+                page.poll();
+                page.add(new Hit(key, id));
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(page);
+        hits.sort(Comparator.comparing(Hit::key));
+        List<Map<String, Object>> items = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            items.add(project(index, hit.id(), fields));
+        }
+        String next = remaining > hits.size() && !hits.isEmpty() ? encode(sort, hits.get(hits.size() - 1).key()) : null;
+        return new Page(matches.getCardinality(), items, next);
+    }
+
+    private static SortKey key(Sort sort, IssueIndex index, IntUnaryOperator weights, int id) {
+        int number = index.number(id);
+        long updated = index.updatedAt(id);
+        long created = index.createdAt(id);
+        return switch (sort) {
+            case PRIORITY -> new SortKey(weights.applyAsInt(id), descending(updated), number);
+            case UPDATED -> new SortKey(ascending(updated), 0, number);
+            case UPDATED_DESC -> new SortKey(descending(updated), 0, number);
+            case CREATED -> new SortKey(ascending(created), 0, number);
+            case CREATED_DESC -> new SortKey(descending(created), 0, number);
+            case NUMBER -> new SortKey(number, 0, number);
+            case NUMBER_DESC -> new SortKey(-(long) number, 0, number);
+        };
+    }
+
+    private static long ascending(long millis) {
+        return millis == Long.MIN_VALUE ? Long.MAX_VALUE : millis;
+    }
+
+    private static long descending(long millis) {
+        return millis == Long.MIN_VALUE ? Long.MAX_VALUE : -millis;
+    }
+
+    private static Map<String, Object> project(IssueIndex index, int id, List<String> fields) {
+        Issue issue = index.issue(id);
+        Map<String, Object> item = new LinkedHashMap<>();
+        for (String field : fields) {
+            item.put(field, switch (field) {
+                case "number" -> issue.number();
+                case "title" -> issue.title();
+                case "body" -> issue.body();
+                case "labels" -> issue.labels();
+                case "assignees" -> issue.assignees();
+                case "state" -> issue.state();
+                case "createdAt" -> issue.createdAt();
+                case "updatedAt" -> issue.updatedAt();
+                case "milestone" -> issue.milestone();
+                case "classification" -> index.classificationOf(id);
+                default -> throw new IllegalStateException(field);
+            });
+        }
+        return item;
+    }
+
+    static String encode(Sort sort, SortKey key) {
+        String raw = sort.token() + ":" + key.primary() + ":" + key.secondary() + ":" + key.number();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SortKey decode(String cursor, Sort sort) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        if (parts.length != 4) throw new IllegalArgumentException("Malformed cursor");
+        if (!parts[0].equals(sort.token())) {
+            throw new IllegalArgumentException("Cursor was issued for sort '" + parts[0] + "', not '" + sort.token() + "'");
+        }
+        try {
+            return new SortKey(Long.parseLong(parts[1]), Long.parseLong(parts[2]), Integer.parseInt(parts[3]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+    }
+}
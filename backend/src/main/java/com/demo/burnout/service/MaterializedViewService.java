@@ -0,0 +1,377 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.cache.IssueIndex;
+import com.demo.burnout.cache.IssueStore;
+import com.demo.burnout.jfr.ViewReadEvent;
+import com.demo.burnout.metrics.PipelineMetrics;
+import com.demo.burnout.model.*;
+import com.demo.burnout.util.TimerWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Materialized per-repo and per-user analytics.
+ *
+ * On every sync the repo's {@link ChaosMetrics} and, for each assignee, the
+ * {@link ComplianceReport}, {@link WorldState} and {@link DayStructure} are computed
+ * once and stored next to the cache version they were built from. GET endpoints then
+ * become lookups.
+ *
+ * REFRESH CADENCE: chaos, compliance and world state depend on the injected {@link Clock}
+ * through windows such as touched in the last hour or created more than 24h ago, and
+ * those results only change when the clock crosses some issue's threshold. Each view
+ * keeps a {@link TimerWheel} with every issue's next crossing (see the services'
+ * {@code nextChange}). A view is served as-is until the clock reaches the earliest one;
+ * the next read then advances the wheel and re-counts only the issues that fired, on top
+ * of the simulation baselines, and rebuilds a compliance report only for users whose
+ * counts moved. Day plans depend on issue data only and are kept. With the fixed demo
+ * clock nothing ever fires.
+ */
+@Service
+public class MaterializedViewService {
+
+    private static final Logger log = LoggerFactory.getLogger(MaterializedViewService.class);
+
+    private final IssueCache issueCache;
+    private final IssueClassifierService classifier;
+    private final ChaosMetricsService chaosMetricsService;
+    private final ComplianceService complianceService;
+    private final DayPlanService dayPlanService;
+    private final PlanSimulationService planSimulationService;
+    private final PipelineMetrics metrics;
+    private final Clock clock;
+
+    private final Map<String, RepoView> views = new ConcurrentHashMap<>();
+    private final LatencyStats syncStats = new LatencyStats();
+    private final LatencyStats readStats = new LatencyStats();
+    private final Counter readHits;
+    private final Counter readRefreshes;
+    private final Counter readMisses;
+    private final Counter timersFired;
+
+    public MaterializedViewService(IssueCache issueCache,
+                                   IssueClassifierService classifier,
+                                   ChaosMetricsService chaosMetricsService,
+                                   ComplianceService complianceService,
+                                   DayPlanService dayPlanService,
+                                   PlanSimulationService planSimulationService,
+                                   PipelineMetrics metrics,
+                                   MeterRegistry registry,
+                                   Clock clock) {
+        this.issueCache = issueCache;
+        this.classifier = classifier;
+        this.chaosMetricsService = chaosMetricsService;
+        this.complianceService = complianceService;
+        this.dayPlanService = dayPlanService;
+        this.planSimulationService = planSimulationService;
+        this.metrics = metrics;
+        this.clock = clock;
+
+        this.readHits = readCounter(registry, "hit");
+        this.readRefreshes = readCounter(registry, "refresh");
+        this.readMisses = readCounter(registry, "not_synced");
+        this.timersFired = Counter.builder("burnout.views.timers.fired")
+            .description("Issues re-counted because the clock crossed one of their time thresholds")
+            .register(registry);
+        Gauge.builder("burnout.views.repos", views, Map::size)
+            .description("Repos with a materialized view")
+            .register(registry);
+        Gauge.builder("burnout.views.issues", views,
+                v -> v.values().stream().mapToLong(r -> r.issues().size()).sum())
+            .description("Issues held by materialized views")
+            .register(registry);
+        Gauge.builder("burnout.views.timers.pending", views,
+                v -> v.values().stream().mapToLong(r -> r.timers().size()).sum())
+            .description("Issues with a time threshold still ahead of the clock")
+            .register(registry);
+    }
+
+    private static Counter readCounter(MeterRegistry registry, String result) {
+        return Counter.builder("burnout.views.reads")
+            .description("View reads: served as-is (hit), recomputed (refresh) or repo not synced")
+            .tag("result", result)
+            .register(registry);
+    }
+
+    /**
+     * Post-sync hook: rebuild the repo view and every assignee's view.
+     */
+    @EventListener
+    public void onIssuesSynced(IssueCache.IssuesSynced event) {
+        long start = System.nanoTime();
+        RepoView view = views.compute(event.repo(), (repo, previous) -> materialize(repo, previous));
+        long elapsed = System.nanoTime() - start;
+        syncStats.record(elapsed);
+        log.debug("Materialized {} v{} ({} users) in {} µs",
+            event.repo(), view.version(), view.users().size(), elapsed / 1000);
+    }
+
+    /**
+     * Current repo view, or null if the repo was never synced.
+     */
+    public RepoView repoView(String repo) {
+        ViewReadEvent event = new ViewReadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            RepoView view = currentView(repo, event);
+            tagSpan(repo, null, view);
+            return view;
+        } finally {
+            recordRead(System.nanoTime() - start, event, repo, null);
+        }
+    }
+
+    /**
+     * Current view for one user, or null if the repo was never synced.
+     * Users that are not assignees in the last sync are computed per read and not kept, so
+     * arbitrary user ids cannot grow the view or the work done on every refresh.
+     */
+    public UserView userView(String repo, String userId) {
+        ViewReadEvent event = new ViewReadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            RepoView view = currentView(repo, event);
+            tagSpan(repo, userId, view);
+            if (view == null) return null;
+            UserView user = view.users().get(userId);
+            if (user != null) return user;
+            event.result = "user-miss";
+            return buildUserView(repo, view, userId, null);
+        } finally {
+            recordRead(System.nanoTime() - start, event, repo, userId);
+        }
+    }
+
+    private void tagSpan(String repo, String userId, RepoView view) {
+        metrics.tagRequest(PipelineMetrics.REPO, repo);
+        metrics.tagRequest(PipelineMetrics.USER, userId);
+        if (view != null) {
+            metrics.tagRequest(PipelineMetrics.VERSION, String.valueOf(view.version()));
+        }
+    }
+
+    private void recordRead(long nanos, ViewReadEvent event, String repo, String userId) {
+        readStats.record(nanos);
+        metrics.record("cache-read", nanos);
+        event.end();
+        if (event.shouldCommit()) {
+            event.repo = repo;
+            event.user = userId;
+            event.commit();
+        }
+    }
+
+    public ViewStats stats() {
+        return new ViewStats(views.size(), syncStats.snapshot(), readStats.snapshot(),
+            views.values().stream().mapToLong(r -> r.timers().size()).sum(), (long) timersFired.count());
+    }
+
+    private RepoView currentView(String repo, ViewReadEvent event) {
+        if (!issueCache.hasRepo(repo)) {
+            readMisses.increment();
+            event.result = "not_synced";
+            return null;
+        }
+        RepoView view = views.get(repo);
+        if (view != null && isFresh(view, repo)) {
+            readHits.increment();
+            event.result = "hit";
+            return view;
+        }
+        readRefreshes.increment();
+        event.result = "refresh";
+        return views.compute(repo, (r, previous) -> {
+            if (previous == null || previous.version() != issueCache.getVersion(r)) return materialize(r, previous);
+            return isFresh(previous, r) ? previous : advance(r, previous);
+        });
+    }
+
+    private boolean isFresh(RepoView view, String repo) {
+        return view.version() == issueCache.getVersion(repo)
+            && clock.millis() < view.timers().nextDeadline();
+    }
+
+    /**
+     * Build a repo view. When {@code previous} is from the same cache version its index is
+     * reused. Day plans carry over whenever the user's open issues are unchanged, including
+     * across syncs.
+     */
+    private RepoView materialize(String repo, RepoView previous) {
+        IssueStore.Snapshot snapshot = issueCache.snapshot(repo).orElseThrow();
+        long version = snapshot.version();
+        List<Issue> issues = snapshot.issues();
+        Instant now = Instant.ofEpochMilli(clock.millis());
+        Clock at = Clock.fixed(now, clock.getZone());
+        Map<String, String> span = Map.of(PipelineMetrics.REPO, repo, PipelineMetrics.VERSION, String.valueOf(version),
+            PipelineMetrics.ISSUES, String.valueOf(issues.size()));
+        boolean sameData = previous != null && previous.version() == version;
+        IssueIndex index = sameData ? previous.index()
+            : metrics.time("index", span, () -> IssueIndex.build(issues, classifier::classify));
+        ChaosMetrics chaos = metrics.time("chaos", span, () -> chaosMetricsService.calculate(index, at));
+        var baseline = metrics.time("simulation", span, () -> planSimulationService.repoBaseline(index, now));
+        TimerWheel timers = metrics.time("timers", span, () -> {
+            TimerWheel wheel = new TimerWheel(now.toEpochMilli());
+            for (int id = 0; id < index.size(); id++) {
+                wheel.schedule(id, nextChange(index, id, now.toEpochMilli()));
+            }
+            return wheel;
+        });
+
+        RepoView view = new RepoView(version, now, index, chaos, baseline, timers, new ConcurrentHashMap<>());
+        for (String userId : index.assigneeLogins()) {
+            UserView before = previous != null ? previous.users().get(userId) : null;
+            view.users().put(userId, buildUserView(repo, view, userId, before != null ? before.dayPlan() : null));
+        }
+        return view;
+    }
+
+    /**
+     * {@code previous} moved to the current time: re-count the issues whose timers are due,
+     * then fire those timers and reschedule them at their next threshold. The wheel only
+     * moves once the new view is built, so a failed recompute leaves {@code previous} as it
+     * was. Counts are exact for whole-millisecond timestamps, as the index's time windows are.
+     */
+    private RepoView advance(String repo, RepoView previous) {
+        Instant now = Instant.ofEpochMilli(clock.millis());
+        IssueIndex index = previous.index();
+        Map<String, String> span = Map.of(PipelineMetrics.REPO, repo, PipelineMetrics.VERSION, String.valueOf(previous.version()),
+            PipelineMetrics.ISSUES, String.valueOf(index.size()));
+        RoaringBitmap changed = RoaringBitmap.bitmapOf(previous.timers().peek(now.toEpochMilli()));
+
+        var baseline = metrics.time("simulation", span,
+            () -> planSimulationService.advance(previous.baseline(), changed, now));
+        ChaosMetrics chaos = planSimulationService.chaos(baseline);
+        RepoView view = new RepoView(previous.version(), now, index, chaos, baseline, previous.timers(),
+            new ConcurrentHashMap<>());
+        previous.users().forEach((userId, before) -> {
+            var userBaseline = planSimulationService.advance(before.baseline(), baseline, changed);
+            ComplianceReport compliance = userBaseline.compliance().equals(before.baseline().compliance())
+                ? before.compliance()
+                : metrics.time("compliance", span, () -> complianceService.analyze(index, userId, now));
+            WorldState state = WorldState.from(userBaseline.world(), chaos, compliance);
+            view.users().put(userId, new UserView(compliance, state, before.dayPlan(), userBaseline));
+        });
+
+        int fired = metrics.time("timers", span, () -> {
+            int[] due = previous.timers().advance(now.toEpochMilli());
+            for (int id : due) {
+                previous.timers().schedule(id, nextChange(index, id, now.toEpochMilli()));
+            }
+            return due.length;
+        });
+        timersFired.increment(fired);
+        return view;
+    }
+
+    /**
+     * Earliest instant after {@code afterMillis} at which any time-dependent count can change
+     * for issue {@code id}.
+     */
+    private long nextChange(IssueIndex index, int id, long afterMillis) {
+        return Math.min(chaosMetricsService.nextChange(index, id, afterMillis),
+            Math.min(complianceService.nextChange(index, id, afterMillis),
+                WorldState.nextChange(index, id, afterMillis)));
+    }
+
+    /**
+     * All user-level fields are computed as of the repo view's {@code computedAt}, so the
+     * simulation baseline agrees with the served state.
+     */
+    private UserView buildUserView(String repo, RepoView view, String userId, DayStructure previousPlan) {
+        IssueIndex index = view.index();
+        List<Issue> issues = index.issues();
+        Clock at = Clock.fixed(view.computedAt(), clock.getZone());
+        Map<String, String> span = Map.of(PipelineMetrics.REPO, repo, PipelineMetrics.USER, userId,
+            PipelineMetrics.VERSION, String.valueOf(view.version()), PipelineMetrics.ISSUES, String.valueOf(issues.size()));
+        ComplianceReport compliance = metrics.time("compliance", span,
+            () -> complianceService.analyze(index, userId, view.computedAt()));
+        WorldState state = metrics.time("world-state", span,
+            () -> WorldState.from(index, userId, view.chaos(), compliance, at));
+        DayStructure plan = metrics.time("day-plan", span,
+            () -> dayPlanService.buildDayPlan(index.issues(index.assigneeIgnoreCase(userId)), userId, previousPlan));
+        var baseline = metrics.time("simulation", span,
+            () -> planSimulationService.baseline(view.baseline(), userId));
+        return new UserView(compliance, state, plan, baseline);
+    }
+
+    /**
+     * Repo-level materialized view.
+     */
+    public record RepoView(
+        long version,
+        Instant computedAt,
+        IssueIndex index,
+        ChaosMetrics chaos,
+        PlanSimulationService.RepoBaseline baseline,
+        TimerWheel timers,
+        Map<String, UserView> users
+    ) {
+        public List<Issue> issues() {
+            return index.issues();
+        }
+    }
+
+    /**
+     * Per-user materialized view.
+     */
+    public record UserView(
+        ComplianceReport compliance,
+        WorldState state,
+        DayStructure dayPlan,
+        PlanSimulationService.Baseline baseline
+    ) {}
+
+    /**
+     * Sync (materialization) and read (lookup) latency, reported separately, and the
+     * time thresholds still pending and fired so far.
+     */
+    public record ViewStats(
+        int repos,
+        LatencySnapshot sync,
+        LatencySnapshot read,
+        long pendingTimers,
+        long timersFired
+    ) {}
+
+    public record LatencySnapshot(long count, double avgMicros, double lastMicros, double maxMicros) {}
+
+    private static final class LatencyStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong lastNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            lastNanos.set(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        LatencySnapshot snapshot() {
+            long n = count.sum();
+            return new LatencySnapshot(
+                n,
+                n == 0 ? 0 : totalNanos.sum() / 1000.0 / n,
+                lastNanos.get() / 1000.0,
+                maxNanos.get() / 1000.0
+            );
+        }
+    }
+}
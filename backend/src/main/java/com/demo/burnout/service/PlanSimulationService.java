@@ -0,0 +1,326 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.cache.IssueIndex;
+import com.demo.burnout.goap.GitHubAction;
+import com.demo.burnout.goap.GitHubMutationPlan;
+import com.demo.burnout.model.*;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projects chaos, compliance and world state after a {@link GitHubMutationPlan} is applied.
+ *
+ * A {@link RepoBaseline} (per snapshot) and a {@link Baseline} (per user) hold the
+ * counts that the three analyses are computed from. Simulating a plan applies its
+ * actions to an {@link IssueOverlay} and adjusts those counts for the touched issues
+ * only: subtract the issue's old contribution, add its new one. The result is exactly
+ * what a full recompute over the mutated list would return, in time proportional to
+ * the plan size.
+ *
+ * GitHub semantics: label and comment mutations bump {@code updatedAt}, so touched
+ * issues are projected with {@code updatedAt = baseline instant}.
+ */
+@Service
+public class PlanSimulationService {
+
+    private final ChaosMetricsService chaosMetricsService;
+    private final ComplianceService complianceService;
+    private final Clock clock;
+
+    public PlanSimulationService(ChaosMetricsService chaosMetricsService,
+                                 ComplianceService complianceService,
+                                 Clock clock) {
+        this.chaosMetricsService = chaosMetricsService;
+        this.complianceService = complianceService;
+        this.clock = clock;
+    }
+
+    /**
+     * Index a snapshot and tally its repo-level chaos signals. O(n), once per snapshot.
+     */
+    public RepoBaseline repoBaseline(List<Issue> issues) {
+        return repoBaseline(issues, clock.instant());
+    }
+
+    public RepoBaseline repoBaseline(List<Issue> issues, Instant now) {
+        return repoBaseline(IssueIndex.build(issues), now);
+    }
+
+    /**
+     * Chaos counters and shared world-state counts come from the index's bitmaps and time
+     * orders; the loop only builds the number and label lookups.
+     */
+    public RepoBaseline repoBaseline(IssueIndex index, Instant now) {
+        List<Issue> issues = index.issues();
+        Map<Integer, Integer> indexByNumber = new HashMap<>(issues.size() * 2);
+        Map<String, Integer> labelCounts = new HashMap<>();
+        for (int i = 0; i < issues.size(); i++) {
+            Issue issue = issues.get(i);
+            indexByNumber.putIfAbsent(issue.number(), i);
+            addLabels(labelCounts, issue, 1);
+        }
+        return new RepoBaseline(index, Map.copyOf(indexByNumber), Map.copyOf(labelCounts),
+            now, clock.getZone(),
+            chaosMetricsService.recentlyUpdated(index, now).getCardinality(),
+            chaosMetricsService.urgentOver24h(index, now).getCardinality(),
+            chaosMetricsService.afterHoursActivity(index, clock.getZone()).getCardinality(),
+            chaosMetricsService.mysteryMeat(index).getCardinality(),
+            WorldState.shared(index, now));
+    }
+
+    /**
+     * Per-user counts on top of a repo baseline. Issues not assigned to the user only
+     * contribute repo-wide counts, which the repo baseline already holds, so this visits
+     * the user's issues only.
+     */
+    public Baseline baseline(RepoBaseline repo, String userId) {
+        ComplianceService.Counts compliance = ComplianceService.Counts.ZERO;
+        WorldState.Counts world = repo.sharedWorld();
+        IssueIndex index = repo.index();
+        for (var it = index.assigneeIgnoreCase(userId).getIntIterator(); it.hasNext(); ) {
+            Issue issue = index.issue(it.next());
+            compliance = compliance.plus(complianceService.countIssue(issue, userId, repo.now()));
+            world = world
+                .plus(WorldState.countIssue(issue, userId, repo.now(), repo.zone()))
+                .minus(WorldState.countIssue(issue, null, repo.now(), repo.zone()));
+        }
+        return new Baseline(repo, userId, compliance, world);
+    }
+
+    /**
+     * {@code repo} as of the later instant {@code now}. Time-dependent counts only change for
+     * issues that crossed a threshold in between, so only {@code changed} (a superset of
+     * those) is re-counted: each issue's contribution at {@code repo.now()} is swapped for
+     * its contribution at {@code now}.
+     */
+    public RepoBaseline advance(RepoBaseline repo, RoaringBitmap changed, Instant now) {
+        Clock before = Clock.fixed(repo.now(), repo.zone());
+        Clock after = Clock.fixed(now, repo.zone());
+        ChaosTally tally = new ChaosTally(repo);
+        WorldState.Counts shared = repo.sharedWorld();
+        for (var it = changed.getIntIterator(); it.hasNext(); ) {
+            Issue issue = repo.index().issue(it.next());
+            tally.add(issue, repo.now(), before, -1);
+            tally.add(issue, now, after, 1);
+            shared = shared
+                .minus(WorldState.countIssue(issue, null, repo.now(), repo.zone()))
+                .plus(WorldState.countIssue(issue, null, now, repo.zone()));
+        }
+        return new RepoBaseline(repo.index(), repo.indexByNumber(), repo.labelCounts(), now, repo.zone(),
+            tally.touched, tally.urgent, tally.afterHours, tally.mysteryMeat, shared);
+    }
+
+    /**
+     * {@code user} moved onto {@code repo}, which {@link #advance(RepoBaseline, RoaringBitmap, Instant)}
+     * produced from {@code user.repo()}. Visits the user's issues among {@code changed} only.
+     */
+    public Baseline advance(Baseline user, RepoBaseline repo, RoaringBitmap changed) {
+        Instant was = user.repo().now();
+        ComplianceService.Counts compliance = user.compliance();
+        WorldState.Counts world = user.world().minus(user.repo().sharedWorld()).plus(repo.sharedWorld());
+        RoaringBitmap mine = RoaringBitmap.and(repo.index().assigneeIgnoreCase(user.userId()), changed);
+        for (var it = mine.getIntIterator(); it.hasNext(); ) {
+            Issue issue = repo.index().issue(it.next());
+            compliance = compliance
+                .minus(complianceService.countIssue(issue, user.userId(), was))
+                .plus(complianceService.countIssue(issue, user.userId(), repo.now()));
+            world = world
+                .minus(WorldState.countIssue(issue, user.userId(), was, repo.zone()))
+                .plus(WorldState.countIssue(issue, null, was, repo.zone()))
+                .plus(WorldState.countIssue(issue, user.userId(), repo.now(), repo.zone()))
+                .minus(WorldState.countIssue(issue, null, repo.now(), repo.zone()));
+        }
+        return new Baseline(repo, user.userId(), compliance, world);
+    }
+
+    /**
+     * Chaos metrics of the baseline snapshot, from its counters.
+     */
+    public ChaosMetrics chaos(RepoBaseline repo) {
+        return new ChaosTally(repo).metrics(repo.distinctLabels());
+    }
+
+    /**
+     * Exact projection of {@code plan} applied to the baseline snapshot.
+     * Actions on issues that are not in the snapshot are ignored (GitHub would 404).
+     */
+    public Projection simulate(Baseline baseline, GitHubMutationPlan plan) {
+        RepoBaseline repo = baseline.repo();
+        Instant now = repo.now();
+        Clock at = Clock.fixed(now, repo.zone());
+
+        IssueOverlay overlay = new IssueOverlay(repo.issues(), repo.indexByNumber());
+        for (GitHubAction action : plan.actions()) {
+            int index = overlay.positionOf(action.issueNumber());
+            if (index < 0) continue;
+            overlay.replace(index, apply(overlay.get(index), action, now));
+        }
+
+        ChaosTally tally = new ChaosTally(repo);
+        Map<String, Integer> labelDelta = new HashMap<>();
+        ComplianceService.Counts compliance = baseline.compliance();
+        WorldState.Counts world = baseline.world();
+        for (int index : overlay.touched()) {
+            Issue before = overlay.base(index);
+            Issue after = overlay.get(index);
+            tally.add(before, now, at, -1);
+            tally.add(after, now, at, 1);
+            addLabels(labelDelta, before, -1);
+            addLabels(labelDelta, after, 1);
+            compliance = compliance
+                .minus(complianceService.countIssue(before, baseline.userId(), now))
+                .plus(complianceService.countIssue(after, baseline.userId(), now));
+            world = world
+                .minus(WorldState.countIssue(before, baseline.userId(), now, repo.zone()))
+                .plus(WorldState.countIssue(after, baseline.userId(), now, repo.zone()));
+        }
+
+        int distinctLabels = repo.distinctLabels();
+        for (var delta : labelDelta.entrySet()) {
+            int was = repo.labelCounts().getOrDefault(delta.getKey(), 0);
+            int is = was + delta.getValue();
+            if (was == 0 && is > 0) distinctLabels++;
+            if (was > 0 && is == 0) distinctLabels--;
+        }
+
+        ChaosMetrics chaos = tally.metrics(distinctLabels);
+        ComplianceReport report = complianceService.fromCounts(baseline.userId(), compliance);
+        WorldState state = WorldState.from(world, chaos, report);
+        return new Projection(overlay, chaos, report, state);
+    }
+
+    /**
+     * Project several candidate plans against the same baseline. Each candidate gets its own
+     * overlay; the baseline is immutable and shared. Results keep input order.
+     *
+     * Runs on the caller's thread: a projection costs time proportional to its plan, so a
+     * batch is cheap, and fanning it out to the common ForkJoin pool would let one request
+     * occupy the threads every parallel stream in the JVM shares.
+     */
+    public List<Projection> simulateAll(Baseline baseline, List<GitHubMutationPlan> plans) {
+        List<Projection> out = new ArrayList<>(plans.size());
+        for (GitHubMutationPlan plan : plans) {
+            out.add(simulate(baseline, plan));
+        }
+        return out;
+    }
+
+    /**
+     * Issue as GitHub would return it after the action: labels matched case-insensitively,
+     * {@code updatedAt} bumped.
+     */
+    static Issue apply(Issue issue, GitHubAction action, Instant now) {
+        List<Issue.Label> labels = issue.labels() != null ? issue.labels() : List.of();
+        List<Issue.Label> next = switch (action) {
+            case GitHubAction.AddLabels add -> {
+                List<Issue.Label> merged = new ArrayList<>(labels);
+                for (String name : add.labels()) {
+                    if (merged.stream().noneMatch(l -> l.name().equalsIgnoreCase(name))) {
+                        merged.add(new Issue.Label(name));
+                    }
+                }
+                yield merged;
+            }
+            case GitHubAction.RemoveLabels remove -> labels.stream()
+                .filter(l -> remove.labels().stream().noneMatch(name -> name.equalsIgnoreCase(l.name())))
+                .toList();
+            case GitHubAction.Comment ignored -> issue.labels();
+        };
+        return new Issue(issue.number(), issue.title(), issue.body(), next, issue.assignees(),
+            issue.createdAt(), now, issue.state(), issue.milestone(), issue.bodyFeatures(), 0);
+    }
+
+    private static void addLabels(Map<String, Integer> counts, Issue issue, int sign) {
+        if (issue.labels() == null) return;
+        for (Issue.Label label : issue.labels()) {
+            counts.merge(label.name(), sign, Integer::sum);
+        }
+    }
+
+    /**
+     * Repo-level chaos counters, adjustable one issue at a time.
+     */
+    private final class ChaosTally {
+        long touched;
+        long urgent;
+        int afterHours;
+        int mysteryMeat;
+
+        ChaosTally(RepoBaseline repo) {
+            touched = repo.touched();
+            urgent = repo.urgent();
+            afterHours = repo.afterHours();
+            mysteryMeat = repo.mysteryMeat();
+        }
+
+        void add(Issue issue, Instant now, Clock at, int sign) {
+            if (chaosMetricsService.isRecentlyUpdated(issue, now)) touched += sign;
+            if (chaosMetricsService.isUrgentOver24h(issue, now)) urgent += sign;
+            if (chaosMetricsService.isAfterHoursActivity(issue, at)) afterHours += sign;
+            if (chaosMetricsService.isMysteryMeat(issue)) mysteryMeat += sign;
+        }
+
+        ChaosMetrics metrics(int distinctLabels) {
+            boolean afterHoursSignal = afterHours > 0;
+            return new ChaosMetrics(touched, urgent, distinctLabels, afterHoursSignal, mysteryMeat,
+                ChaosMetricsService.score(mysteryMeat, urgent, touched, afterHoursSignal, distinctLabels));
+        }
+    }
+
+    /**
+     * Indexed snapshot plus repo-level counts, taken at {@code now}. {@code sharedWorld} is
+     * the world-state counts every user gets regardless of assignment.
+     */
+    public record RepoBaseline(
+        IssueIndex index,
+        Map<Integer, Integer> indexByNumber,
+        Map<String, Integer> labelCounts,
+        Instant now,
+        ZoneId zone,
+        long touched,
+        long urgent,
+        int afterHours,
+        int mysteryMeat,
+        WorldState.Counts sharedWorld
+    ) {
+        public List<Issue> issues() {
+            return index.issues();
+        }
+
+        public int distinctLabels() {
+            return labelCounts.size();
+        }
+    }
+
+    /**
+     * Per-user counts for one repo baseline.
+     */
+    public record Baseline(
+        RepoBaseline repo,
+        String userId,
+        ComplianceService.Counts compliance,
+        WorldState.Counts world
+    ) {}
+
+    /**
+     * Post-plan view. {@code issues} is the overlay; the base snapshot is untouched.
+     */
+    public record Projection(
+        List<Issue> issues,
+        ChaosMetrics chaos,
+        ComplianceReport compliance,
+        WorldState state
+    ) {
+        public int stressScore() {
+            return state.calculateStressScore();
+        }
+    }
+}
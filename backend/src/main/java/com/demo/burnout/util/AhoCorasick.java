@@ -0,0 +1,125 @@
+package com.demo.burnout.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Case-insensitive multi-pattern matcher for up to 32 ASCII patterns.
+ *
+ * The Aho-Corasick trie is compiled into a dense DFA over ASCII, so a scan is one table
+ * lookup per character regardless of how many patterns there are, and needs no lowercase
+ * copy of the text. Non-ASCII characters are folded with {@link Character#toLowerCase(char)}
+ * and, if still non-ASCII, can never be part of a match.
+ *
+ * Callers drive the automaton themselves ({@link #next}, {@link #matches}) so they can
+ * count, stop early or track other per-character state in the same loop.
+ */
+public final class AhoCorasick {
+
+    private static final int ALPHABET = 128;
+
+    private final int[][] transitions;
+    private final int[] outputs;
+
+    private AhoCorasick(int[][] transitions, int[] outputs) {
+        this.transitions = transitions;
+        this.outputs = outputs;
+    }
+
+    /**
+     * Matcher for {@code patterns}; pattern {@code i} is bit {@code i} of {@link #matches}.
+     */
+    public static AhoCorasick compile(List<String> patterns) {
+        if (patterns.isEmpty() || patterns.size() > 32) {
+            throw new IllegalArgumentException("Between 1 and 32 patterns, got " + patterns.size());
+        }
+        List<int[]> trie = new ArrayList<>();
+        List<Integer> out = new ArrayList<>();
+        trie.add(newState());
+        out.add(0);
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            if (pattern.isEmpty()) throw new IllegalArgumentException("Empty pattern");
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int c = fold(pattern.charAt(i));
+                if (c < 0) throw new IllegalArgumentException("Non-ASCII pattern: " + pattern);
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newState());
+                    out.add(0);
+                }
+                state = trie.get(state)[c];
+            }
+            out.set(state, out.get(state) | (1 << p));
+        }
+
+        // Breadth-first: fill missing edges with the failure state's edge and inherit its outputs
+        int[][] transitions = trie.toArray(int[][]::new);
+        int[] outputs = out.stream().mapToInt(Integer::intValue).toArray();
+        int[] failure = new int[transitions.length];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int child = transitions[0][c];
+            if (child < 0) {
+                transitions[0][c] = 0;
+            } else {
+                failure[child] = 0;
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] |= outputs[failure[state]];
+            for (int c = 0; c < ALPHABET; c++) {
+                int child = transitions[state][c];
+                if (child < 0) {
+                    transitions[state][c] = transitions[failure[state]][c];
+                } else {
+                    failure[child] = transitions[failure[state]][c];
+                    queue.add(child);
+                }
+            }
+        }
+        return new AhoCorasick(transitions, outputs);
+    }
+
+    private static int[] newState() {
+        int[] edges = new int[ALPHABET];
+        Arrays.fill(edges, -1);
+        return edges;
+    }
+
+    private static int fold(char c) {
+        if (c >= ALPHABET) {
+            c = Character.toLowerCase(c);
+            if (c >= ALPHABET) return -1;
+        }
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    /**
+     * The start state.
+     */
+    public int start() {
+        return 0;
+    }
+
+    /**
+     * State after reading {@code c} in {@code state}.
+     */
+    public int next(int state, char c) {
+        int folded = fold(c);
+        return folded < 0 ? 0 : transitions[state][folded];
+    }
+
+    /**
+     * Bitmask of the patterns ending at the last character read to reach {@code state}.
+     */
+    public int matches(int state) {
+        return outputs[state];
+    }
+}
@@ -0,0 +1,33 @@
+package com.demo.burnout.util;
+
+import com.demo.burnout.model.Issue;
+
+import java.util.List;
+
+/**
+ * "Is assigned to this login, ignoring case", with the login normalized once per request
+ * instead of per issue. Like {@link LabelMatcher}, a check allocates nothing.
+ * A null login matches no issue.
+ */
+public final class AssigneeMatcher {
+    private static final AssigneeMatcher NOBODY = new AssigneeMatcher(null);
+
+    private final String login;
+
+    private AssigneeMatcher(String login) {
+        this.login = login;
+    }
+
+    public static AssigneeMatcher of(String login) {
+        return login == null ? NOBODY : new AssigneeMatcher(login.toLowerCase());
+    }
+
+    public boolean matches(Issue issue) {
+        List<Issue.Assignee> assignees = issue.assignees();
+        if (login == null || assignees == null) return false;
+        for (int i = 0, n = assignees.size(); i < n; i++) {
+            if (login.equalsIgnoreCase(assignees.get(i).login())) return true;
+        }
+        return false;
+    }
+}
@@ -1,11 +1,14 @@
 package com.demo.burnout.util;
 
+import com.demo.burnout.model.DemoFlags;
 import com.demo.burnout.model.Issue;
 
 import java.util.Set;
 
 /**
  * Canonical demo label names. Use these constants everywhere to avoid case/spelling mismatches.
+ * The checks below read the issue's precomputed {@link DemoFlags}; only other demo:* names
+ * fall back to scanning the labels.
  */
 public final class DemoLabels {
     private DemoLabels() {}
@@ -21,12 +24,12 @@ public final class DemoLabels {
     );
 
     public static boolean hasDemoLabel(Issue issue) {
-        if (issue.labels() == null) return false;
-        return issue.labels().stream()
-            .anyMatch(l -> l.name().toLowerCase().startsWith("demo:"));
+        return DemoFlags.isDemo(issue.demoFlags());
     }
 
     public static boolean hasLabel(Issue issue, String demoLabel) {
+        int flag = DemoFlags.of(demoLabel);
+        if (flag != 0) return DemoFlags.has(issue.demoFlags(), flag);
         if (issue.labels() == null) return false;
         return issue.labels().stream()
             .anyMatch(l -> l.name().equalsIgnoreCase(demoLabel));
@@ -0,0 +1,55 @@
+package com.demo.burnout.util;
+
+import com.demo.burnout.model.Issue;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * "Has any of these labels", compiled once from the label names.
+ *
+ * Names are lowercased up front, like the {@link com.demo.burnout.cache.IssueIndex} keys, and
+ * {@link #matches} walks the issue's labels by position comparing in place, so a check
+ * allocates nothing. Keep matchers in constants for predicates that run per issue.
+ */
+public final class LabelMatcher {
+    private final String[] names;
+
+    private LabelMatcher(String[] names) {
+        this.names = names;
+    }
+
+    public static LabelMatcher of(String... names) {
+        String[] lower = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            lower[i] = names[i].toLowerCase();
+        }
+        return new LabelMatcher(lower);
+    }
+
+    public static LabelMatcher of(Collection<String> names) {
+        return of(names.toArray(String[]::new));
+    }
+
+    /**
+     * Whether the issue carries at least one of the names, ignoring case.
+     */
+    public boolean matches(Issue issue) {
+        List<Issue.Label> labels = issue.labels();
+        if (labels == null) return false;
+        for (int i = 0, n = labels.size(); i < n; i++) {
+            String label = labels.get(i).name();
+            for (String name : names) {
+                if (name.equalsIgnoreCase(label)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The lowercased names, e.g. for {@link com.demo.burnout.cache.IssueIndex#anyLabel}.
+     */
+    public List<String> names() {
+        return List.of(names);
+    }
+}
@@ -2,40 +2,34 @@ package com.demo.burnout.util;
 
 import com.demo.burnout.model.Issue;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Utility class for label matching - used by WorldState and Action implementations.
+ * Predicates that run per issue should hold a {@link LabelMatcher} instead of passing
+ * name lists here, which compiles a matcher per call.
  */
 public final class LabelUtils {
     private LabelUtils() {}
 
     public static boolean hasLabel(Issue issue, String labelName) {
-        if (issue.labels() == null) return false;
-        return issue.labels().stream()
-            .anyMatch(l -> l.name().equalsIgnoreCase(labelName));
+        List<Issue.Label> labels = issue.labels();
+        if (labels == null) return false;
+        for (int i = 0, n = labels.size(); i < n; i++) {
+            if (labels.get(i).name().equalsIgnoreCase(labelName)) return true;
+        }
+        return false;
     }
 
     public static boolean hasLabel(Issue issue, String... labelNames) {
         if (issue.labels() == null || labelNames.length == 0) return false;
-        Set<String> target = Arrays.stream(labelNames)
-            .map(String::toLowerCase)
-            .collect(Collectors.toSet());
-        return issue.labels().stream()
-            .anyMatch(l -> target.contains(l.name().toLowerCase()));
+        return LabelMatcher.of(labelNames).matches(issue);
     }
 
     public static boolean hasAnyLabel(Issue issue, List<String> labelNames) {
         if (issue.labels() == null || labelNames.isEmpty()) return false;
-        Set<String> target = labelNames.stream()
-            .map(String::toLowerCase)
-            .collect(Collectors.toSet());
-        return issue.labels().stream()
-            .anyMatch(l -> target.contains(l.name().toLowerCase()));
+        return LabelMatcher.of(labelNames).matches(issue);
     }
 
     public static boolean hasLabelPattern(Issue issue, String regex) {
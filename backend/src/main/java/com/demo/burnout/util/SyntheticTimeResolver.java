@@ -1,6 +1,7 @@
 package com.demo.burnout.util;
 
 import com.demo.burnout.config.DemoConfiguration;
+import com.demo.burnout.model.DemoFlags;
 import com.demo.burnout.model.Issue;
 
 import java.time.DayOfWeek;
@@ -13,36 +14,38 @@ import java.time.Clock;
 /**
  * Centralized utility for resolving time-based checks with demo label precedence.
  * GOLDEN RULE: If ANY demo:* label exists on issue, never consult real timestamps.
+ * Label checks are bit tests on the issue's {@link DemoFlags}.
  */
 public final class SyntheticTimeResolver {
     
     private SyntheticTimeResolver() {}
 
     public static boolean isTouchedRecently(Issue issue, int minutesWindow, Instant now) {
-        if (DemoLabels.hasLabel(issue, DemoLabels.TOUCHED_TODAY)) return true;
-        if (DemoLabels.hasDemoLabel(issue)) return false;
+        int demo = issue.demoFlags();
+        if (DemoFlags.isDemo(demo)) return DemoFlags.has(demo, DemoFlags.TOUCHED_TODAY);
         return issue.updatedAt() != null && 
                issue.updatedAt().isAfter(now.minus(Duration.ofMinutes(minutesWindow)));
     }
 
     public static boolean isAfterHours(Issue issue, Clock clk) {
-        if (DemoLabels.hasLabel(issue, DemoLabels.AFTER_HOURS)) return true;
-        if (DemoLabels.hasDemoLabel(issue)) return false;
+        int demo = issue.demoFlags();
+        if (DemoFlags.isDemo(demo)) return DemoFlags.has(demo, DemoFlags.AFTER_HOURS);
         return isRealAfterHours(issue.updatedAt(), clk);
     }
 
     public static boolean isStale(Issue issue, int days, Instant now) {
-        String staleLabel = "demo:stale-" + days + "d";
-        if (DemoLabels.hasLabel(issue, staleLabel)) return true;
-        if (DemoLabels.hasLabel(issue, DemoLabels.STALE_14D)) return true;
-        if (DemoLabels.hasDemoLabel(issue)) return false;
+        int demo = issue.demoFlags();
+        if (DemoFlags.isDemo(demo)) {
+            return DemoFlags.has(demo, DemoFlags.STALE_14D)
+                || (days != 14 && DemoLabels.hasLabel(issue, "demo:stale-" + days + "d"));
+        }
         return issue.createdAt() != null && 
                issue.createdAt().isBefore(now.minus(Duration.ofDays(days)));
     }
 
     public static boolean isFriday(Issue issue, DemoConfiguration config, Clock clk) {
-        if (DemoLabels.hasLabel(issue, DemoLabels.FRIDAY)) return true;
-        if (DemoLabels.hasDemoLabel(issue)) return false;
+        int demo = issue.demoFlags();
+        if (DemoFlags.isDemo(demo)) return DemoFlags.has(demo, DemoFlags.FRIDAY);
         if (config != null && config.getFriday().isEnabled()) return true;
         return LocalDate.now(clk).getDayOfWeek() == DayOfWeek.FRIDAY;
     }
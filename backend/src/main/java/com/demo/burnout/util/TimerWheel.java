@@ -0,0 +1,212 @@
+package com.demo.burnout.util;
+
+import java.util.Arrays;
+
+/**
+ * Hierarchical timer wheel over epoch milliseconds, holding int ids.
+ *
+ * Level {@code L} has 64 slots of 64^L ms; an id is kept at the level of the most significant
+ * base-64 digit in which its deadline differs from the wheel's current time, in the slot of
+ * that digit. {@link #advance} fires everything due and cascades only the one slot per jump
+ * that straddles the new time, so moving the wheel by an hour or by a month costs the
+ * number of ids that fire or move down a level, plus a scan of the slot headers. Eleven
+ * levels cover every non-negative long, so nothing overflows.
+ *
+ * Time is whatever the caller passes in; the wheel never reads a clock. Not thread-safe,
+ * except that {@link #nextDeadline} may be read while another thread schedules or advances.
+ */
+public final class TimerWheel {
+
+    /** Deadline for "never": {@link #schedule} ignores it. */
+    public static final long NEVER = Long.MAX_VALUE;
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int LEVELS = (Long.SIZE + BITS - 1) / BITS;
+    private static final int[] NONE = new int[0];
+
+    private final Bucket[][] levels = new Bucket[LEVELS][SLOTS];
+    private final Bucket due = new Bucket();
+    private long now;
+    private int size;
+    private volatile long nextDeadline = NEVER;
+
+    /**
+     * @param nowMillis the wheel's current time; must not be negative
+     */
+    public TimerWheel(long nowMillis) {
+        if (nowMillis < 0) throw new IllegalArgumentException("Negative time " + nowMillis);
+        this.now = nowMillis;
+    }
+
+    /**
+     * The earlier of {@code best} and {@code deadline}, ignoring deadlines at or before
+     * {@code after}. For computing an id's next deadline from several candidates.
+     */
+    public static long earliestAfter(long after, long deadline, long best) {
+        return deadline > after && deadline < best ? deadline : best;
+    }
+
+    /**
+     * Fire {@code id} at {@code deadlineMillis}. A deadline at or before the current time
+     * fires on the next {@link #advance}; {@link #NEVER} is ignored.
+     */
+    public void schedule(int id, long deadlineMillis) {
+        if (deadlineMillis == NEVER) return;
+        insert(id, deadlineMillis);
+        size++;
+        if (deadlineMillis < nextDeadline) nextDeadline = deadlineMillis;
+    }
+
+    /**
+     * Move the wheel to {@code nowMillis} and return the ids whose deadline is at or before
+     * it, each once per schedule. Moving backwards only returns what was already due.
+     */
+    public int[] advance(long nowMillis) {
+        Bucket fired = new Bucket();
+        fired.drain(due);
+        if (nowMillis > now) {
+            long from = now;
+            now = nowMillis;
+            int top = level(from, nowMillis);
+            // Below the highest changed digit every deadline shares the old, smaller digit there
+            for (int level = 0; level < top; level++) {
+                for (Bucket bucket : levels[level]) {
+                    if (bucket != null) fired.drain(bucket);
+                }
+            }
+            int fromDigit = digit(from, top);
+            int toDigit = digit(nowMillis, top);
+            for (int slot = fromDigit + 1; slot < toDigit; slot++) {
+                Bucket bucket = levels[top][slot];
+                if (bucket != null) fired.drain(bucket);
+            }
+            // The slot holding the new time is split: due ids fire, the rest move down a level
+            Bucket straddling = levels[top][toDigit];
+            if (straddling != null && straddling.size > 0) {
+                int[] ids = Arrays.copyOf(straddling.ids, straddling.size);
+                long[] deadlines = Arrays.copyOf(straddling.deadlines, straddling.size);
+                straddling.size = 0;
+                for (int i = 0; i < ids.length; i++) {
+                    if (deadlines[i] <= nowMillis) fired.add(ids[i], deadlines[i]);
+                    else insert(ids[i], deadlines[i]);
+                }
+            }
+        }
+        size -= fired.size;
+        nextDeadline = earliest();
+        return fired.size == 0 ? NONE : Arrays.copyOf(fired.ids, fired.size);
+    }
+
+    /**
+     * The ids {@link #advance} would return for {@code nowMillis}, without moving the wheel.
+     * Lets a caller build on the fired ids first and commit the move only once that worked.
+     */
+    public int[] peek(long nowMillis) {
+        Bucket fired = new Bucket();
+        fired.addAll(due);
+        if (nowMillis > now) {
+            int top = level(now, nowMillis);
+            for (int level = 0; level < top; level++) {
+                for (Bucket bucket : levels[level]) {
+                    if (bucket != null) fired.addAll(bucket);
+                }
+            }
+            for (int slot = digit(now, top) + 1; slot <= digit(nowMillis, top); slot++) {
+                Bucket bucket = levels[top][slot];
+                if (bucket == null) continue;
+                for (int i = 0; i < bucket.size; i++) {
+                    if (bucket.deadlines[i] <= nowMillis) fired.add(bucket.ids[i], bucket.deadlines[i]);
+                }
+            }
+        }
+        return fired.size == 0 ? NONE : Arrays.copyOf(fired.ids, fired.size);
+    }
+
+    /**
+     * Earliest pending deadline, or {@link #NEVER}. May be read from any thread.
+     */
+    public long nextDeadline() {
+        return nextDeadline;
+    }
+
+    /**
+     * Ids scheduled and not yet fired.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void insert(int id, long deadline) {
+        if (deadline <= now) {
+            due.add(id, deadline);
+            return;
+        }
+        int level = level(now, deadline);
+        int slot = digit(deadline, level);
+        Bucket bucket = levels[level][slot];
+        if (bucket == null) {
+            bucket = new Bucket();
+            levels[level][slot] = bucket;
+        }
+        bucket.add(id, deadline);
+    }
+
+    /**
+     * Lower levels hold strictly earlier deadlines, and within a level later slots hold later
+     * ones, so the minimum is in the first non-empty slot of the lowest non-empty level.
+     */
+    private long earliest() {
+        long min = NEVER;
+        for (int i = 0; i < due.size; i++) {
+            min = Math.min(min, due.deadlines[i]);
+        }
+        if (min != NEVER) return min;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = digit(now, level) + 1; slot < SLOTS; slot++) {
+                Bucket bucket = levels[level][slot];
+                if (bucket == null || bucket.size == 0) continue;
+                for (int i = 0; i < bucket.size; i++) {
+                    min = Math.min(min, bucket.deadlines[i]);
+                }
+                return min;
+            }
+        }
+        return NEVER;
+    }
+
+    private static int level(long a, long b) {
+        return (Long.SIZE - 1 - Long.numberOfLeadingZeros(a ^ b)) / BITS;
+    }
+
+    private static int digit(long time, int level) {
+        return (int) (time >>> (level * BITS)) & (SLOTS - 1);
+    }
+
+    private static final class Bucket {
+        int[] ids = new int[4];
+        long[] deadlines = new long[4];
+        int size;
+
+        void add(int id, long deadline) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                deadlines = Arrays.copyOf(deadlines, size * 2);
+            }
+            ids[size] = id;
+            deadlines[size] = deadline;
+            size++;
+        }
+
+        void addAll(Bucket other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.ids[i], other.deadlines[i]);
+            }
+        }
+
+        void drain(Bucket other) {
+            addAll(other);
+            other.size = 0;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.demo.burnout.perf;
+
+import com.demo.burnout.cache.IssueIndex;
+import com.demo.burnout.model.*;
+import com.demo.burnout.service.ChaosMetricsService;
+import com.demo.burnout.service.ComplianceService;
+import com.demo.burnout.service.DayPlanService;
+import com.demo.burnout.service.IssueClassifierService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot paths of a sync/read cycle over one repo, without Spring.
+ * The analysis services are constructed directly on the fixed benchmark clock and run over
+ * a prebuilt {@link IssueIndex}, as the materialized views do; {@link #index} measures the
+ * per-sync build.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class AnalysisBenchmark {
+
+    @Param({"100", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<Issue> issues;
+    private IssueIndex index;
+    private String userId;
+    private IssueClassifierService classifier;
+    private ChaosMetricsService chaosService;
+    private ComplianceService complianceService;
+    private DayPlanService dayPlanService;
+    private ChaosMetrics chaos;
+    private ComplianceReport compliance;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        issues = SyntheticRepo.generate(size, 42);
+        userId = SyntheticRepo.topAssignee();
+        classifier = new IssueClassifierService();
+        chaosService = new ChaosMetricsService(SyntheticRepo.CLOCK);
+        complianceService = new ComplianceService(classifier, SyntheticRepo.CLOCK);
+        dayPlanService = new DayPlanService(classifier);
+        index = IssueIndex.build(issues, classifier::classify);
+        chaos = chaosService.calculate(index, SyntheticRepo.CLOCK);
+        compliance = complianceService.analyze(index, userId, SyntheticRepo.NOW);
+    }
+
+    @Benchmark
+    public IssueIndex index() {
+        return IssueIndex.build(issues, classifier::classify);
+    }
+
+    @Benchmark
+    public ChaosMetrics chaosMetrics() {
+        return chaosService.calculate(index, SyntheticRepo.CLOCK);
+    }
+
+    @Benchmark
+    public ComplianceReport compliance() {
+        return complianceService.analyze(index, userId, SyntheticRepo.NOW);
+    }
+
+    @Benchmark
+    public WorldState worldState() {
+        return WorldState.from(index, userId, chaos, compliance, SyntheticRepo.CLOCK);
+    }
+
+    /**
+     * The same state by one pass over the records, without an index. Run with
+     * {@code -prof gc}: allocation per operation should not grow with {@link #size}.
+     */
+    @Benchmark
+    public WorldState worldStateScan() {
+        return WorldState.from(issues, userId, chaos, compliance, SyntheticRepo.CLOCK);
+    }
+
+    @Benchmark
+    public DayStructure dayPlan() {
+        return dayPlanService.buildDayPlan(issues, userId);
+    }
+
+    /**
+     * One issue per operation, cycling through the repo.
+     */
+    @Benchmark
+    public Classification classify() {
+        Issue issue = issues.get(cursor);
+        cursor = cursor + 1 == issues.size() ? 0 : cursor + 1;
+        return classifier.classify(issue);
+    }
+}
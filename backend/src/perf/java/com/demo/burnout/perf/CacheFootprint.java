@@ -0,0 +1,121 @@
+package com.demo.burnout.perf;
+
+import com.demo.burnout.cache.BodyRetention;
+import com.demo.burnout.cache.ColumnarIssues;
+import com.demo.burnout.controller.IssueSyncController;
+import com.demo.burnout.model.*;
+import com.demo.burnout.service.ChaosMetricsService;
+import com.demo.burnout.service.ComplianceService;
+import com.demo.burnout.service.DayPlanService;
+import com.demo.burnout.service.IssueClassifierService;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Retained memory per cached issue for each {@link BodyRetention} mode and for the columnar
+ * backend ({@link ColumnarIssues}), and a check that the analysis gives the same results on all.
+ *
+ * Issues are generated with {@link SyntheticRepo}, then serialized and parsed back like a
+ * real sync so no strings are shared between issues. Retained size is the heap (and direct
+ * memory) in use after a full GC with the snapshot held, minus that in use without it.
+ * <pre>
+ * mvn -Pperf compile exec:exec -Dperf.main=com.demo.burnout.perf.CacheFootprint \
+ *     -Dbench.args="--size=100000 --preview-chars=200"
+ * </pre>
+ */
+public final class CacheFootprint {
+
+    private CacheFootprint() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("Expected --key=value, got " + arg);
+            int eq = arg.indexOf('=');
+            options.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        int size = Integer.parseInt(options.getOrDefault("size", "100000"));
+        int previewChars = Integer.parseInt(options.getOrDefault("preview-chars", "200"));
+
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        byte[] json = mapper.writeValueAsBytes(new IssueSyncController.IssueSyncRequest(
+            "bench/repo", SyntheticRepo.generate(size, 42), SyntheticRepo.NOW, 1));
+
+        Map<String, String> results = new LinkedHashMap<>();
+        for (BodyRetention retention : BodyRetention.values()) {
+            results.put(retention.name(), measure(retention.name(), size,
+                () -> retention.apply(parse(mapper, json), previewChars)));
+        }
+        results.put("COLUMNAR", measure("COLUMNAR", size, () -> ColumnarIssues.of(parse(mapper, json))));
+        boolean same = results.values().stream().distinct().count() == 1;
+        System.out.println(same ? "Analysis results identical" : "Analysis results DIFFER");
+        if (!same) System.exit(1);
+    }
+
+    private static List<Issue> parse(ObjectMapper mapper, byte[] json) {
+        try {
+            return mapper.readValue(json, IssueSyncController.IssueSyncRequest.class).issues();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String measure(String name, int size, Supplier<List<Issue>> load) throws Exception {
+        long heapBefore = usedAfterGc();
+        long directBefore = directUsed();
+        List<Issue> issues = load.get();
+        long heap = usedAfterGc() - heapBefore;
+        long direct = directUsed() - directBefore;
+        System.out.printf("%-8s %,d issues  heap %,d B/issue  off-heap %,d B/issue%n",
+            name, size, heap / size, direct / size);
+        return analyze(issues);
+    }
+
+    /**
+     * Everything the endpoints derive from the issues, as JSON without bodies.
+     */
+    private static String analyze(List<Issue> issues) throws Exception {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().mixIn(Issue.class, WithoutBody.class).build();
+        String userId = SyntheticRepo.topAssignee();
+        IssueClassifierService classifier = new IssueClassifierService();
+        ChaosMetrics chaos = new ChaosMetricsService(SyntheticRepo.CLOCK).calculate(issues, SyntheticRepo.CLOCK);
+        ComplianceReport compliance = new ComplianceService(classifier, SyntheticRepo.CLOCK).analyze(issues, userId);
+        WorldState state = WorldState.from(issues, userId, chaos, compliance, SyntheticRepo.CLOCK);
+        DayStructure dayPlan = new DayPlanService(classifier).buildDayPlan(issues, userId);
+        return mapper.writeValueAsString(List.of(chaos, compliance, state, dayPlan,
+            issues.stream().map(classifier::classify).toList()));
+    }
+
+    private interface WithoutBody {
+        @JsonIgnore
+        String body();
+    }
+
+    private static long directUsed() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+            .filter(pool -> pool.getName().equals("direct"))
+            .mapToLong(BufferPoolMXBean::getMemoryUsed)
+            .sum();
+    }
+
+    private static long usedAfterGc() throws InterruptedException {
+        var memory = ManagementFactory.getMemoryMXBean();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(100);
+            used = Math.min(used, memory.getHeapMemoryUsage().getUsed());
+        }
+        return used;
+    }
+}
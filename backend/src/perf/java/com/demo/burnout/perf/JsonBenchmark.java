@@ -0,0 +1,85 @@
+package com.demo.burnout.perf;
+
+import com.demo.burnout.controller.IssueSyncController;
+import com.demo.burnout.controller.ReshapeController;
+import com.demo.burnout.goap.GitHubAction;
+import com.demo.burnout.goap.GitHubMutationPlan;
+import com.demo.burnout.model.*;
+import com.demo.burnout.service.ChaosMetricsService;
+import com.demo.burnout.service.ComplianceService;
+import com.demo.burnout.service.DayPlanService;
+import com.demo.burnout.service.IssueClassifierService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wire formats of the sync request (extension → backend) and the reshape response.
+ * The mapper is configured like Spring Boot's (JavaTimeModule, ISO dates).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonBenchmark {
+
+    @Param({"100", "10000", "100000", "1000000"})
+    public int size;
+
+    private ObjectMapper mapper;
+    private IssueSyncController.IssueSyncRequest syncRequest;
+    private byte[] syncJson;
+    private ReshapeController.ReshapeResponse reshapeResponse;
+    private byte[] reshapeJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Issue> issues = SyntheticRepo.generate(size, 42);
+        String userId = SyntheticRepo.topAssignee();
+        syncRequest = new IssueSyncController.IssueSyncRequest("bench/repo", issues, SyntheticRepo.NOW, 1);
+        syncJson = mapper.writeValueAsBytes(syncRequest);
+
+        IssueClassifierService classifier = new IssueClassifierService();
+        ChaosMetrics chaos = new ChaosMetricsService(SyntheticRepo.CLOCK).calculate(issues, SyntheticRepo.CLOCK);
+        ComplianceReport compliance = new ComplianceService(classifier, SyntheticRepo.CLOCK).analyze(issues, userId);
+        WorldState state = WorldState.from(issues, userId, chaos, compliance, SyntheticRepo.CLOCK);
+        DayStructure dayPlan = new DayPlanService(classifier).buildDayPlan(issues, userId);
+        GitHubMutationPlan plan = new GitHubMutationPlan("bench/repo", List.of(
+            new GitHubAction.AddLabels(1, List.of("deferred")),
+            new GitHubAction.RemoveLabels(1, List.of("priority:high")),
+            new GitHubAction.Comment(1, "Deferred to protect focus time")
+        ));
+        reshapeResponse = new ReshapeController.ReshapeResponse(
+            "ok", dayPlan, plan, List.of(), chaos, compliance,
+            state.calculateStressScore(), state.getStressLevel(), state.calculateStressScore(),
+            80, "explanation", false, "", false, ReshapeController.ReshapeResponse.SCHEMA_VERSION);
+        reshapeJson = mapper.writeValueAsBytes(reshapeResponse);
+    }
+
+    @Benchmark
+    public byte[] writeSyncRequest() throws IOException {
+        return mapper.writeValueAsBytes(syncRequest);
+    }
+
+    @Benchmark
+    public IssueSyncController.IssueSyncRequest readSyncRequest() throws IOException {
+        return mapper.readValue(syncJson, IssueSyncController.IssueSyncRequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeReshapeResponse() throws IOException {
+        return mapper.writeValueAsBytes(reshapeResponse);
+    }
+
+    @Benchmark
+    public ReshapeController.ReshapeResponse readReshapeResponse() throws IOException {
+        return mapper.readValue(reshapeJson, ReshapeController.ReshapeResponse.class);
+    }
+}
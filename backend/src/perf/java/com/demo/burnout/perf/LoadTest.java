@@ -0,0 +1,259 @@
+package com.demo.burnout.perf;
+
+import com.demo.burnout.controller.IssueSyncController;
+import com.demo.burnout.model.Issue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-end load test against a running backend.
+ *
+ * 1. Sync: generates {@code --repos} synthetic repos ({@link SyntheticRepo}) and POSTs each
+ *    to /api/issues/sync.
+ * 2. Load: open-loop arrivals at {@code --rps} for {@code --duration}, each request picked
+ *    from the {@code --mix} of /api/stress, /api/chaos and /api/reshape on a random repo;
+ *    users are drawn with the same Zipf skew as the generated assignees.
+ *
+ * Latency is measured from the scheduled send time, not the actual one, so a stalled
+ * server shows up as queueing delay instead of silently lowering the offered load.
+ * Requests scheduled during {@code --warmup} are sent but not reported.
+ *
+ * Run the backend with {@code SECURITY_ENABLED=false} (or pass {@code --token}) and
+ * usually with the stub-llm profile, then:
+ * <pre>
+ * mvn -Pperf compile exec:exec -Dperf.main=com.demo.burnout.perf.LoadTest \
+ *     -Dbench.args="--rps=50 --duration=60s --size=5000 --mix=stress:6,chaos:3,reshape:1"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final List<String> ENDPOINTS = List.of("sync", "stress", "chaos", "reshape");
+
+    private final Map<String, String> options;
+    private final URI baseUrl;
+    private final HttpClient client;
+    private final Duration timeout;
+    private final String token;
+
+    private LoadTest(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = URI.create(option("url", "http://localhost:8080"));
+        this.timeout = duration("timeout", "60s");
+        this.token = options.get("token");
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) throw new IllegalArgumentException("Expected --key=value, got " + arg);
+            int eq = arg.indexOf('=');
+            options.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        new LoadTest(options).run();
+    }
+
+    private void run() throws Exception {
+        int size = Integer.parseInt(option("size", "2000"));
+        SyntheticRepo.Shape defaults = SyntheticRepo.Shape.of(size);
+        SyntheticRepo.Shape shape = new SyntheticRepo.Shape(
+            size,
+            Integer.parseInt(option("team-size", String.valueOf(defaults.teamSize()))),
+            Double.parseDouble(option("assignee-skew", String.valueOf(defaults.assigneeSkew()))),
+            Integer.parseInt(option("area-labels", String.valueOf(defaults.areaLabels()))),
+            Double.parseDouble(option("label-scale", String.valueOf(defaults.labelScale()))),
+            Double.parseDouble(option("blank-body-rate", String.valueOf(defaults.blankBodyRate()))),
+            Double.parseDouble(option("long-body-rate", String.valueOf(defaults.longBodyRate()))),
+            duration("mean-age", "90d"),
+            duration("max-age", "365d"),
+            Double.parseDouble(option("office-hours-rate", String.valueOf(defaults.officeHoursRate())))
+        );
+        int repos = Integer.parseInt(option("repos", "4"));
+        long seed = Long.parseLong(option("seed", "42"));
+        int rps = Integer.parseInt(option("rps", "20"));
+        Duration warmup = duration("warmup", "10s");
+        Duration length = duration("duration", "60s");
+        boolean dryRun = Boolean.parseBoolean(option("reshape-dry-run", "true"));
+        Map<String, Integer> mix = mix(option("mix", "stress:6,chaos:3,reshape:1"));
+
+        Map<String, Recorder> recorders = new LinkedHashMap<>();
+        ENDPOINTS.forEach(e -> recorders.put(e, new Recorder()));
+
+        System.out.printf("Syncing %d repos of %d issues (team %d, skew %.2f) to %s%n",
+            repos, size, shape.teamSize(), shape.assigneeSkew(), baseUrl);
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        for (int r = 0; r < repos; r++) {
+            List<Issue> issues = SyntheticRepo.generate(shape, seed + r);
+            byte[] body = mapper.writeValueAsBytes(new IssueSyncController.IssueSyncRequest(
+                repo(r), issues, SyntheticRepo.NOW, IssueSyncController.IssueSyncRequest.SCHEMA_VERSION));
+            long start = System.nanoTime();
+            send(post("/api/issues/sync", body), start, recorders.get("sync"));
+        }
+        if (recorders.get("sync").errors() > 0) {
+            System.out.println("Sync failed, not starting load:");
+            report(recorders, Duration.ZERO);
+            return;
+        }
+
+        List<String> endpoints = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> endpoints.addAll(Collections.nCopies(weight, endpoint)));
+        double[] userCdf = SyntheticRepo.zipfCdf(shape.teamSize(), shape.assigneeSkew());
+        Random random = new Random(seed);
+        long interval = TimeUnit.SECONDS.toNanos(1) / rps;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + length.toNanos();
+
+        System.out.printf("Offering %d rps for %s after %s warmup, mix %s%n", rps, length, warmup, mix);
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long k = 0; ; k++) {
+                long scheduled = start + k * interval;
+                if (scheduled >= end) break;
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+
+                String endpoint = endpoints.get(random.nextInt(endpoints.size()));
+                String repo = repo(random.nextInt(repos));
+                String user = "dev-" + SyntheticRepo.sample(userCdf, random);
+                HttpRequest request = switch (endpoint) {
+                    case "stress" -> get("/api/stress?repo=" + repo + "&userId=" + user);
+                    case "chaos" -> get("/api/chaos?repo=" + repo);
+                    case "reshape" -> post("/api/reshape", mapper.writeValueAsBytes(
+                        Map.of("repo", repo, "userId", user, "dryRun", dryRun)));
+                    default -> throw new IllegalArgumentException("Unknown endpoint in mix: " + endpoint);
+                };
+                Recorder recorder = scheduled >= measureFrom ? recorders.get(endpoint) : null;
+                senders.submit(() -> send(request, scheduled, recorder));
+            }
+        }
+        report(recorders, length);
+    }
+
+    private void send(HttpRequest request, long scheduled, Recorder recorder) {
+        String error = null;
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                error = "http_" + response.statusCode();
+            } else if (response.body().contains("\"status\":\"not_synced\"")) {
+                error = "not_synced";
+            }
+        } catch (java.net.http.HttpTimeoutException e) {
+            error = "timeout";
+        } catch (Exception e) {
+            error = e.getClass().getSimpleName();
+        }
+        if (recorder != null) {
+            recorder.record(System.nanoTime() - scheduled, error);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, byte[] json) {
+        return request(path)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(json))
+            .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(timeout);
+        if (token != null) builder.header("Authorization", "Bearer " + token);
+        return builder;
+    }
+
+    private static void report(Map<String, Recorder> recorders, Duration length) {
+        System.out.printf("%n%-8s %8s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+            "endpoint", "count", "errors", "err%", "rps", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        recorders.forEach((endpoint, recorder) -> {
+            long[] latencies = recorder.sorted();
+            if (latencies.length == 0) return;
+            String rps = endpoint.equals("sync") || length.isZero() ? "-"
+                : String.format("%.1f", latencies.length * 1000.0 / length.toMillis());
+            System.out.printf("%-8s %8d %8d %6.2f%% %9s %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                endpoint, latencies.length, recorder.errors(), 100.0 * recorder.errors() / latencies.length, rps,
+                millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.90)),
+                millis(percentile(latencies, 0.99)), millis(percentile(latencies, 0.999)),
+                millis(latencies[latencies.length - 1]));
+            recorder.errorsByType().forEach((type, count) ->
+                System.out.printf("%-8s   %s: %d%n", "", type, count));
+        });
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static String repo(int index) {
+        return "load/repo-" + index;
+    }
+
+    private static Map<String, Integer> mix(String spec) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.split(":");
+            mix.put(kv[0].trim(), kv.length > 1 ? Integer.parseInt(kv[1].trim()) : 1);
+        }
+        return mix;
+    }
+
+    private String option(String name, String fallback) {
+        return options.getOrDefault(name, fallback);
+    }
+
+    private Duration duration(String name, String fallback) {
+        return DurationStyle.detectAndParse(option(name, fallback));
+    }
+
+    /**
+     * Latencies (ns) and error counts for one endpoint.
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private final Map<String, Integer> errors = new TreeMap<>();
+
+        synchronized void record(long nanos, String error) {
+            if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+            latencies[count++] = nanos;
+            if (error != null) errors.merge(error, 1, Integer::sum);
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized int errors() {
+            return errors.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        synchronized Map<String, Integer> errorsByType() {
+            return new TreeMap<>(errors);
+        }
+    }
+}
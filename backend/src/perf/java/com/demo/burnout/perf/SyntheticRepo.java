@@ -0,0 +1,195 @@
+package com.demo.burnout.perf;
+
+import com.demo.burnout.model.Issue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic repositories for benchmarks and load tests.
+ *
+ * Default distributions ({@link Shape#of}) are modelled on mid-size GitHub projects:
+ * - assignees: Zipf over a team of ~sqrt(n)/2 people, 15% unassigned, 8% pairs
+ * - labels: one type label (bug/enhancement/docs), optional priority, size and
+ *   work-type labels, plus a long tail of area:* labels
+ * - bodies: 18% blank, otherwise short/medium/long with checklists and acceptance criteria
+ * - timestamps: created within the last year (skewed recent), mostly updated in office hours
+ */
+public final class SyntheticRepo {
+
+    public static final Instant NOW = Instant.parse("2026-03-13T14:00:00Z");
+    public static final ZoneId ZONE = ZoneId.of("Africa/Johannesburg");
+    public static final Clock CLOCK = Clock.fixed(NOW, ZONE);
+
+    // label, probability
+    private static final Object[][] OPTIONAL_LABELS = {
+        {"priority:critical", 0.03}, {"priority:high", 0.08}, {"urgent", 0.04},
+        {"size:S", 0.20}, {"size:M", 0.20}, {"size:L", 0.08}, {"estimate:1h", 0.03},
+        {"quick-win", 0.08}, {"good-first-issue", 0.05}, {"maintenance", 0.06},
+        {"tech-debt", 0.06}, {"dependencies", 0.05}, {"architecture", 0.03},
+        {"deep-work", 0.02}, {"deferred", 0.06}, {"next-sprint", 0.04}, {"backlog", 0.08},
+        {"epic", 0.02}, {"feature:search", 0.03}, {"security", 0.02}, {"ci", 0.03},
+        {"refactor", 0.04}, {"triage", 0.05}
+    };
+
+    private static final String SENTENCE =
+        "The service returns stale results when the cache is refreshed during a sync. ";
+
+    /**
+     * Generator knobs.
+     *
+     * @param teamSize        distinct assignees {@code dev-0..dev-(teamSize-1)}
+     * @param assigneeSkew    Zipf exponent; 0 spreads issues evenly, higher concentrates them on dev-0
+     * @param areaLabels      size of the area:* label long tail
+     * @param labelScale      multiplier on the optional label probabilities
+     * @param blankBodyRate   share of issues with a null or empty body
+     * @param longBodyRate    share of non-blank bodies with 8-37 sentences (40% stay one sentence)
+     * @param meanAge         mean issue age (exponential, capped at {@code maxAge})
+     * @param officeHoursRate share of updates moved into 09:00-17:00
+     */
+    public record Shape(
+        int size,
+        int teamSize,
+        double assigneeSkew,
+        int areaLabels,
+        double labelScale,
+        double blankBodyRate,
+        double longBodyRate,
+        Duration meanAge,
+        Duration maxAge,
+        double officeHoursRate
+    ) {
+        public static Shape of(int size) {
+            return new Shape(size, Math.max(3, Math.min(500, (int) Math.sqrt(size) / 2)), 1.1, 40, 1.0,
+                0.18, 0.2, Duration.ofDays(90), Duration.ofDays(365), 0.8);
+        }
+    }
+
+    private SyntheticRepo() {}
+
+    /**
+     * {@code size} issues numbered 1..size with the default shape. Same size and seed give the same repo.
+     */
+    public static List<Issue> generate(int size, long seed) {
+        return generate(Shape.of(size), seed);
+    }
+
+    public static List<Issue> generate(Shape shape, long seed) {
+        Random random = new Random(seed);
+        double[] assigneeCdf = zipfCdf(shape.teamSize(), shape.assigneeSkew());
+        double[] areaCdf = zipfCdf(Math.max(1, shape.areaLabels()), 1.0);
+        Map<String, Issue.Label> labelCache = new HashMap<>();
+        long meanAgeMinutes = shape.meanAge().toMinutes();
+
+        List<Issue> issues = new ArrayList<>(shape.size());
+        for (int n = 1; n <= shape.size(); n++) {
+            List<Issue.Label> labels = new ArrayList<>(4);
+            double type = random.nextDouble();
+            if (type < 0.35) labels.add(label(labelCache, "bug"));
+            else if (type < 0.60) labels.add(label(labelCache, "enhancement"));
+            else if (type < 0.68) labels.add(label(labelCache, "documentation"));
+            for (Object[] optional : OPTIONAL_LABELS) {
+                if (random.nextDouble() < (double) optional[1] * shape.labelScale()) {
+                    labels.add(label(labelCache, (String) optional[0]));
+                }
+            }
+            if (random.nextDouble() < 0.5 && shape.areaLabels() > 0) {
+                labels.add(label(labelCache, "area:" + sample(areaCdf, random)));
+            }
+
+            List<Issue.Assignee> assignees;
+            double a = random.nextDouble();
+            if (a < 0.15) {
+                assignees = List.of();
+            } else if (a < 0.23) {
+                assignees = List.of(assignee(sample(assigneeCdf, random)), assignee(sample(assigneeCdf, random)));
+            } else {
+                assignees = List.of(assignee(sample(assigneeCdf, random)));
+            }
+
+            Instant created = NOW.minus(Duration.ofMinutes((long) (-Math.log(1 - random.nextDouble()) * meanAgeMinutes)));
+            if (created.isBefore(NOW.minus(shape.maxAge()))) created = NOW.minus(shape.maxAge());
+            long sinceCreated = Duration.between(created, NOW).toMinutes();
+            Instant updated = NOW.minus(Duration.ofMinutes((long) (random.nextDouble() * random.nextDouble() * sinceCreated)));
+            updated = nudgeToOfficeHours(updated, shape.officeHoursRate(), random);
+            if (updated.isBefore(created)) updated = created;
+
+            issues.add(new Issue(
+                n,
+                "Issue " + n,
+                body(shape, random),
+                List.copyOf(labels),
+                assignees,
+                created,
+                updated,
+                random.nextDouble() < 0.75 ? "open" : "closed",
+                null
+            ));
+        }
+        return issues;
+    }
+
+    /**
+     * Most frequent assignee in a generated repo (Zipf rank 1).
+     */
+    public static String topAssignee() {
+        return "dev-0";
+    }
+
+    private static String body(Shape shape, Random random) {
+        double b = random.nextDouble();
+        if (b < shape.blankBodyRate() * 4 / 9) return null;
+        if (b < shape.blankBodyRate()) return "";
+        StringBuilder sb = new StringBuilder();
+        double length = random.nextDouble();
+        int sentences = length < 0.4 ? 1 : length < 1 - shape.longBodyRate() ? 2 + random.nextInt(5) : 8 + random.nextInt(30);
+        for (int i = 0; i < sentences; i++) sb.append(SENTENCE);
+        if (random.nextDouble() < 0.3) sb.append("\n- [ ] reproduce\n- [ ] fix\n- [ ] add test\n");
+        if (random.nextDouble() < 0.1) sb.append("\nAcceptance criteria: results are fresh after sync.");
+        return sb.toString();
+    }
+
+    private static Instant nudgeToOfficeHours(Instant t, double rate, Random random) {
+        if (random.nextDouble() >= rate) return t;
+        ZonedDateTime z = t.atZone(ZONE);
+        if (z.getHour() >= 9 && z.getHour() < 17) return t;
+        return z.withHour(9 + random.nextInt(8)).toInstant();
+    }
+
+    private static Issue.Label label(Map<String, Issue.Label> cache, String name) {
+        return cache.computeIfAbsent(name, Issue.Label::new);
+    }
+
+    private static Issue.Assignee assignee(int rank) {
+        return new Issue.Assignee("dev-" + rank);
+    }
+
+    static double[] zipfCdf(int n, double s) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1 / Math.pow(k, s);
+            cdf[k - 1] = sum;
+        }
+        for (int k = 0; k < n; k++) cdf[k] /= sum;
+        return cdf;
+    }
+
+    static int sample(double[] cdf, Random random) {
+        double u = random.nextDouble();
+        int lo = 0, hi = cdf.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cdf[mid] < u) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+}
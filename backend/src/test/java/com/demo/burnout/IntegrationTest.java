@@ -1,26 +1,40 @@
 package com.demo.burnout;
 
 import com.demo.burnout.controller.ChaosController;
+import com.demo.burnout.controller.IssueQueryController;
 import com.demo.burnout.controller.IssueSyncController;
 import com.demo.burnout.controller.ReshapeController;
+import com.demo.burnout.controller.WhatIfController;
+import com.demo.burnout.goap.GitHubAction;
+import com.demo.burnout.goap.GitHubMutationPlan;
 import com.demo.burnout.model.Issue;
 import com.demo.burnout.service.IssueCache;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
 class IntegrationTest {
 
     @LocalServerPort
@@ -32,6 +46,12 @@ class IntegrationTest {
     @Autowired
     private IssueCache issueCache;
 
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
     private String baseUrl;
 
     @BeforeEach
@@ -145,4 +165,169 @@ class IntegrationTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody().get("score"));
     }
+
+    @Test
+    void protectiveStreamSendsFallbackFirst() {
+        String repo = "test/stream-test";
+        issueCache.put(repo, List.of(
+            new Issue(1, "Late fix", "Fix it",
+                List.of(new Issue.Label("demo:after-hours")),
+                List.of(new Issue.Assignee("testuser")),
+                Instant.now(), Instant.now(), "open", null)
+        ), Instant.now());
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            baseUrl + "/api/stream/protective?repo=" + repo + "&userId=testuser", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String body = response.getBody();
+        assertTrue(body.startsWith("event:fallback\ndata:{\"triggered\":true"), body);
+        int complete = body.indexOf("event:complete");
+        assertTrue(complete > 0, body);
+        assertEquals(-1, body.indexOf("event:", complete + 1), "complete is the last event");
+    }
+
+    @Test
+    void whatIfRanksCandidatePlans() {
+        String repo = "test/what-if-test";
+        String userId = "testuser";
+        
+        // Two deep-work issues: deferring one restores 3-3-3 compliance
+        List<Issue> issues = List.of(
+            new Issue(1, "Critical task", "Deep work item",
+                List.of(new Issue.Label("priority:critical")),
+                List.of(new Issue.Assignee(userId)),
+                Instant.now(), Instant.now(), "open", null),
+            new Issue(2, "Architecture", "Another deep work item",
+                List.of(new Issue.Label("architecture")),
+                List.of(new Issue.Assignee(userId)),
+                Instant.now(), Instant.now(), "open", null)
+        );
+        issueCache.put(repo, issues, Instant.now());
+        
+        var req = new WhatIfController.WhatIfRequest(repo, userId, List.of(
+            new GitHubMutationPlan(repo, List.of(new GitHubAction.Comment(1, "noop"))),
+            new GitHubMutationPlan(repo, List.of(
+                new GitHubAction.RemoveLabels(2, List.of("architecture")),
+                new GitHubAction.AddLabels(2, List.of("deferred"))))
+        ));
+        ResponseEntity<WhatIfController.WhatIfResponse> response = restTemplate.postForEntity(
+            baseUrl + "/api/what-if", req, WhatIfController.WhatIfResponse.class);
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        var body = response.getBody();
+        assertEquals("ok", body.status());
+        assertEquals(2, body.ranked().size());
+        assertEquals(1, body.ranked().get(0).index());
+        assertTrue(body.ranked().get(0).complianceScore() > body.currentComplianceScore());
+    }
+
+    @Test
+    void issueQueryFiltersSortsAndPages() {
+        String repo = "test/query-test";
+        Instant now = Instant.now();
+        issueCache.put(repo, List.of(
+            new Issue(1, "Low", "Body", List.of(new Issue.Label("quick-win")),
+                List.of(new Issue.Assignee("alice")), now, now.minusSeconds(60), "open", null),
+            new Issue(2, "Critical", "Body", List.of(new Issue.Label("priority:critical")),
+                List.of(new Issue.Assignee("alice")), now, now.minusSeconds(120), "open", null),
+            new Issue(3, "High", "", List.of(new Issue.Label("priority:high")),
+                List.of(new Issue.Assignee("Alice")), now, now, "open", null),
+            new Issue(4, "Bob's", "Body", List.of(new Issue.Label("priority:critical")),
+                List.of(new Issue.Assignee("bob")), now, now, "open", null)
+        ), now);
+        
+        String url = baseUrl + "/api/issues/query?repo=" + repo + "&q=assignee:alice&fields=number,title&limit=2";
+        var first = restTemplate.getForEntity(url, IssueQueryController.QueryResponse.class).getBody();
+        assertEquals("ok", first.status());
+        assertEquals(3, first.total());
+        assertEquals(List.of(Map.of("number", 2, "title", "Critical"), Map.of("number", 3, "title", "High")),
+            first.items());
+        assertNotNull(first.nextCursor());
+        
+        var second = restTemplate.getForEntity(url + "&cursor=" + first.nextCursor(),
+            IssueQueryController.QueryResponse.class).getBody();
+        assertEquals(List.of(Map.of("number", 1, "title", "Low")), second.items());
+        assertNull(second.nextCursor());
+        
+        var bodyEmpty = restTemplate.getForEntity(baseUrl + "/api/issues/query?repo=" + repo
+            + "&q=is:body-empty OR -label:priority:critical,quick-win&fields=number",
+            IssueQueryController.QueryResponse.class).getBody();
+        assertEquals(List.of(Map.of("number", 3)), bodyEmpty.items());
+        
+        var bad = restTemplate.getForEntity(baseUrl + "/api/issues/query?repo=" + repo + "&q=color:red", String.class);
+        assertEquals(HttpStatus.BAD_REQUEST, bad.getStatusCode());
+    }
+
+    @Test
+    void prometheusEndpointExportsPipelineMetrics() {
+        String repo = "test/metrics-test";
+        issueCache.put(repo, List.of(
+            new Issue(1, "Task", "Body",
+                List.of(new Issue.Label("quick-win")),
+                List.of(new Issue.Assignee("testuser")),
+                Instant.now(), Instant.now(), "open", null)
+        ), Instant.now());
+        restTemplate.getForEntity(baseUrl + "/api/stress?repo=" + repo + "&userId=testuser", Map.class);
+        
+        ResponseEntity<String> response = restTemplate.getForEntity(
+            baseUrl + "/actuator/prometheus", String.class);
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String body = response.getBody();
+        assertTrue(body.contains("burnout_pipeline_stage_seconds_bucket{"));
+        assertTrue(body.contains("stage=\"compliance\""));
+        assertTrue(body.contains("stage=\"supervisor\""));
+        assertTrue(body.contains("burnout_views_reads_total"));
+        assertTrue(body.contains("http_server_requests_seconds_bucket"));
+    }
+
+    @Test
+    void stressRequestIsTracedWithRepoAndUser() {
+        String repo = "test/tracing-test";
+        issueCache.put(repo, List.of(
+            new Issue(1, "Task", "Body",
+                List.of(new Issue.Label("quick-win")),
+                List.of(new Issue.Assignee("testuser")),
+                Instant.now(), Instant.now(), "open", null)
+        ), Instant.now());
+        spanExporter.reset();
+        
+        restTemplate.getForEntity(baseUrl + "/api/stress?repo=" + repo + "&userId=testuser", Map.class);
+        
+        java.util.function.Predicate<SpanData> isServer = s -> s.getKind() == SpanKind.SERVER
+            && repo.equals(s.getAttributes().get(AttributeKey.stringKey("burnout.repo")));
+        List<SpanData> spans = awaitSpans(isServer);
+        SpanData server = spans.stream().filter(isServer).findFirst().orElseThrow();
+        assertEquals("testuser", server.getAttributes().get(AttributeKey.stringKey("burnout.user")));
+        assertNotNull(server.getAttributes().get(AttributeKey.stringKey("burnout.version")));
+        List<String> stages = spans.stream()
+            .filter(s -> s.getTraceId().equals(server.getTraceId()))
+            .map(SpanData::getName)
+            .toList();
+        assertTrue(stages.contains("supervisor"), stages.toString());
+    }
+
+    private List<SpanData> awaitSpans(java.util.function.Predicate<SpanData> until) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (true) {
+            tracerProvider.forceFlush().join(1, TimeUnit.SECONDS);
+            List<SpanData> spans = spanExporter.getFinishedSpanItems();
+            if (spans.stream().anyMatch(until) || System.currentTimeMillis() > deadline) {
+                return spans;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Captures exported spans in memory instead of sending them anywhere.
+     */
+    @TestConfiguration
+    static class InMemoryTracing {
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
 }
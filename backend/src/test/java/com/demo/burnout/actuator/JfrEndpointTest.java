@@ -0,0 +1,111 @@
+package com.demo.burnout.actuator;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Only operators reach the endpoint, bad parameters are a 400, one recording runs at a time,
+ * and the downloaded file carries no environment, property or JVM-argument events.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "burnout.jfr.operator-secret=" + JfrEndpointTest.SECRET)
+class JfrEndpointTest {
+
+    static final String SECRET = "test-operator-secret";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void stopRecording() {
+        exchange(HttpMethod.DELETE, "/actuator/jfr", null, SECRET, String.class);
+    }
+
+    @Test
+    void requiresTheOperatorSecret() {
+        assertEquals(403, exchange(HttpMethod.GET, "/actuator/jfr", null, null, String.class).getStatusCode().value());
+        assertEquals(403, exchange(HttpMethod.POST, "/actuator/jfr", Map.of(), "wrong", String.class).getStatusCode().value());
+        assertEquals(200, exchange(HttpMethod.GET, "/actuator/jfr", null, SECRET, String.class).getStatusCode().value());
+    }
+
+    @Test
+    void rejectsBadParametersWith400() {
+        Object before = status().get("state");
+        for (Map<String, String> body : List.of(
+                Map.of("duration", "2 minutes"), Map.of("duration", "-PT1M"), Map.of("duration", "PT0S"),
+                Map.of("maxSize", "lots"), Map.of("maxSize", "-1MB"), Map.of("maxSize", "0B"),
+                Map.of("settings", "/etc/custom.jfc"))) {
+            assertEquals(400, start(body).getStatusCode().value(), body.toString());
+        }
+        assertEquals(before, status().get("state"), "nothing was started");
+    }
+
+    @Test
+    void startStopDownloadLifecycle() throws Exception {
+        ResponseEntity<Map> started = start(Map.of("duration", "PT1M", "maxSize", "8MB"));
+        assertEquals(200, started.getStatusCode().value());
+        assertEquals("RUNNING", started.getBody().get("state"));
+
+        assertEquals(409, start(Map.of()).getStatusCode().value(), "a running recording is not replaced");
+        assertEquals(200, exchange(HttpMethod.GET, "/actuator/jfr/recording", null, SECRET, byte[].class)
+            .getStatusCode().value());
+
+        assertEquals("STOPPED", exchange(HttpMethod.DELETE, "/actuator/jfr", null, SECRET, Map.class)
+            .getBody().get("state"));
+        ResponseEntity<byte[]> download = exchange(HttpMethod.GET, "/actuator/jfr/recording", null, SECRET, byte[].class);
+        assertEquals(200, download.getStatusCode().value());
+        assertEquals(404, exchange(HttpMethod.GET, "/actuator/jfr/other", null, SECRET, byte[].class)
+            .getStatusCode().value());
+
+        Path file = dir.resolve("recording.jfr");
+        Files.write(file, download.getBody());
+        Set<String> types = RecordingFile.readAllEvents(file).stream()
+            .map(RecordedEvent::getEventType)
+            .map(type -> type.getName())
+            .collect(Collectors.toSet());
+        assertFalse(types.isEmpty());
+        for (String suppressed : JfrEndpoint.SUPPRESSED) {
+            assertFalse(types.contains(suppressed), suppressed + " recorded");
+        }
+
+        assertEquals(200, start(Map.of("settings", "profile")).getStatusCode().value(), "a stopped one is");
+    }
+
+    private ResponseEntity<Map> start(Map<String, String> body) {
+        return exchange(HttpMethod.POST, "/actuator/jfr", body, SECRET, Map.class);
+    }
+
+    private Map<?, ?> status() {
+        return exchange(HttpMethod.GET, "/actuator/jfr", null, SECRET, Map.class).getBody();
+    }
+
+    private <T> ResponseEntity<T> exchange(HttpMethod method, String path, Object body, String secret, Class<T> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (secret != null) headers.set(JfrEndpoint.OPERATOR_HEADER, secret);
+        return rest.exchange(path, method, new HttpEntity<>(body, headers), type);
+    }
+}
@@ -0,0 +1,111 @@
+package com.demo.burnout.agent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Answers are served only once a key has all its variants, survive a restart through the
+ * file, stop being served after their TTL and are never served for another model. The file
+ * stays bounded while the cache runs.
+ */
+class AgentResponseCacheTest {
+
+    private static final Instant START = Instant.parse("2026-01-30T14:00:00Z");
+    private static final String PROMPT = "Assess {{stress}}";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void servesSampledVariantsAcrossRestartsUntilTheyExpire() throws Exception {
+        Path file = dir.resolve("cache").resolve("answers.jsonl");
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AgentResponseCache cache = cache(file, Clock.fixed(START, ZoneOffset.UTC), registry);
+
+        assertEquals(Optional.empty(), cache.get("protective", PROMPT, 72, true, "Friday"));
+        cache.put("protective", PROMPT, "Take a break.", 72, true, "Friday");
+        assertEquals(Optional.empty(), cache.get("protective", PROMPT, 72, true, "Friday"));
+        cache.put("protective", PROMPT, "Defer one item.", 72, true, "Friday");
+
+        Set<String> served = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            served.add(cache.get("protective", PROMPT, 72, true, "Friday").orElseThrow());
+        }
+        assertEquals(Set.of("Take a break.", "Defer one item."), served);
+        assertEquals(Optional.empty(), cache.get("protective", PROMPT, 73, true, "Friday"));
+        assertEquals(Optional.empty(), cache.get("protective", PROMPT + " v2", 72, true, "Friday"));
+        assertEquals(200, registry.get("burnout.llm.cache").tag("result", "hit").counter().count());
+        assertEquals(4, registry.get("burnout.llm.cache").tag("result", "miss").counter().count());
+
+        // A third answer replaces the oldest; the restarted cache keeps only the newest two
+        cache.put("protective", PROMPT, "Log off on time.", 72, true, "Friday");
+        Clock later = Clock.fixed(START.plusSeconds(60), ZoneOffset.UTC);
+        AgentResponseCache restarted = cache(file, later, new SimpleMeterRegistry());
+        served.clear();
+        for (int i = 0; i < 200; i++) {
+            served.add(restarted.get("protective", PROMPT, 72, true, "Friday").orElseThrow());
+        }
+        assertEquals(Set.of("Defer one item.", "Log off on time."), served);
+        assertEquals(2, Files.readAllLines(file).size());
+
+        Clock expired = Clock.fixed(START.plus(Duration.ofDays(1)), ZoneOffset.UTC);
+        assertEquals(Optional.empty(), cache(file, expired, new SimpleMeterRegistry())
+            .get("protective", PROMPT, 72, true, "Friday"));
+        assertEquals(0, Files.readAllLines(file).size());
+    }
+
+    @Test
+    void answersFromAnotherModelAreNotServed() {
+        Path file = dir.resolve("answers.jsonl");
+        Clock clock = Clock.fixed(START, ZoneOffset.UTC);
+        AgentResponseCache stub = cache(file, "stub-llm", clock, new SimpleMeterRegistry());
+        stub.put("friday", PROMPT, "Canned.", 40, false);
+        stub.put("friday", PROMPT, "Also canned.", 40, false);
+        assertTrue(stub.get("friday", PROMPT, 40, false).isPresent());
+
+        AgentResponseCache azure = cache(file, "gpt-4o", clock, new SimpleMeterRegistry());
+        assertEquals(Optional.empty(), azure.get("friday", PROMPT, 40, false));
+    }
+
+    @Test
+    void fileIsCompactedWhileRunning() throws Exception {
+        Path file = dir.resolve("answers.jsonl");
+        AgentResponseCache cache = cache(file, Clock.fixed(START, ZoneOffset.UTC), new SimpleMeterRegistry());
+
+        for (int i = 0; i < 10 * AgentResponseCache.COMPACT_MIN_LINES; i++) {
+            cache.put("protective", PROMPT, "Answer " + i, i % 3);
+        }
+
+        int lines = Files.readAllLines(file).size();
+        assertTrue(lines < AgentResponseCache.COMPACT_MIN_LINES, lines + " lines for 6 live answers");
+        Set<String> served = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            served.add(cache.get("protective", PROMPT, 0).orElseThrow());
+        }
+        int last = 10 * AgentResponseCache.COMPACT_MIN_LINES - 1;
+        int newest = last - last % 3;
+        assertEquals(Set.of("Answer " + newest, "Answer " + (newest - 3)), served);
+    }
+
+    private static AgentResponseCache cache(Path file, Clock clock, SimpleMeterRegistry registry) {
+        return cache(file, "gpt-4o", clock, registry);
+    }
+
+    private static AgentResponseCache cache(Path file, String model, Clock clock, SimpleMeterRegistry registry) {
+        return new AgentResponseCache(file, model, Duration.ofHours(1), 2, clock, new ObjectMapper(), registry);
+    }
+}
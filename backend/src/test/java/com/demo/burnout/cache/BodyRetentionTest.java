@@ -0,0 +1,56 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.BodyFeatures;
+import com.demo.burnout.model.Issue;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Previews never split a surrogate pair, leave null and short bodies alone, and keep the
+ * features of the full body.
+ */
+class BodyRetentionTest {
+
+    private static final Instant T = Instant.parse("2026-03-13T09:30:00Z");
+
+    @Test
+    void cutBeforeASplitSurrogatePair() {
+        Issue issue = issue("ab😀cd - [ ] done when");
+        Issue preview = BodyRetention.preview(issue, 3);
+
+        assertEquals("ab", preview.body(), "the high surrogate is not kept alone");
+        assertEquals("ab😀", BodyRetention.preview(issue, 4).body());
+        assertEquals(issue.bodyFeatures(), preview.bodyFeatures());
+        assertTrue(BodyFeatures.hasClearScope(preview.bodyFeatures()));
+        assertEquals("", BodyRetention.preview(issue("😀"), 1).body());
+    }
+
+    @Test
+    void nullEmptyAndShortBodiesAreKept() {
+        Issue none = issue(null);
+        Issue empty = issue("");
+        Issue shortBody = issue("short");
+
+        assertSame(none, BodyRetention.preview(none, 0));
+        assertSame(empty, BodyRetention.preview(empty, 0));
+        assertSame(shortBody, BodyRetention.preview(shortBody, 5));
+        assertEquals("", BodyRetention.preview(shortBody, 0).body());
+        assertEquals(shortBody.bodyFeatures(), BodyRetention.preview(shortBody, 0).bodyFeatures());
+        assertFalse(BodyRetention.preview(shortBody, 0).bodyBlank(), "features come from the full body");
+    }
+
+    @Test
+    void fullRetentionKeepsTheList() {
+        List<Issue> issues = List.of(issue("a long enough body"));
+        assertSame(issues, BodyRetention.FULL.apply(issues, 1));
+        assertEquals("a", BodyRetention.PREVIEW.apply(issues, 1).get(0).body());
+    }
+
+    private static Issue issue(String body) {
+        return new Issue(1, "t", body, List.of(), List.of(), T, T, "open", null);
+    }
+}
@@ -0,0 +1,186 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.Issue;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClusteredIssueStoreTest {
+
+    private static final String REPO = "test/cluster";
+    private static final List<String> NODES = List.of("node-0", "node-1", "node-2");
+    private static final LongSupplier FROZEN = () -> Instant.parse("2026-03-13T15:00:00Z").toEpochMilli();
+
+    @Test
+    void syncOnOneReplicaIsVisibleOnEveryOther() {
+        InMemoryPeerTransport cluster = InMemoryPeerTransport.cluster(3, 2, Duration.ZERO);
+
+        long version = cluster.node("node-0").put(REPO, issues(1, 2), Instant.now()).version();
+
+        for (String id : NODES) {
+            var snapshot = cluster.node(id).get(REPO);
+            assertTrue(snapshot.isPresent(), id + " should serve the synced repo");
+            assertEquals(version, snapshot.get().version());
+            assertEquals(2, snapshot.get().issues().size());
+        }
+    }
+
+    @Test
+    void versionsIncreaseRegardlessOfWhichReplicaReceivesTheSync() {
+        InMemoryPeerTransport cluster = InMemoryPeerTransport.cluster(3, 2, Duration.ZERO, FROZEN);
+
+        long v1 = cluster.node("node-0").put(REPO, issues(1), Instant.now()).version();
+        long v2 = cluster.node("node-1").put(REPO, issues(1, 2), Instant.now()).version();
+        long v3 = cluster.node("node-2").put(REPO, issues(1, 2, 3), Instant.now()).version();
+        assertTrue(v1 < v2 && v2 < v3, v1 + " < " + v2 + " < " + v3);
+
+        for (String id : NODES) {
+            assertEquals(v3, cluster.node(id).version(REPO));
+        }
+    }
+
+    @Test
+    void readsFailOverToReplicaWhenPrimaryIsDown() {
+        InMemoryPeerTransport cluster = InMemoryPeerTransport.cluster(3, 2, Duration.ZERO);
+        List<String> owners = cluster.node("node-0").owners(REPO);
+        String nonOwner = nonOwner(owners);
+
+        long version = cluster.node(owners.get(1)).put(REPO, issues(1, 2), Instant.now()).version();
+        cluster.stop(owners.get(0));
+
+        var snapshot = cluster.node(nonOwner).get(REPO);
+        assertTrue(snapshot.isPresent(), "replica should answer while the primary is down");
+        assertEquals(version, snapshot.get().version());
+    }
+
+    @Test
+    void versionAwareReadBypassesRemoteTtl() {
+        InMemoryPeerTransport cluster = InMemoryPeerTransport.cluster(3, 1, Duration.ofHours(1));
+        String owner = cluster.node("node-0").owners(REPO).get(0);
+        String reader = owner.equals("node-0") ? "node-1" : "node-0";
+
+        long v1 = cluster.node(owner).put(REPO, issues(1), Instant.now()).version();
+        assertEquals(v1, cluster.node(reader).version(REPO));
+
+        long v2 = cluster.node(owner).put(REPO, issues(1, 2), Instant.now()).version();
+        assertEquals(v1, cluster.node(reader).version(REPO), "within TTL the fetched copy is served");
+        assertEquals(2, cluster.node(reader).get(REPO, v2).orElseThrow().issues().size());
+    }
+
+    @Test
+    void ownerRestartedWithEmptyMemoryKeepsVersionsMovingForward() {
+        // A clock that never moves: versions may only rely on what the cluster already holds
+        InMemoryPeerTransport cluster = InMemoryPeerTransport.cluster(3, 2, Duration.ZERO, FROZEN);
+        List<String> owners = cluster.node("node-0").owners(REPO);
+        String primary = owners.get(0);
+        String nonOwner = nonOwner(owners);
+
+        cluster.node(primary).put(REPO, issues(1), Instant.now());
+        long before = cluster.node(primary).put(REPO, issues(1, 2), Instant.now()).version();
+        assertEquals(before, cluster.node(nonOwner).version(REPO));
+
+        cluster.restart(primary);
+        assertEquals(before, cluster.node(primary).version(REPO), "restarted owner catches up from its replica");
+
+        long after = cluster.node(primary).put(REPO, issues(1, 2, 3), Instant.now()).version();
+        assertTrue(after > before, after + " > " + before);
+        for (String id : NODES) {
+            assertEquals(after, cluster.node(id).version(REPO), id);
+            assertEquals(3, cluster.node(id).get(REPO).orElseThrow().issues().size(), id);
+        }
+    }
+
+    @Test
+    void failoverThenPrimaryReturns() {
+        InMemoryPeerTransport cluster = InMemoryPeerTransport.cluster(3, 2, Duration.ZERO, FROZEN);
+        List<String> owners = cluster.node("node-0").owners(REPO);
+        String primary = owners.get(0);
+        String secondary = owners.get(1);
+        String nonOwner = nonOwner(owners);
+
+        long v1 = cluster.node(nonOwner).put(REPO, issues(1), Instant.now()).version();
+        cluster.stop(primary);
+        long v2 = cluster.node(nonOwner).put(REPO, issues(1, 2), Instant.now()).version();
+        assertTrue(v2 > v1, "secondary versions above what the primary assigned");
+        assertEquals(v2, cluster.node(secondary).version(REPO));
+
+        cluster.start(primary);
+        assertEquals(v2, cluster.node(primary).version(REPO), "returning primary picks up the missed sync");
+        assertEquals(2, cluster.node(primary).get(REPO).orElseThrow().issues().size());
+
+        long v3 = cluster.node(primary).put(REPO, issues(1, 2, 3), Instant.now()).version();
+        assertTrue(v3 > v2, v3 + " > " + v2);
+        for (String id : NODES) {
+            assertEquals(v3, cluster.node(id).version(REPO), id);
+        }
+    }
+
+    @Test
+    void missingRepoIsRememberedForTheRemoteTtl() {
+        AtomicLong now = new AtomicLong();
+        AtomicInteger versionCalls = new AtomicInteger();
+        PeerTransport peers = new PeerTransport() {
+            public IssueStore.Snapshot forwardPut(String nodeId, String repo, List<Issue> issues, Instant fetchedAt) {
+                throw new PeerUnavailableException(nodeId, null);
+            }
+            public void replicate(String nodeId, IssueStore.Snapshot snapshot) {}
+            public Optional<IssueStore.Snapshot> fetch(String nodeId, String repo) {
+                return Optional.empty();
+            }
+            public long version(String nodeId, String repo) {
+                versionCalls.incrementAndGet();
+                return 0;
+            }
+        };
+        ClusteredIssueStore store = new ClusteredIssueStore("a", new ConsistentHashRing(List.of("a", "b"), 8), 2,
+            peers, Duration.ofSeconds(5), now::get, FROZEN);
+
+        assertTrue(store.get("never/synced").isEmpty());
+        assertEquals(0, store.version("never/synced"));
+        assertTrue(store.get("never/synced").isEmpty());
+        assertEquals(1, versionCalls.get(), "negative answer cached");
+
+        assertTrue(store.get("never/synced", 1).isEmpty(), "version-aware reads still ask");
+        assertEquals(2, versionCalls.get());
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertTrue(store.get("never/synced").isEmpty());
+        assertEquals(3, versionCalls.get(), "asked again after the TTL");
+
+        long version = store.put("never/synced", issues(1), Instant.now()).version();
+        assertEquals(version, store.version("never/synced"), "a local sync is served right away");
+    }
+
+    @Test
+    void ringSpreadsReposAcrossNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c"), 64);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            counts.merge(ring.primary("org/repo-" + i), 1, Integer::sum);
+        }
+        assertEquals(3, counts.size());
+        counts.values().forEach(c -> assertTrue(c > 600, "unbalanced ring: " + counts));
+        assertEquals(2, ring.owners("org/repo", 2).stream().distinct().count());
+    }
+
+    private static String nonOwner(List<String> owners) {
+        return NODES.stream().filter(id -> !owners.contains(id)).findFirst().orElseThrow();
+    }
+
+    private static List<Issue> issues(int... numbers) {
+        return java.util.Arrays.stream(numbers)
+            .mapToObj(n -> new Issue(n, "Issue " + n, "", List.of(), List.of(),
+                Instant.now(), Instant.now(), "open", null))
+            .toList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.Classification;
+import com.demo.burnout.model.DemoFlags;
+import com.demo.burnout.model.Issue;
+import com.demo.burnout.service.IssueClassifierService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarIssuesTest {
+
+    private static final Instant T = Instant.parse("2026-03-13T09:30:00Z");
+
+    @Test
+    void issuesRoundTripThroughColumns() {
+        List<Issue> issues = sample();
+        ColumnarIssues columnar = ColumnarIssues.of(issues);
+
+        assertEquals(issues, columnar);
+        assertSame(columnar, ColumnarIssues.of(columnar));
+        assertSame(columnar.get(0).labels().get(0), columnar.get(1).labels().get(0), "labels are dictionary-encoded");
+
+        ColumnarIssues.Cursor cursor = columnar.cursor().at(2);
+        assertEquals(3, cursor.number());
+        assertEquals(0, cursor.labelCount());
+        assertNull(cursor.body());
+        assertNull(cursor.state());
+        assertEquals(Long.MIN_VALUE, cursor.updatedAtMillis());
+
+        cursor.at(3);
+        assertEquals(issues.get(3).demoFlags(), cursor.demoFlags());
+        assertTrue(DemoFlags.has(cursor.demoFlags(), DemoFlags.AFTER_HOURS));
+        assertFalse(DemoFlags.has(cursor.demoFlags(), DemoFlags.STALE_14D));
+    }
+
+    @Test
+    void indexOverColumnsMatchesIndexOverRecords() {
+        IssueClassifierService classifier = new IssueClassifierService();
+        IssueIndex heap = IssueIndex.build(sample(), classifier::classify);
+        IssueIndex columnar = IssueIndex.build(ColumnarIssues.of(sample()), classifier::classify);
+
+        assertEquals(heap.label("BUG"), columnar.label("BUG"));
+        assertEquals(heap.assigneeIgnoreCase("alice"), columnar.assigneeIgnoreCase("alice"));
+        assertEquals(heap.unassigned(), columnar.unassigned());
+        assertEquals(heap.bodyEmpty(), columnar.bodyEmpty());
+        assertEquals(heap.state("open"), columnar.state("open"));
+        assertEquals(heap.milestone("v1"), columnar.milestone("v1"));
+        assertEquals(heap.classification(Classification.QUICK_WIN), columnar.classification(Classification.QUICK_WIN));
+        assertEquals(heap.distinctLabels(), columnar.distinctLabels());
+        assertEquals(heap.updatedAt(0), columnar.updatedAt(0));
+        assertEquals(heap.demo(), columnar.demo());
+        for (int id = 0; id < heap.size(); id++) {
+            assertEquals(heap.number(id), columnar.number(id));
+        }
+    }
+
+    private static List<Issue> sample() {
+        List<Issue> issues = new ArrayList<>();
+        issues.add(new Issue(1, "Crash on sync", "- [ ] reproduce\n- [ ] fix",
+            List.of(new Issue.Label("bug"), new Issue.Label("quick-win")),
+            List.of(new Issue.Assignee("Alice")), T, T.plusSeconds(60), "open",
+            new Issue.Milestone("v1", T.plusSeconds(86400))));
+        issues.add(new Issue(2, "Ünïcødé 😀", "",
+            List.of(new Issue.Label("bug"), new Issue.Label("Bug")),
+            List.of(new Issue.Assignee("alice"), new Issue.Assignee("bob")), T, T, "closed", null));
+        issues.add(new Issue(3, null, null, null, null, null, null, null, null));
+        issues.add(new Issue(4, "Late fix", "body",
+            List.of(new Issue.Label("Demo:After-Hours"), new Issue.Label("demo:unknown")),
+            List.of(), T, T, "open", null));
+        return issues;
+    }
+}
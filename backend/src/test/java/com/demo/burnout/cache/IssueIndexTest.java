@@ -0,0 +1,225 @@
+package com.demo.burnout.cache;
+
+import com.demo.burnout.model.Classification;
+import com.demo.burnout.model.Issue;
+import com.demo.burnout.model.OfficeHours;
+import com.demo.burnout.service.IssueClassifierService;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Every index family answers the same as a straight filter over the issue list, on both
+ * the record and the columnar backend. Time windows are checked against a small candidate
+ * set (timestamp filter) and against all issues (sorted-window path), including at the
+ * cutoff itself and at office-hour and weekend boundaries.
+ */
+class IssueIndexTest {
+
+    private static final Instant T = Instant.parse("2026-03-13T09:30:00Z");
+    private static final String[] LABELS = {"bug", "Bug", "quick-win", "priority:high", "Demo:After-Hours", "docs"};
+    private static final String[] LOGINS = {"alice", "Alice", "bob", "carol"};
+    private static final String[] STATES = {"open", "closed", "OPEN"};
+    private static final String[] MILESTONES = {"v1", "V1", "v2"};
+    private static final String[] BODIES = {"", "  ", "- [ ] one\n- [ ] two", "Steps to reproduce", "TODO: later"};
+
+    private final List<Issue> issues = issues(new Random(42), 400);
+    private final IssueClassifierService classifier = new IssueClassifierService();
+
+    @Test
+    void labelsMatchIgnoringCase() {
+        for (IssueIndex index : indexes()) {
+            for (String label : List.of("bug", "BUG", "quick-win", "demo:after-hours", "missing")) {
+                assertEquals(expected(i -> i.labels() != null
+                    && i.labels().stream().anyMatch(l -> l.name().equalsIgnoreCase(label))), index.label(label), label);
+            }
+            assertEquals(expected(i -> i.labels() != null && i.labels().stream()
+                    .anyMatch(l -> l.name().equalsIgnoreCase("docs") || l.name().equalsIgnoreCase("quick-win"))),
+                index.anyLabel(List.of("docs", "QUICK-WIN")));
+        }
+    }
+
+    @Test
+    void assigneesMatchExactlyOrIgnoringCase() {
+        for (IssueIndex index : indexes()) {
+            for (String login : List.of("alice", "Alice", "ALICE", "bob", "dave")) {
+                assertEquals(expected(i -> i.assignees() != null
+                    && i.assignees().stream().anyMatch(a -> a.login().equals(login))), index.assignee(login), login);
+                assertEquals(expected(i -> i.assignees() != null
+                    && i.assignees().stream().anyMatch(a -> a.login().equalsIgnoreCase(login))),
+                    index.assigneeIgnoreCase(login), login);
+            }
+            assertEquals(expected(i -> i.assignees() == null || i.assignees().isEmpty()), index.unassigned());
+        }
+    }
+
+    @Test
+    void statesAndMilestonesMatchExactly() {
+        for (IssueIndex index : indexes()) {
+            for (String state : STATES) {
+                assertEquals(expected(i -> state.equals(i.state())), index.state(state), state);
+            }
+            for (String title : MILESTONES) {
+                assertEquals(expected(i -> i.milestone() != null && title.equals(i.milestone().title())),
+                    index.milestone(title), title);
+            }
+        }
+    }
+
+    @Test
+    void classificationsMatchTheClassifier() {
+        for (IssueIndex index : indexes()) {
+            for (Classification c : Classification.values()) {
+                assertEquals(expected(i -> classifier.classify(i) == c), index.classification(c), c.name());
+            }
+            for (int id = 0; id < index.size(); id++) {
+                assertEquals(classifier.classify(issues.get(id)), index.classificationOf(id));
+            }
+            assertEquals(expected(Issue::bodyBlank), index.bodyEmpty());
+        }
+    }
+
+    @Test
+    void updatedAtWindowsMatchAFilter() {
+        RoaringBitmap few = RoaringBitmap.bitmapOf(1, 5, 17, 40);
+        for (IssueIndex index : indexes()) {
+            for (Instant cutoff : List.of(T.minusSeconds(3600), T.plusNanos(1), T.plusSeconds(86_400), T.plusSeconds(9 * 86_400))) {
+                for (RoaringBitmap candidates : List.of(index.all(), few)) {
+                    assertEquals(expected(candidates, i -> i.updatedAt() != null && i.updatedAt().isAfter(cutoff)),
+                        index.updatedAfter(candidates, cutoff), "after " + cutoff);
+                    assertEquals(expected(candidates, i -> i.updatedAt() != null && i.updatedAt().isBefore(cutoff)),
+                        index.updatedBefore(candidates, cutoff), "before " + cutoff);
+                    assertEquals(expected(candidates, i -> i.createdAt() != null && i.createdAt().isBefore(cutoff)),
+                        index.createdBefore(candidates, cutoff), "created before " + cutoff);
+                }
+            }
+            assertEquals(expected(i -> i.updatedAt() == null), index.updatedMissing(index.all()));
+        }
+    }
+
+    @Test
+    void updatedOutsideMatchesOfficeHours() {
+        for (IssueIndex index : indexes()) {
+            for (ZoneId zone : List.of(ZoneId.of("UTC"), ZoneId.of("America/New_York"), ZoneId.of("Asia/Kolkata"))) {
+                for (OfficeHours hours : List.of(new OfficeHours(8, 18, true), new OfficeHours(9, 17, false))) {
+                    assertEquals(expected(i -> hours.outside(i.updatedAt(), zone)), index.updatedOutside(hours, zone),
+                        hours + " " + zone);
+                }
+            }
+        }
+    }
+
+    @Test
+    void officeHoursBoundaries() {
+        // 2026-03-13 is a Friday
+        OfficeHours weekdays = new OfficeHours(8, 18, true);
+        OfficeHours everyDay = new OfficeHours(8, 18, false);
+        ZoneId newYork = ZoneId.of("America/New_York");
+        List<Instant> times = List.of(
+            Instant.parse("2026-03-13T07:59:59Z"),
+            Instant.parse("2026-03-13T08:00:00Z"),
+            Instant.parse("2026-03-13T17:59:59Z"),
+            Instant.parse("2026-03-13T18:00:00Z"),
+            Instant.parse("2026-03-14T10:00:00Z"),
+            Instant.parse("2026-03-15T23:59:59Z"),
+            Instant.parse("2026-03-16T08:00:00Z"),
+            Instant.parse("2026-03-14T03:00:00Z"),  // Friday 23:00 in New York (EDT)
+            Instant.parse("2026-03-16T12:00:00Z"),  // Monday 08:00 in New York
+            Instant.parse("1969-12-31T12:00:00Z")); // Wednesday before the epoch; 07:00 in New York
+        List<Boolean> weekdaysUtc = List.of(true, false, false, true, true, true, false, true, false, false);
+        List<Boolean> everyDayUtc = List.of(true, false, false, true, false, true, false, true, false, false);
+        List<Boolean> weekdaysNewYork = List.of(true, true, false, false, true, true, true, true, false, true);
+
+        List<Issue> stamped = new ArrayList<>();
+        for (int k = 0; k < times.size(); k++) {
+            stamped.add(new Issue(k + 1, "t", null, null, null, times.get(k), times.get(k), "open", null));
+        }
+        stamped.add(new Issue(99, "t", null, null, null, null, null, "open", null));
+
+        for (IssueIndex index : List.of(IssueIndex.build(stamped), IssueIndex.build(ColumnarIssues.of(stamped)))) {
+            assertEquals(positions(weekdaysUtc), index.updatedOutside(weekdays, ZoneId.of("UTC")));
+            assertEquals(positions(everyDayUtc), index.updatedOutside(everyDay, ZoneId.of("UTC")));
+            assertEquals(positions(weekdaysNewYork), index.updatedOutside(weekdays, newYork));
+        }
+        for (int k = 0; k < times.size(); k++) {
+            var local = times.get(k).atZone(newYork);
+            boolean outside = local.getHour() < 8 || local.getHour() >= 18 || local.getDayOfWeek().getValue() >= 6;
+            assertEquals(outside, weekdays.outside(times.get(k), newYork), times.get(k).toString());
+        }
+    }
+
+    @Test
+    void timeWindowsExcludeTheCutoff() {
+        Instant t = Instant.parse("2026-03-13T08:00:00Z");
+        List<Issue> stamped = List.of(
+            new Issue(1, "t", null, null, null, t.minusMillis(1), t.minusMillis(1), "open", null),
+            new Issue(2, "t", null, null, null, t, t, "open", null),
+            new Issue(3, "t", null, null, null, t.plusMillis(1), t.plusMillis(1), "open", null));
+        for (IssueIndex index : List.of(IssueIndex.build(stamped), IssueIndex.build(ColumnarIssues.of(stamped)))) {
+            for (RoaringBitmap candidates : List.of(index.all(), RoaringBitmap.bitmapOf(0, 1, 2))) {
+                assertEquals(RoaringBitmap.bitmapOf(2), index.updatedAfter(candidates, t));
+                assertEquals(RoaringBitmap.bitmapOf(0), index.updatedBefore(candidates, t));
+                assertEquals(RoaringBitmap.bitmapOf(0), index.createdBefore(candidates, t));
+                assertEquals(RoaringBitmap.bitmapOf(0, 1), index.updatedBefore(candidates, t.plusNanos(1)));
+                assertEquals(RoaringBitmap.bitmapOf(1, 2), index.updatedAfter(candidates, t.minusNanos(1)));
+            }
+        }
+    }
+
+    private static RoaringBitmap positions(List<Boolean> flags) {
+        RoaringBitmap out = new RoaringBitmap();
+        for (int k = 0; k < flags.size(); k++) {
+            if (flags.get(k)) out.add(k);
+        }
+        return out;
+    }
+
+    private List<IssueIndex> indexes() {
+        return List.of(IssueIndex.build(issues, classifier::classify),
+            IssueIndex.build(ColumnarIssues.of(issues), classifier::classify));
+    }
+
+    private RoaringBitmap expected(Predicate<Issue> predicate) {
+        return expected(RoaringBitmap.bitmapOfRange(0, issues.size()), predicate);
+    }
+
+    private RoaringBitmap expected(RoaringBitmap candidates, Predicate<Issue> predicate) {
+        RoaringBitmap out = new RoaringBitmap();
+        for (int id : candidates.toArray()) {
+            if (predicate.test(issues.get(id))) out.add(id);
+        }
+        return out;
+    }
+
+    private static List<Issue> issues(Random random, int n) {
+        List<Issue> issues = new ArrayList<>();
+        for (int number = 1; number <= n; number++) {
+            List<Issue.Label> labels = random.nextInt(10) == 0 ? null : pick(random, LABELS).stream().map(Issue.Label::new).toList();
+            List<Issue.Assignee> assignees = random.nextInt(10) == 0 ? null : pick(random, LOGINS).stream().map(Issue.Assignee::new).toList();
+            Instant created = random.nextInt(20) == 0 ? null : T.minusSeconds(random.nextInt(30 * 86_400));
+            Instant updated = random.nextInt(20) == 0 ? null : T.plusSeconds(random.nextInt(20 * 86_400) - 10 * 86_400);
+            String state = random.nextInt(10) == 0 ? null : STATES[random.nextInt(STATES.length)];
+            Issue.Milestone milestone = random.nextInt(3) == 0 ? null
+                : new Issue.Milestone(random.nextInt(10) == 0 ? null : MILESTONES[random.nextInt(MILESTONES.length)], null);
+            String body = random.nextInt(8) == 0 ? null : BODIES[random.nextInt(BODIES.length)];
+            issues.add(new Issue(number, "Issue " + number, body, labels, assignees, created, updated, state, milestone));
+        }
+        return issues;
+    }
+
+    private static List<String> pick(Random random, String[] values) {
+        List<String> out = new ArrayList<>();
+        for (String value : values) {
+            if (random.nextInt(3) == 0) out.add(value);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,29 @@
+package com.demo.burnout.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.BindException;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A negative body-preview-chars fails property binding, i.e. startup.
+ */
+class CacheConfigurationTest {
+
+    @Test
+    void rejectsNegativePreviewChars() {
+        assertThrows(BindException.class, () -> bind("-1"));
+        assertEquals(0, bind("0").getBodyPreviewChars());
+        assertEquals(200, new CacheConfiguration().getBodyPreviewChars());
+    }
+
+    private static CacheConfiguration bind(String previewChars) {
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of("burnout.cache.body-preview-chars", previewChars)));
+        return binder.bind("burnout.cache", Bindable.ofInstance(new CacheConfiguration())).get();
+    }
+}
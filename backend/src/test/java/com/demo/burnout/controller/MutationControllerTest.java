@@ -0,0 +1,25 @@
+package com.demo.burnout.controller;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Only plain owner/name repos reach the GitHub API paths.
+ */
+class MutationControllerTest {
+
+    @Test
+    void acceptsOnlyOwnerSlashName() {
+        assertTrue(MutationController.isRepo("octo/repo"));
+        assertTrue(MutationController.isRepo("my-org/my_repo.js"));
+
+        assertFalse(MutationController.isRepo(null));
+        assertFalse(MutationController.isRepo("repo"));
+        assertFalse(MutationController.isRepo("a/b/../../orgs/x"));
+        assertFalse(MutationController.isRepo("a/b?x="));
+        assertFalse(MutationController.isRepo("../.."));
+        assertFalse(MutationController.isRepo("a/b#frag"));
+        assertFalse(MutationController.isRepo("a /b"));
+    }
+}
@@ -0,0 +1,261 @@
+package com.demo.burnout.github;
+
+import com.demo.burnout.goap.GitHubAction;
+import com.demo.burnout.goap.GitHubMutationPlan;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the executor against a local GitHub API stub that keeps each issue's live labels.
+ */
+class GitHubMutationExecutorTest {
+
+    private HttpServer server;
+    private ExecutorService pool;
+    private final Queue<String> requests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger rateLimitedResponses = new AtomicInteger();
+    private final AtomicInteger serverErrors = new AtomicInteger();
+    private final Map<Integer, Set<String>> liveLabels = new ConcurrentHashMap<>();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            String path = exchange.getRequestURI().getRawPath();
+            requests.add(exchange.getRequestMethod() + " " + path + " " + body);
+
+            int status = exchange.getRequestMethod().equals("POST") ? 201 : 200;
+            if (path.endsWith("/issues/404/comments")) {
+                status = 404;
+            } else if (path.endsWith("/issues/429/labels") && rateLimitedResponses.getAndIncrement() == 0) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                status = 403;
+            } else if (path.contains("/issues/502/") && serverErrors.getAndIncrement() == 0) {
+                status = 502;
+            } else if (path.endsWith("/issues/430/labels")) {
+                // Secondary limit that outlasts the max wait
+                exchange.getResponseHeaders().add("Retry-After", "60");
+                status = 403;
+            } else if (path.endsWith("/labels/locked")) {
+                status = 422;
+            } else {
+                status = applyLabels(exchange.getRequestMethod(), path, body, status);
+            }
+            exchange.getResponseHeaders().add("X-RateLimit-Remaining", "4999");
+            byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+        pool = Executors.newFixedThreadPool(4);
+    }
+
+    private int applyLabels(String method, String path, String body, int status) throws IOException {
+        String[] parts = path.split("/");
+        if (parts.length < 6 || !parts[4].equals("issues")) return status;
+        Set<String> labels = liveLabels.computeIfAbsent(Integer.parseInt(parts[5]), n -> ConcurrentHashMap.newKeySet());
+        if (parts.length == 7 && parts[6].equals("labels") && method.equals("POST")) {
+            mapper.readTree(body).get("labels").forEach(l -> labels.add(l.asText()));
+        } else if (parts.length == 8 && method.equals("DELETE")) {
+            return labels.remove(URLDecoder.decode(parts[7], StandardCharsets.UTF_8)) ? 200 : 404;
+        } else if (parts.length == 6 && method.equals("PATCH")) {
+            labels.clear();
+            mapper.readTree(body).get("labels").forEach(l -> labels.add(l.asText()));
+        }
+        return status;
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+        pool.shutdownNow();
+    }
+
+    @Test
+    void batchesActionsPerIssue() {
+        GitHubMutationPlan plan = new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.AddLabels(1, List.of("deferred", "next-sprint")),
+            new GitHubAction.RemoveLabels(1, List.of("priority:critical")),
+            new GitHubAction.Comment(1, "Deferred"),
+            new GitHubAction.AddLabels(2, List.of("quick-win")),
+            new GitHubAction.Comment(2, "Quick win"),
+            new GitHubAction.Comment(2, "Second note")
+        ));
+        liveLabels.put(1, labels("priority:critical", "bug"));
+
+        var report = executor().execute(plan, "token");
+
+        assertEquals(5, report.apiCalls(), "one POST of additions, one DELETE per removal, one comment per issue");
+        assertEquals(6, report.outcomes().size());
+        report.outcomes().forEach(o -> assertEquals(GitHubMutationExecutor.Status.APPLIED, o.status()));
+        assertTrue(requests.contains("DELETE /repos/octo/repo/issues/1/labels/priority%3Acritical "));
+        assertEquals(Set.of("bug", "deferred", "next-sprint"), liveLabels.get(1));
+        assertTrue(requests.stream().anyMatch(r ->
+            r.startsWith("POST /repos/octo/repo/issues/2/comments") && r.contains("Quick win\\n\\nSecond note")));
+    }
+
+    @Test
+    void removalsKeepLabelsAddedOnGitHubSinceTheSnapshot() {
+        GitHubMutationPlan plan = new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.AddLabels(3, List.of("quick-win")),
+            new GitHubAction.RemoveLabels(3, List.of("urgent"))
+        ));
+        // "security" was added on GitHub after the planner's snapshot was taken
+        liveLabels.put(3, labels("urgent", "security"));
+
+        var report = executor().execute(plan, "token");
+
+        report.outcomes().forEach(o -> assertEquals(GitHubMutationExecutor.Status.APPLIED, o.status()));
+        assertTrue(requests.stream().noneMatch(r -> r.startsWith("PATCH")));
+        assertEquals(Set.of("security", "quick-win"), liveLabels.get(3));
+    }
+
+    @Test
+    void sendsOnlyTheNetLabelChangeInPlanOrder() {
+        GitHubMutationPlan plan = new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.AddLabels(3, List.of("deferred")),
+            new GitHubAction.RemoveLabels(3, List.of("Deferred"))
+        ));
+
+        var report = executor().execute(plan, "token");
+
+        assertEquals(List.of("DELETE /repos/octo/repo/issues/3/labels/Deferred "), List.copyOf(requests));
+        assertEquals(GitHubMutationExecutor.Status.SKIPPED, report.outcomes().get(0).status(), "add was reversed");
+        assertEquals(GitHubMutationExecutor.Status.APPLIED, report.outcomes().get(1).status());
+    }
+
+    @Test
+    void reportsEachLabelActionFromItsOwnCalls() {
+        GitHubMutationPlan plan = new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.AddLabels(7, List.of("deferred")),
+            new GitHubAction.RemoveLabels(7, List.of("locked")),
+            new GitHubAction.RemoveLabels(7, List.of("urgent"))
+        ));
+        liveLabels.put(7, labels("locked", "urgent"));
+
+        var report = executor().execute(plan, "token");
+
+        var statuses = report.outcomes().stream().map(GitHubMutationExecutor.ActionOutcome::status).toList();
+        assertEquals(List.of(GitHubMutationExecutor.Status.APPLIED, GitHubMutationExecutor.Status.FAILED,
+            GitHubMutationExecutor.Status.APPLIED), statuses);
+        assertEquals(422, report.outcomes().get(1).httpStatus());
+        assertEquals(Set.of("locked", "deferred"), liveLabels.get(7));
+    }
+
+    @Test
+    void oneTokensRateLimitDoesNotThrottleAnother() {
+        GitHubMutationExecutor executor = executor();
+        var limited = executor.execute(new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.AddLabels(430, List.of("deferred")))), "alice-token");
+        assertEquals(GitHubMutationExecutor.Status.RATE_LIMITED, limited.outcomes().get(0).status());
+
+        var other = executor.execute(new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.AddLabels(8, List.of("deferred")))), "bob-token");
+        assertEquals(GitHubMutationExecutor.Status.APPLIED, other.outcomes().get(0).status());
+
+        var again = executor.execute(new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.AddLabels(8, List.of("quick-win")))), "alice-token");
+        assertEquals(GitHubMutationExecutor.Status.RATE_LIMITED, again.outcomes().get(0).status(),
+            "alice is still paused");
+    }
+
+    @Test
+    void retriesServerErrorsOnlyForIdempotentCalls() {
+        var delete = executor().execute(new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.RemoveLabels(502, List.of("urgent")))), "token");
+        assertEquals(2, requests.size(), "DELETE retried after 502");
+        assertEquals(404, delete.outcomes().get(0).httpStatus(), "label was already absent");
+
+        requests.clear();
+        serverErrors.set(0);
+        var comment = executor().execute(new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.Comment(502, "Once only"))), "token");
+        assertEquals(1, requests.size(), "POST not retried: the comment may exist");
+        assertEquals(GitHubMutationExecutor.Status.FAILED, comment.outcomes().get(0).status());
+        assertEquals(502, comment.outcomes().get(0).httpStatus());
+    }
+
+    @Test
+    void reportsEveryActionOfABatchThatThrew() {
+        GitHubMutationPlan plan = new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.AddLabels(5, null),
+            new GitHubAction.Comment(5, "Never sent"),
+            new GitHubAction.Comment(6, "Sent")
+        ));
+
+        var report = executor().execute(plan, "token");
+
+        assertEquals(3, report.outcomes().size());
+        report.outcomes().stream().filter(o -> o.action().issueNumber() == 5)
+            .forEach(o -> assertEquals(GitHubMutationExecutor.Status.FAILED, o.status()));
+        assertTrue(report.outcomes().stream().anyMatch(o ->
+            o.action().issueNumber() == 6 && o.status() == GitHubMutationExecutor.Status.APPLIED));
+    }
+
+    @Test
+    void retriesAfterSecondaryRateLimitAndReportsFailures() {
+        GitHubMutationPlan plan = new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.AddLabels(429, List.of("deferred")),
+            new GitHubAction.Comment(404, "Missing issue")
+        ));
+
+        var report = executor().execute(plan, "token");
+
+        var byIssue = report.outcomes().stream()
+            .collect(java.util.stream.Collectors.toMap(o -> o.action().issueNumber(), o -> o));
+        assertEquals(GitHubMutationExecutor.Status.APPLIED, byIssue.get(429).status());
+        assertEquals(GitHubMutationExecutor.Status.FAILED, byIssue.get(404).status());
+        assertEquals(404, byIssue.get(404).httpStatus());
+        assertEquals(2, requests.stream().filter(r -> r.contains("/issues/429/labels")).count());
+    }
+
+    @Test
+    void planRoundTripsThroughJson() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        GitHubMutationPlan plan = new GitHubMutationPlan("octo/repo", List.of(
+            new GitHubAction.AddLabels(1, List.of("deferred")),
+            new GitHubAction.Comment(1, "hi")
+        ));
+        String json = mapper.writeValueAsString(plan);
+
+        assertTrue(json.contains("\"type\":\"AddLabels\""));
+        assertEquals(plan, mapper.readValue(json, GitHubMutationPlan.class));
+    }
+
+    private GitHubMutationExecutor executor() {
+        String url = "http://localhost:" + server.getAddress().getPort();
+        // The secondary-limit base is never waited on: 5xx retries use the short backoff
+        GitHubApiClient client = new GitHubApiClient(url, () -> new GitHubRateLimiter(Duration.ZERO, Duration.ofSeconds(5)),
+            2, Duration.ofSeconds(60), Duration.ofMillis(10), new ObjectMapper());
+        return new GitHubMutationExecutor(client, pool);
+    }
+
+    private static Set<String> labels(String... names) {
+        Set<String> labels = ConcurrentHashMap.newKeySet();
+        labels.addAll(List.of(names));
+        return labels;
+    }
+}
@@ -0,0 +1,89 @@
+package com.demo.burnout.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The packed features answer what the classifier used to compute from the raw body (blank
+ * checks, length thresholds, lowercase {@code contains} per scope marker) on randomized
+ * bodies with mixed-case and partial markers, non-ASCII text and whitespace.
+ */
+class BodyFeaturesTest {
+
+    private static final String[] FRAGMENTS = {
+        "- [ ]", "- [X] ", "- [", "Acceptance Criteria", "ACCEPTANCE criteria:", "acceptance crit",
+        "Done when", "DONE WHEN", "done whe", "Steps:", "steps :", "STEPS:", "Expected:", "expected",
+        "ÉXPECTED:", "crİterİa", "Kelvin", "ünïcødé", "😀", "fix the thing", "x", " ", "  ", "\n", "\t",
+        " ", " ", "-", "[", "]", ":"
+    };
+
+    @Test
+    void featuresMatchThePreviousBodyChecks() {
+        Random random = new Random(7);
+        for (int n = 0; n < 20_000; n++) {
+            String body = body(random);
+            int features = BodyFeatures.extract(body);
+
+            assertEquals(body == null, BodyFeatures.isNull(features), () -> describe(body));
+            assertEquals(body == null || body.isBlank(), BodyFeatures.isBlank(features), () -> describe(body));
+            if (body != null) {
+                int expectedLength = body.length() < 100 ? BodyFeatures.SHORT
+                    : body.length() < 500 ? BodyFeatures.MEDIUM : BodyFeatures.LONG;
+                assertEquals(expectedLength, BodyFeatures.lengthBucket(features), () -> describe(body));
+            }
+            assertEquals(scopeMarkers(body), BodyFeatures.scopeMarkers(features), () -> describe(body));
+            assertEquals(hasClearScope(body), BodyFeatures.hasClearScope(features), () -> describe(body));
+        }
+    }
+
+    @Test
+    void nullAndBlankBodies() {
+        assertTrue(BodyFeatures.isNull(BodyFeatures.extract(null)));
+        assertTrue(BodyFeatures.isBlank(BodyFeatures.extract(null)));
+        assertFalse(BodyFeatures.isNull(BodyFeatures.extract("")));
+        assertTrue(BodyFeatures.isBlank(BodyFeatures.extract("")));
+        assertTrue(BodyFeatures.isBlank(BodyFeatures.extract(" \n\t")));
+        assertFalse(BodyFeatures.isBlank(BodyFeatures.extract(" x ")));
+        assertEquals(BodyFeatures.SHORT, BodyFeatures.lengthBucket(BodyFeatures.extract(null)));
+    }
+
+    /**
+     * IssueClassifierService.hasClearScope before the features were extracted.
+     */
+    private static boolean hasClearScope(String raw) {
+        if (raw == null) return false;
+        String body = raw.toLowerCase();
+        return body.contains("- [ ]")
+            || body.contains("acceptance criteria")
+            || body.contains("done when")
+            || body.contains("steps:")
+            || body.contains("expected:");
+    }
+
+    private static int scopeMarkers(String body) {
+        if (body == null) return 0;
+        String lower = body.toLowerCase();
+        int mask = 0;
+        for (int i = 0; i < BodyFeatures.SCOPE_MARKERS.size(); i++) {
+            if (lower.contains(BodyFeatures.SCOPE_MARKERS.get(i))) mask |= 1 << i;
+        }
+        return mask;
+    }
+
+    private static String body(Random random) {
+        if (random.nextInt(20) == 0) return null;
+        int parts = random.nextInt(10) == 0 ? 100 + random.nextInt(200) : random.nextInt(40);
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < parts; i++) {
+            body.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return body.toString();
+    }
+
+    private static String describe(String body) {
+        return body == null ? "null" : '"' + body.replace("\n", "\\n") + '"';
+    }
+}
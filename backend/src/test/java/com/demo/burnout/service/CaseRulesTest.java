@@ -0,0 +1,148 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.cache.IssueIndex;
+import com.demo.burnout.model.DayStructure;
+import com.demo.burnout.model.Issue;
+import com.demo.burnout.model.WorldState;
+import com.demo.burnout.util.AssigneeMatcher;
+import com.demo.burnout.util.LabelMatcher;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Case rules as they were before the matchers: labels match ignoring case everywhere,
+ * assignees match ignoring case for WorldState and the day plan, and compliance takes
+ * only the exact login and the exact "open" state.
+ */
+class CaseRulesTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-13T15:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final String[] LABELS = {"quick-win", "Quick-Win", "QUICK-WIN", "size:S", "size:s", "Deferred", "bug"};
+    private static final String[] LOGINS = {"alice", "Alice", "ALICE", "bob"};
+    private static final String[] STATES = {"open", "Open", "OPEN", "closed"};
+
+    private final List<Issue> issues = issues(new Random(11), 300);
+
+    @Test
+    void labelMatcherIgnoresCaseLikeTheBaseline() {
+        for (List<String> names : List.of(List.of("quick-win"), List.of("SIZE:S", "deferred"), List.of("Bug"))) {
+            LabelMatcher matcher = LabelMatcher.of(names);
+            for (Issue issue : issues) {
+                assertEquals(baselineHasAnyLabel(issue, names), matcher.matches(issue), names + " " + issue.labels());
+            }
+        }
+    }
+
+    @Test
+    void assigneeMatcherIgnoresCaseLikeTheBaseline() {
+        for (String login : new String[] {"alice", "ALICE", "bob", "carol", null}) {
+            AssigneeMatcher matcher = AssigneeMatcher.of(login);
+            for (Issue issue : issues) {
+                assertEquals(baselineAssignedTo(issue, login), matcher.matches(issue), login + " " + issue.assignees());
+            }
+        }
+    }
+
+    @Test
+    void complianceTakesTheExactLoginAndState() {
+        ComplianceService compliance = new ComplianceService(new IssueClassifierService(), CLOCK);
+        IssueIndex index = IssueIndex.build(issues, new IssueClassifierService()::classify);
+        for (String login : List.of("alice", "Alice", "ALICE")) {
+            long exact = issues.stream().filter(i -> "open".equals(i.state()) && i.assignees() != null
+                && i.assignees().stream().anyMatch(a -> a.login().equals(login))).count();
+            int summed = issues.stream().mapToInt(i -> compliance.countIssue(i, login, NOW).userIssues()).sum();
+
+            assertEquals(exact, summed, login);
+            assertEquals(compliance.analyze(issues, login, NOW), compliance.analyze(index, login, NOW), login);
+        }
+        Issue mixedCase = issue(1, "Open", List.of("Alice"), List.of("quick-win"));
+        assertEquals(ComplianceService.Counts.ZERO, compliance.countIssue(mixedCase, "alice", NOW));
+    }
+
+    @Test
+    void worldStateAndDayPlanIgnoreTheLoginsCase() {
+        DayPlanService dayPlan = new DayPlanService(new IssueClassifierService());
+        IssueIndex index = IssueIndex.build(issues);
+        for (String login : List.of("alice", "ALICE")) {
+            long assigned = issues.stream().filter(i -> baselineAssignedTo(i, login)).count();
+            WorldState.Counts counts = WorldState.count(issues, login, CLOCK);
+            assertEquals(assigned, counts.assigned(), login);
+            assertEquals(issues.stream().filter(i -> baselineAssignedTo(i, login)
+                && baselineHasAnyLabel(i, List.of("good-first-issue", "quick-win", "size:S"))).count(), counts.quickWins());
+            assertEquals(counts, WorldState.count(index, login, CLOCK), login);
+
+            Set<Integer> planned = members(dayPlan.buildDayPlan(issues, login));
+            Set<Integer> expected = issues.stream()
+                .filter(i -> "open".equalsIgnoreCase(i.state()) && baselineAssignedTo(i, login))
+                .map(Issue::number).collect(Collectors.toSet());
+            assertEquals(expected, planned, login);
+        }
+    }
+
+    /**
+     * LabelUtils.hasAnyLabel before LabelMatcher.
+     */
+    private static boolean baselineHasAnyLabel(Issue issue, List<String> labelNames) {
+        if (issue.labels() == null || labelNames.isEmpty()) return false;
+        Set<String> target = labelNames.stream().map(String::toLowerCase).collect(Collectors.toSet());
+        return issue.labels().stream().anyMatch(l -> target.contains(l.name().toLowerCase()));
+    }
+
+    /**
+     * WorldState.isAssignedTo before AssigneeMatcher.
+     */
+    private static boolean baselineAssignedTo(Issue issue, String userId) {
+        return issue.assignees() != null
+            && issue.assignees().stream().anyMatch(a -> a.login().equalsIgnoreCase(userId));
+    }
+
+    private static Set<Integer> members(DayStructure plan) {
+        return Stream.of(
+                Stream.ofNullable(plan.deepWork()), plan.quickWins().stream(),
+                plan.maintenance().stream(), plan.deferred().stream())
+            .flatMap(s -> s)
+            .map(Issue::number)
+            .collect(Collectors.toSet());
+    }
+
+    private static List<Issue> issues(Random random, int n) {
+        List<Issue> issues = new ArrayList<>();
+        for (int number = 1; number <= n; number++) {
+            List<String> labels = random.nextInt(10) == 0 ? null : pick(random, LABELS);
+            List<String> logins = random.nextInt(10) == 0 ? null : pick(random, LOGINS);
+            issues.add(issue(number, STATES[random.nextInt(STATES.length)], logins, labels));
+        }
+        return issues;
+    }
+
+    private static Issue issue(int number, String state, List<String> logins, List<String> labels) {
+        return new Issue(number, "Issue " + number, body(number),
+            labels == null ? null : labels.stream().map(Issue.Label::new).toList(),
+            logins == null ? null : logins.stream().map(Issue.Assignee::new).toList(),
+            NOW.minusSeconds(3600), NOW.minusSeconds(number * 600L), state, null);
+    }
+
+    private static String body(int number) {
+        return number % 5 == 0 ? "" : "Steps: do it";
+    }
+
+    private static List<String> pick(Random random, String[] values) {
+        List<String> out = new ArrayList<>();
+        for (String value : values) {
+            if (random.nextInt(3) == 0) out.add(value);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,82 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Configured overrides apply to everyone, team overrides only to the team's members.
+ */
+class ComplianceRulesTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-13T15:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void defaultsFlagFourQuickWins() {
+        ComplianceService service = new ComplianceService(new IssueClassifierService(), CLOCK);
+
+        Violation overload = violation(service.analyze(quickWins("dev", 4), "dev"), ViolationType.QUICK_WIN_OVERLOAD);
+
+        assertEquals(Severity.WARNING, overload.severity());
+        assertEquals("You have 4 quick wins. Max is 3 per day.", overload.message());
+        assertEquals("Defer 1 quick wins to tomorrow.", overload.recommendation());
+        assertEquals(List.of(4), overload.affectedIssues().stream().map(Issue::number).toList());
+    }
+
+    @Test
+    void teamOverridesApplyToMembersOnly() {
+        ComplianceRules.RuleConfig critical = new ComplianceRules.RuleConfig();
+        critical.setSeverity(Severity.CRITICAL);
+        ComplianceRules.RuleConfig relaxed = new ComplianceRules.RuleConfig();
+        relaxed.setMax(5L);
+        ComplianceRules.RuleConfig off = new ComplianceRules.RuleConfig();
+        off.setEnabled(false);
+        ComplianceRules rules = ComplianceRules.compile(
+            Map.of(ViolationType.QUICK_WIN_OVERLOAD, critical),
+            Map.of("platform", new ComplianceRules.Team(List.of("alice"),
+                Map.of(ViolationType.QUICK_WIN_OVERLOAD, relaxed, ViolationType.NO_DEEP_WORK, off))));
+        ComplianceService service = new ComplianceService(new IssueClassifierService(), CLOCK, rules);
+
+        ComplianceReport bob = service.analyze(quickWins("bob", 4), "bob");
+        assertEquals(Severity.CRITICAL, violation(bob, ViolationType.QUICK_WIN_OVERLOAD).severity());
+        assertNotNull(violation(bob, ViolationType.NO_DEEP_WORK));
+
+        ComplianceReport alice = service.analyze(quickWins("alice", 4), "alice");
+        assertTrue(alice.violations().isEmpty(), alice.violations().toString());
+
+        ComplianceReport aliceSix = service.analyze(quickWins("alice", 6), "alice");
+        Violation overload = violation(aliceSix, ViolationType.QUICK_WIN_OVERLOAD);
+        assertEquals(Severity.CRITICAL, overload.severity());
+        assertEquals("You have 6 quick wins. Max is 5 per day.", overload.message());
+        assertEquals(List.of(6), overload.affectedIssues().stream().map(Issue::number).toList());
+    }
+
+    @Test
+    void memberOfTwoTeamsIsRejected() {
+        var team = new ComplianceRules.Team(List.of("alice"), Map.of());
+        assertThrows(IllegalStateException.class,
+            () -> ComplianceRules.compile(Map.of(), Map.of("a", team, "b", team)));
+    }
+
+    private static Violation violation(ComplianceReport report, ViolationType type) {
+        return report.violations().stream().filter(v -> v.type() == type).findFirst().orElse(null);
+    }
+
+    private static List<Issue> quickWins(String user, int count) {
+        List<Issue> issues = new ArrayList<>();
+        for (int n = 1; n <= count; n++) {
+            issues.add(new Issue(n, "Quick " + n, "Small fix", List.of(new Issue.Label("quick-win")),
+                List.of(new Issue.Assignee(user)), NOW.minusSeconds(86_400), NOW.minusSeconds(86_400), "open", null));
+        }
+        return issues;
+    }
+}
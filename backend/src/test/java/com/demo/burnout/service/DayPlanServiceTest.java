@@ -0,0 +1,114 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.cache.ColumnarIssues;
+import com.demo.burnout.cache.IssueIndex;
+import com.demo.burnout.model.DayStructure;
+import com.demo.burnout.model.Issue;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The first priority label on an issue decides its weight, and the bitmap weights used by
+ * the query sort agree with the per-issue weights on both index backends. A previous plan
+ * is reused only while the user's open issues are unchanged.
+ */
+class DayPlanServiceTest {
+
+    private static final Instant T = Instant.parse("2026-03-13T09:30:00Z");
+
+    private final DayPlanService service = new DayPlanService(new IssueClassifierService());
+
+    @Test
+    void firstPriorityLabelWins() {
+        assertEquals(1, service.getPriorityWeight(issue(1, "priority:high", "priority:critical")));
+        assertEquals(0, service.getPriorityWeight(issue(2, "Priority:Critical", "urgent")));
+        assertEquals(1, service.getPriorityWeight(issue(3, "bug", "URGENT", "priority:critical")));
+        assertEquals(2, service.getPriorityWeight(issue(4, "bug")));
+        assertEquals(2, service.getPriorityWeight(new Issue(5, "t", null, null, List.of(), T, T, "open", null)));
+    }
+
+    @Test
+    void bitmapWeightsMatchPerIssueWeights() {
+        List<Issue> issues = List.of(
+            issue(1, "priority:high", "priority:critical"),
+            issue(2, "priority:critical", "urgent"),
+            issue(3, "urgent", "priority:critical"),
+            issue(4, "priority:critical"),
+            issue(5, "Priority:High"),
+            issue(6, "bug"),
+            new Issue(7, "t", null, null, List.of(), T, T, "open", null));
+
+        for (IssueIndex index : List.of(IssueIndex.build(issues), IssueIndex.build(ColumnarIssues.of(issues)))) {
+            IntUnaryOperator weights = service.priorityWeights(index);
+            for (int id = 0; id < index.size(); id++) {
+                assertEquals(service.getPriorityWeight(issues.get(id)), weights.applyAsInt(id), "#" + (id + 1));
+            }
+        }
+    }
+
+    @Test
+    void reusesThePlanWhileTheUsersOpenIssuesAreUnchanged() {
+        List<Issue> issues = repo();
+        DayStructure previous = service.buildDayPlan(issues, "alice");
+
+        assertSame(previous, service.buildDayPlan(issues, "alice", previous));
+        assertSame(previous, service.buildDayPlan(List.copyOf(repo()), "alice", previous), "re-synced, same content");
+
+        List<Issue> othersChanged = new ArrayList<>(repo());
+        othersChanged.set(5, assigned(6, "bob", "open", "quick-win", "priority:critical"));
+        othersChanged.add(assigned(40, "carol", "open", "bug"));
+        othersChanged.add(assigned(41, "alice", "closed", "quick-win"));
+        assertSame(previous, service.buildDayPlan(othersChanged, "ALICE", previous));
+    }
+
+    @Test
+    void rebuildsThePlanWhenAMemberChanges() {
+        DayStructure previous = service.buildDayPlan(repo(), "alice");
+
+        List<Issue> relabeled = new ArrayList<>(repo());
+        relabeled.set(0, assigned(1, "alice", "open", "quick-win", "priority:critical"));
+        List<Issue> closed = new ArrayList<>(repo());
+        closed.set(1, assigned(2, "alice", "closed", "docs"));
+        List<Issue> added = new ArrayList<>(repo());
+        added.add(assigned(42, "Alice", "open", "chore"));
+        List<Issue> touched = new ArrayList<>(repo());
+        Issue first = touched.get(0);
+        touched.set(0, new Issue(first.number(), first.title(), first.body(), first.labels(), first.assignees(),
+            first.createdAt(), T.plusSeconds(60), first.state(), first.milestone()));
+
+        for (List<Issue> issues : List.of(relabeled, closed, added, touched)) {
+            DayStructure plan = service.buildDayPlan(issues, "alice", previous);
+            assertNotSame(previous, plan);
+            assertEquals(service.buildDayPlan(issues, "alice"), plan);
+        }
+        assertEquals(previous, service.buildDayPlan(repo(), "alice", null));
+    }
+
+    private static List<Issue> repo() {
+        return List.of(
+            assigned(1, "alice", "open", "quick-win"),
+            assigned(2, "alice", "open", "docs"),
+            assigned(3, "Alice", "open", "architecture"),
+            assigned(4, "alice", "open", "chore"),
+            assigned(5, "alice", "open"),
+            assigned(6, "bob", "open", "quick-win"),
+            assigned(7, "alice", "closed", "quick-win"));
+    }
+
+    private static Issue assigned(int number, String login, String state, String... labels) {
+        return new Issue(number, "Issue " + number, "Steps: fix it",
+            Arrays.stream(labels).map(Issue.Label::new).toList(), List.of(new Issue.Assignee(login)), T, T, state, null);
+    }
+
+    private static Issue issue(int number, String... labels) {
+        return new Issue(number, "Issue " + number, null,
+            Arrays.stream(labels).map(Issue.Label::new).toList(), List.of(), T, T, "open", null);
+    }
+}
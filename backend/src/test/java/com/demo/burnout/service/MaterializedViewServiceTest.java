@@ -0,0 +1,98 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.cache.LocalIssueStore;
+import com.demo.burnout.config.CacheConfiguration;
+import com.demo.burnout.metrics.PipelineMetrics;
+import com.demo.burnout.model.Issue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Views follow the cache version, whether the sync event reached them or not, and reads for
+ * users outside the assignee list are answered without being kept.
+ */
+class MaterializedViewServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-13T15:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final String REPO = "org/repo";
+
+    private final LocalIssueStore store = new LocalIssueStore();
+    private final IssueClassifierService classifier = new IssueClassifierService();
+    private final ChaosMetricsService chaosService = new ChaosMetricsService(CLOCK);
+    private final ComplianceService complianceService = new ComplianceService(classifier, CLOCK);
+    private MaterializedViewService views;
+    private final IssueCache cache = new IssueCache(store,
+        event -> views.onIssuesSynced((IssueCache.IssuesSynced) event), new CacheConfiguration());
+
+    {
+        views = new MaterializedViewService(cache, classifier, chaosService, complianceService,
+            new DayPlanService(classifier),
+            new PlanSimulationService(chaosService, complianceService, CLOCK),
+            new PipelineMetrics(new SimpleMeterRegistry(), new StaticListableBeanFactory().getBeanProvider(Tracer.class)),
+            new SimpleMeterRegistry(), CLOCK);
+    }
+
+    @Test
+    void syncRebuildsTheViewForEveryAssignee() {
+        assertNull(views.repoView(REPO));
+
+        cache.put(REPO, List.of(issue(1, "alice", "deep-work"), issue(2, "bob", "quick-win")), NOW);
+        var first = views.repoView(REPO);
+        assertEquals(cache.getVersion(REPO), first.version());
+        assertEquals(Set.of("alice", "bob"), first.users().keySet());
+        assertEquals(1, views.userView(REPO, "alice").state().deepWorkCount());
+
+        cache.put(REPO, List.of(issue(1, "alice", "deep-work"), issue(3, "alice", "deep-work")), NOW);
+        var second = views.repoView(REPO);
+        assertTrue(second.version() > first.version());
+        assertEquals(Set.of("alice"), second.users().keySet());
+        assertEquals(2, views.userView(REPO, "alice").state().deepWorkCount());
+    }
+
+    @Test
+    void readAfterResyncWithoutEventIsNotStale() {
+        cache.put(REPO, List.of(issue(1, "alice", "deep-work")), NOW);
+        assertEquals(1, views.userView(REPO, "alice").state().deepWorkCount());
+
+        // A snapshot that arrives without IssuesSynced, as replicated snapshots do
+        store.put(REPO, List.of(issue(1, "alice", "quick-win"), issue(2, "alice", "quick-win")), NOW);
+
+        var user = views.userView(REPO, "alice");
+        assertEquals(0, user.state().deepWorkCount());
+        assertEquals(2, user.state().quickWinCount());
+        assertEquals(cache.getVersion(REPO), views.repoView(REPO).version());
+    }
+
+    @Test
+    void nonAssigneeIsServedButNotKept() {
+        cache.put(REPO, List.of(issue(1, "alice", "deep-work")), NOW);
+
+        var stranger = views.userView(REPO, "mallory");
+        assertNotNull(stranger);
+        assertEquals(0, stranger.state().totalAssigned());
+        assertEquals(Set.of("alice"), views.repoView(REPO).users().keySet());
+
+        cache.put(REPO, List.of(issue(1, "alice", "deep-work")), NOW);
+        assertFalse(views.repoView(REPO).users().containsKey("mallory"));
+    }
+
+    private static Issue issue(int number, String assignee, String... labels) {
+        return new Issue(number, "Issue " + number, "body",
+            Arrays.stream(labels).map(Issue.Label::new).toList(),
+            List.of(new Issue.Assignee(assignee)), NOW.minus(Duration.ofDays(1)), NOW.minus(Duration.ofDays(1)),
+            "open", null);
+    }
+}
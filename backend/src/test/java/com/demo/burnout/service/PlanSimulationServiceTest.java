@@ -0,0 +1,196 @@
+package com.demo.burnout.service;
+
+import com.demo.burnout.cache.IssueIndex;
+import com.demo.burnout.goap.GitHubAction;
+import com.demo.burnout.goap.GitHubMutationPlan;
+import com.demo.burnout.model.*;
+import com.demo.burnout.util.TimerWheel;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The incremental projection must match a full recompute over the mutated issues.
+ */
+class PlanSimulationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-13T15:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+    private static final String USER = "dev";
+    private static final List<String> LABELS = List.of(
+        "priority:critical", "priority:high", "architecture", "deep-work", "quick-win",
+        "good-first-issue", "size:S", "maintenance", "tech-debt", "documentation", "deferred",
+        "next-sprint", "backlog", "urgent", "bug", "enhancement", "epic", "demo:touched-today",
+        "demo:after-hours", "demo:stale-14d");
+
+    private final ChaosMetricsService chaosService = new ChaosMetricsService(CLOCK);
+    private final ComplianceService complianceService =
+        new ComplianceService(new IssueClassifierService(), CLOCK);
+    private final PlanSimulationService simulator =
+        new PlanSimulationService(chaosService, complianceService, CLOCK);
+
+    @Test
+    void emptyPlanProjectsCurrentState() {
+        List<Issue> issues = randomIssues(new Random(1), 60);
+
+        var projection = simulator.simulate(baseline(issues), GitHubMutationPlan.empty());
+
+        assertEquals(recompute(issues), projection.state());
+        assertEquals(chaosService.calculate(issues, CLOCK), projection.chaos());
+    }
+
+    @Test
+    void projectionMatchesFullRecompute() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            List<Issue> issues = randomIssues(random, 5 + random.nextInt(40));
+            GitHubMutationPlan plan = randomPlan(random, issues);
+
+            var projection = simulator.simulate(baseline(issues), plan);
+
+            List<Issue> mutated = new ArrayList<>(issues);
+            for (GitHubAction action : plan.actions()) {
+                for (int i = 0; i < mutated.size(); i++) {
+                    if (mutated.get(i).number() == action.issueNumber()) {
+                        mutated.set(i, PlanSimulationService.apply(mutated.get(i), action, NOW));
+                        break;
+                    }
+                }
+            }
+            assertEquals(mutated, projection.issues(), "round " + round);
+            assertEquals(chaosService.calculate(mutated, CLOCK), projection.chaos(), "round " + round);
+            ComplianceReport expected = complianceService.analyze(mutated, USER);
+            assertEquals(expected.complianceScore(), projection.compliance().complianceScore(), "round " + round);
+            assertEquals(expected.bucketCounts(), projection.compliance().bucketCounts(), "round " + round);
+            assertEquals(recompute(mutated), projection.state(), "round " + round);
+        }
+    }
+
+    @Test
+    void overlayLeavesSnapshotUntouched() {
+        List<Issue> issues = List.of(issue(1, "priority:critical"), issue(2, "priority:critical"));
+
+        var projection = simulator.simulate(baseline(issues), new GitHubMutationPlan("r", List.of(
+            new GitHubAction.RemoveLabels(2, List.of("PRIORITY:CRITICAL")),
+            new GitHubAction.AddLabels(2, List.of("deferred")),
+            new GitHubAction.Comment(99, "not in snapshot")
+        )));
+
+        assertEquals(List.of("priority:critical"), issues.get(1).labels().stream().map(Issue.Label::name).toList());
+        assertEquals(List.of("deferred"), projection.issues().get(1).labels().stream().map(Issue.Label::name).toList());
+        assertEquals(1, projection.state().deepWorkCount());
+        assertEquals(1, projection.state().deferredCount());
+    }
+
+    @Test
+    void advancingOnTimerWheelMatchesBaselineAtLaterInstant() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            List<Issue> issues = randomIssues(random, 5 + random.nextInt(60));
+            var repo = simulator.repoBaseline(issues, NOW);
+            var user = simulator.baseline(repo, USER);
+            IssueIndex index = repo.index();
+            TimerWheel timers = new TimerWheel(NOW.toEpochMilli());
+            for (int id = 0; id < index.size(); id++) {
+                timers.schedule(id, nextChange(index, id, NOW.toEpochMilli()));
+            }
+
+            Instant now = NOW;
+            for (int step = 0; step < 40 && timers.size() > 0; step++) {
+                // Land exactly on a threshold, just before one, or jump past several
+                long next = timers.nextDeadline();
+                now = Instant.ofEpochMilli(switch (random.nextInt(3)) {
+                    case 0 -> next;
+                    case 1 -> Math.max(now.toEpochMilli(), next - 1);
+                    default -> now.toEpochMilli() + random.nextInt(3 * 24 * 3600) * 1000L;
+                });
+                int[] fired = timers.advance(now.toEpochMilli());
+                for (int id : fired) {
+                    timers.schedule(id, nextChange(index, id, now.toEpochMilli()));
+                }
+                RoaringBitmap changed = RoaringBitmap.bitmapOf(fired);
+                repo = simulator.advance(repo, changed, now);
+                user = simulator.advance(user, repo, changed);
+
+                var expectedRepo = simulator.repoBaseline(issues, now);
+                var expectedUser = simulator.baseline(expectedRepo, USER);
+                Clock at = Clock.fixed(now, ZoneOffset.UTC);
+                assertEquals(chaosService.calculate(issues, at), simulator.chaos(repo), "round " + round + " at " + now);
+                assertEquals(expectedRepo.sharedWorld(), repo.sharedWorld(), "round " + round + " at " + now);
+                assertEquals(expectedUser.compliance(), user.compliance(), "round " + round + " at " + now);
+                assertEquals(expectedUser.world(), user.world(), "round " + round + " at " + now);
+            }
+        }
+    }
+
+    private long nextChange(IssueIndex index, int id, long afterMillis) {
+        return Math.min(chaosService.nextChange(index, id, afterMillis),
+            Math.min(complianceService.nextChange(index, id, afterMillis), WorldState.nextChange(index, id, afterMillis)));
+    }
+
+    private PlanSimulationService.Baseline baseline(List<Issue> issues) {
+        return simulator.baseline(simulator.repoBaseline(issues, NOW), USER);
+    }
+
+    private WorldState recompute(List<Issue> issues) {
+        ChaosMetrics chaos = chaosService.calculate(issues, CLOCK);
+        return WorldState.from(issues, USER, chaos, complianceService.analyze(issues, USER), CLOCK);
+    }
+
+    private static GitHubMutationPlan randomPlan(Random random, List<Issue> issues) {
+        List<GitHubAction> actions = new ArrayList<>();
+        int n = random.nextInt(8);
+        for (int i = 0; i < n; i++) {
+            int number = random.nextInt(10) == 0 ? 999 : issues.get(random.nextInt(issues.size())).number();
+            actions.add(switch (random.nextInt(3)) {
+                case 0 -> new GitHubAction.AddLabels(number, List.of(LABELS.get(random.nextInt(LABELS.size()))));
+                case 1 -> new GitHubAction.RemoveLabels(number, List.of(LABELS.get(random.nextInt(LABELS.size()))));
+                default -> new GitHubAction.Comment(number, "note");
+            });
+        }
+        return new GitHubMutationPlan("test/repo", actions);
+    }
+
+    private static List<Issue> randomIssues(Random random, int count) {
+        List<Issue> issues = new ArrayList<>();
+        for (int n = 1; n <= count; n++) {
+            List<Issue.Label> labels = new ArrayList<>();
+            int labelCount = random.nextInt(4);
+            for (int l = 0; l < labelCount; l++) {
+                labels.add(new Issue.Label(LABELS.get(random.nextInt(LABELS.size()))));
+            }
+            List<Issue.Assignee> assignees = switch (random.nextInt(4)) {
+                case 0 -> List.of();
+                case 1 -> List.of(new Issue.Assignee("other"));
+                case 2 -> List.of(new Issue.Assignee("Dev"));
+                default -> List.of(new Issue.Assignee(USER));
+            };
+            String body = switch (random.nextInt(3)) {
+                case 0 -> null;
+                case 1 -> "short - [ ] task";
+                default -> "x".repeat(600);
+            };
+            Instant created = NOW.minus(Duration.ofHours(random.nextInt(24 * 30)));
+            Instant updated = NOW.minus(Duration.ofMinutes(random.nextInt(60 * 24 * 20)));
+            issues.add(new Issue(n, "Issue " + n, body, labels, assignees, created, updated,
+                random.nextInt(8) == 0 ? "closed" : "open", null));
+        }
+        return issues;
+    }
+
+    private static Issue issue(int number, String... labels) {
+        return new Issue(number, "Issue " + number, "body",
+            java.util.Arrays.stream(labels).map(Issue.Label::new).toList(),
+            List.of(new Issue.Assignee(USER)), NOW.minus(Duration.ofDays(1)), NOW.minus(Duration.ofDays(1)),
+            "open", null);
+    }
+}
@@ -0,0 +1,75 @@
+package com.demo.burnout.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The wheel must fire exactly what a flat list of deadlines would, whatever the jump sizes,
+ * and {@code peek} must announce exactly what the following advance fires.
+ */
+class TimerWheelTest {
+
+    private static final long START = 1_773_410_400_000L;
+
+    @Test
+    void firesExactlyTheDueDeadlines() {
+        Random random = new Random(11);
+        for (int round = 0; round < 50; round++) {
+            TimerWheel wheel = new TimerWheel(START);
+            List<long[]> pending = new ArrayList<>();
+            long now = START;
+            long wheelTime = START;
+            int nextId = 0;
+            for (int step = 0; step < 300; step++) {
+                for (int k = random.nextInt(5); k > 0; k--) {
+                    // Deadlines from already due to years ahead, so every level is used
+                    long deadline = now - 1000 + (long) Math.pow(10, random.nextDouble() * 11);
+                    wheel.schedule(nextId, deadline);
+                    pending.add(new long[] {nextId++, deadline});
+                }
+                now = switch (random.nextInt(4)) {
+                    case 0 -> wheel.nextDeadline() == TimerWheel.NEVER ? now : Math.max(now, wheel.nextDeadline());
+                    case 1 -> now - random.nextInt(1000);
+                    default -> now + (long) Math.pow(10, random.nextDouble() * 10);
+                };
+
+                int[] peeked = wheel.peek(now);
+                int[] fired = wheel.advance(now);
+
+                wheelTime = Math.max(wheelTime, now);
+                List<Integer> expected = new ArrayList<>();
+                long earliest = TimerWheel.NEVER;
+                for (var it = pending.iterator(); it.hasNext(); ) {
+                    long[] timer = it.next();
+                    if (timer[1] <= wheelTime) {
+                        expected.add((int) timer[0]);
+                        it.remove();
+                    } else {
+                        earliest = Math.min(earliest, timer[1]);
+                    }
+                }
+                Arrays.sort(peeked);
+                Arrays.sort(fired);
+                assertArrayEquals(fired, peeked, "peek agrees with advance, round " + round + " step " + step);
+                assertArrayEquals(expected.stream().sorted().mapToInt(Integer::intValue).toArray(), fired,
+                    "round " + round + " step " + step);
+                assertEquals(pending.size(), wheel.size());
+                assertEquals(earliest, wheel.nextDeadline());
+            }
+        }
+    }
+
+    @Test
+    void neverIsNotScheduled() {
+        TimerWheel wheel = new TimerWheel(START);
+        wheel.schedule(1, TimerWheel.NEVER);
+        assertEquals(0, wheel.size());
+        assertEquals(0, wheel.advance(Long.MAX_VALUE - 1).length);
+    }
+}